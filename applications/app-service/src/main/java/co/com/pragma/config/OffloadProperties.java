@@ -0,0 +1,16 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "adapter.offload")
+public record OffloadProperties(
+        @DefaultValue("VIRTUAL") Mode mode,
+        @DefaultValue("50") int maxThreads,
+        @DefaultValue("10000") int queuedTasks) {
+
+    public enum Mode {
+        VIRTUAL,
+        BOUNDED_ELASTIC
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.pragma.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Scheduler for CPU-heavy or blocking-prone stages (bean validation, JWT verification, long payment plans)
+ * so they never run on Netty or R2DBC event loops.
+ */
+@Configuration
+public class OffloadSchedulerConfig {
+
+    static final String THREAD_PREFIX = "offload";
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler offloadScheduler(OffloadProperties properties) {
+        return switch (properties.mode()) {
+            case VIRTUAL -> Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(THREAD_PREFIX + "-", 0).factory()), THREAD_PREFIX);
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(
+                    properties.maxThreads(), properties.queuedTasks(), THREAD_PREFIX);
+        };
+    }
+}
@@ -1,19 +1,30 @@
 package co.com.pragma.config;
 
+import co.com.pragma.model.application.gateways.ApplicationExportRepository;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.report.gateways.ReportRepository;
+import co.com.pragma.model.idempotency.gateways.IdempotencyKeyRepository;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.usecase.archiveapplications.ArchiveApplicationsUseCase;
+import co.com.pragma.usecase.bulkupdateapplicationstatus.BulkUpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.exportapprovedapplications.ExportApprovedApplicationsUseCase;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findarchivedapplication.FindArchivedApplicationUseCase;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.idempotentregisterrequest.IdempotentRegisterRequestUseCase;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
@@ -21,6 +32,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import reactor.core.scheduler.Scheduler;
 
 @Configuration
 @ComponentScan(basePackages = "co.com.pragma.usecase",
@@ -31,14 +43,50 @@ import org.springframework.context.annotation.FilterType;
 public class UseCasesConfig {
 
     @Bean
-    FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase(
+    ArchiveApplicationsUseCase archiveApplicationsUseCase(
+            StatusRepository statusRepository,
+            ArchivedApplicationRepository archivedApplicationRepository,
+            CustomLogger customLogger
+    ) {
+        return new ArchiveApplicationsUseCase(statusRepository, archivedApplicationRepository, customLogger);
+    }
+
+    @Bean
+    BulkUpdateApplicationStatusUseCase bulkUpdateApplicationStatusUseCase(
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
+            NotificationGateway notificationGateway,
+            ReportApprovedGateway reportApprovedGateway,
+            CustomLogger customLogger
+    ) {
+        return new BulkUpdateApplicationStatusUseCase(applicationRepository, statusRepository, notificationGateway,
+                reportApprovedGateway, customLogger);
+    }
+
+    @Bean
+    ExportApprovedApplicationsUseCase exportApprovedApplicationsUseCase(
+            ApplicationExportRepository applicationExportRepository,
+            CustomLogger customLogger
+    ) {
+        return new ExportApprovedApplicationsUseCase(applicationExportRepository, customLogger);
+    }
+
+    @Bean
+    FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase(
+            GenerateReportUseCase generateReportUseCase,
             ApplicationConfigurationProvider applicationConfigurationProvider,
             CustomLogger customLogger
     ) {
-        return new FindApprovedApplicationDailyUseCase(applicationRepository, statusRepository,
-                applicationConfigurationProvider, customLogger);
+        return new FindApprovedApplicationDailyUseCase(generateReportUseCase, applicationConfigurationProvider,
+                customLogger);
+    }
+
+    @Bean
+    FindArchivedApplicationUseCase findArchivedApplicationUseCase(
+            ArchivedApplicationRepository archivedApplicationRepository,
+            CustomLogger customLogger
+    ) {
+        return new FindArchivedApplicationUseCase(archivedApplicationRepository, customLogger);
     }
 
     @Bean
@@ -49,16 +97,28 @@ public class UseCasesConfig {
         return new FindLoanTypeByIdUseCase(loanTypeRepository, customLogger);
     }
 
+    @Bean
+    GenerateReportUseCase generateReportUseCase(
+            ReportRepository reportRepository,
+            StatusRepository statusRepository,
+            ApplicationConfigurationProvider applicationConfigurationProvider,
+            CustomLogger customLogger
+    ) {
+        return new GenerateReportUseCase(reportRepository, statusRepository, applicationConfigurationProvider,
+                customLogger);
+    }
+
     @Bean
     GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase(
             ApplicationRepository applicationRepository,
             StatusRepository statusRepository,
             LoanTypeRepository loanTypeRepository,
             AuthValidationGateway  authValidationGateway,
-            CustomLogger customLogger
+            CustomLogger customLogger,
+            MetricsGateway metricsGateway
     ) {
         return new GetApplicationsForAdvisorUseCase(applicationRepository, statusRepository, loanTypeRepository,
-                authValidationGateway, customLogger);
+                authValidationGateway, customLogger, metricsGateway);
     }
 
     @Bean
@@ -69,10 +129,13 @@ public class UseCasesConfig {
             NotificationGateway notificationGateway,
             PaymentPlanGenerator paymentPlanGenerator,
             ReportApprovedGateway reportApprovedGateway,
-            CustomLogger customLogger
+            CustomLogger customLogger,
+            MetricsGateway metricsGateway,
+            Scheduler offloadScheduler
     ) {
         return new ProcessApplicationDecisionUseCase(applicationRepository, statusRepository,loanTypeRepository,
-                notificationGateway, paymentPlanGenerator, reportApprovedGateway,customLogger);
+                notificationGateway, paymentPlanGenerator, reportApprovedGateway,customLogger, metricsGateway,
+                offloadScheduler);
     }
 
     @Bean
@@ -84,11 +147,23 @@ public class UseCasesConfig {
             AuthValidationGateway authValidationGateway,
             FindLoanTypeByIdUseCase findLoanTypeByIdUseCase,
             CreditAnalysisGateway creditAnalysisGateway,
-            CustomLogger customLogger
+            CustomLogger customLogger,
+            MetricsGateway metricsGateway
     ) {
         return new RegisterRequestUseCase(applicationRepository, statusRepository,loanTypeRepository,
                 transactionManager, authValidationGateway, findLoanTypeByIdUseCase, creditAnalysisGateway,
-                customLogger);
+                customLogger, metricsGateway);
+    }
+
+    @Bean
+    IdempotentRegisterRequestUseCase idempotentRegisterRequestUseCase(
+            RegisterRequestUseCase registerRequestUseCase,
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            ApplicationRepository applicationRepository,
+            CustomLogger customLogger
+    ) {
+        return new IdempotentRegisterRequestUseCase(registerRequestUseCase, idempotencyKeyRepository,
+                applicationRepository, customLogger);
     }
 
     @Bean
@@ -97,10 +172,11 @@ public class UseCasesConfig {
             StatusRepository statusRepository,
             NotificationGateway notificationGateway,
             ReportApprovedGateway reportApprovedGateway,
-            CustomLogger customLogger
+            CustomLogger customLogger,
+            MetricsGateway metricsGateway
     ) {
         return new UpdateApplicationStatusUseCase(applicationRepository, statusRepository,notificationGateway,
-                reportApprovedGateway, customLogger);
+                reportApprovedGateway, customLogger, metricsGateway);
     }
 
     @Bean
@@ -0,0 +1,60 @@
+package co.com.pragma.job;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.usecase.archiveapplications.ArchiveApplicationsUseCase;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(prefix = "jobs.archival", name = "enabled", havingValue = "true")
+public class ApplicationArchivalJob implements InitializingBean, DisposableBean {
+
+    private final ArchiveApplicationsUseCase archiveApplicationsUseCase;
+    private final CustomLogger customLogger;
+    private final int retentionMonths;
+    private final Duration interval;
+
+    private Disposable subscription;
+
+    public ApplicationArchivalJob(ArchiveApplicationsUseCase archiveApplicationsUseCase,
+                                  CustomLogger customLogger,
+                                  @Value("${jobs.archival.retention-months:6}") int retentionMonths,
+                                  @Value("${jobs.archival.interval:24h}") Duration interval) {
+        this.archiveApplicationsUseCase = archiveApplicationsUseCase;
+        this.customLogger = customLogger;
+        this.retentionMonths = retentionMonths;
+        this.interval = interval;
+    }
+
+    Mono<Long> run() {
+        return archiveApplicationsUseCase.archiveCreatedBefore(LocalDateTime.now().minusMonths(retentionMonths))
+                .doOnNext(archived -> customLogger.info("Archival job moved {} applications", archived))
+                .onErrorResume(error -> {
+                    customLogger.error("Archival job failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(interval, interval)
+                .concatMap(tick -> run())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
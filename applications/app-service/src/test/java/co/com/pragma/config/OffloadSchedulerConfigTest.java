@@ -0,0 +1,79 @@
+package co.com.pragma.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffloadSchedulerConfigTest {
+
+    private final OffloadSchedulerConfig config = new OffloadSchedulerConfig();
+
+    @Test
+    @DisplayName("Should run offloaded work on virtual threads by default")
+    void virtualModeUsesVirtualThreads() {
+        Scheduler scheduler = config.offloadScheduler(new OffloadProperties(OffloadProperties.Mode.VIRTUAL, 50, 10000));
+        try {
+            StepVerifier.create(Mono.fromCallable(Thread::currentThread).subscribeOn(scheduler))
+                    .assertNext(thread -> {
+                        assertTrue(thread.isVirtual());
+                        assertTrue(thread.getName().startsWith(OffloadSchedulerConfig.THREAD_PREFIX));
+                    })
+                    .verifyComplete();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run offloaded work on a bounded elastic pool when configured")
+    void boundedElasticModeUsesPlatformThreads() {
+        Scheduler scheduler = config.offloadScheduler(
+                new OffloadProperties(OffloadProperties.Mode.BOUNDED_ELASTIC, 2, 10));
+        try {
+            StepVerifier.create(Mono.fromCallable(Thread::currentThread).subscribeOn(scheduler))
+                    .assertNext(thread -> {
+                        assertFalse(thread.isVirtual());
+                        assertTrue(thread.getName().startsWith(OffloadSchedulerConfig.THREAD_PREFIX));
+                    })
+                    .verifyComplete();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("BlockHound rejects blocking calls on non-blocking threads")
+    void blockingOnEventLoopIsDetected() {
+        StepVerifier.create(Mono.fromCallable(this::block).subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Blocking calls offloaded from a non-blocking thread are allowed")
+    void blockingOffloadedFromEventLoopIsAllowed() {
+        for (OffloadProperties.Mode mode : OffloadProperties.Mode.values()) {
+            Scheduler scheduler = config.offloadScheduler(new OffloadProperties(mode, 2, 10));
+            try {
+                StepVerifier.create(Mono.defer(() -> Mono.fromCallable(this::block).subscribeOn(scheduler))
+                                .subscribeOn(Schedulers.parallel()))
+                        .expectNext(true)
+                        .verifyComplete();
+            } finally {
+                scheduler.dispose();
+            }
+        }
+    }
+
+    private boolean block() throws InterruptedException {
+        Thread.sleep(1);
+        return true;
+    }
+}
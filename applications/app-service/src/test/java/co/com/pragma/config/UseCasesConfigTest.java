@@ -1,28 +1,49 @@
 package co.com.pragma.config;
 
+import co.com.pragma.model.application.gateways.ApplicationExportRepository;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.gateways.TransactionManager;
+import co.com.pragma.model.idempotency.gateways.IdempotencyKeyRepository;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.report.gateways.ReportRepository;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.usecase.archiveapplications.ArchiveApplicationsUseCase;
+import co.com.pragma.usecase.bulkupdateapplicationstatus.BulkUpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.exportapprovedapplications.ExportApprovedApplicationsUseCase;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findarchivedapplication.FindArchivedApplicationUseCase;
 import co.com.pragma.usecase.findloantypebyid.FindLoanTypeByIdUseCase;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.idempotentregisterrequest.IdempotentRegisterRequestUseCase;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.javapoet.ClassName;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
 
@@ -39,7 +60,35 @@ public class UseCasesConfigTest {
             assertNotNull(context.getBean(GetApplicationsForAdvisorUseCase.class));
             assertNotNull(context.getBean(ProcessApplicationDecisionUseCase.class));
             assertNotNull(context.getBean(RegisterRequestUseCase.class));
+            assertNotNull(context.getBean(IdempotentRegisterRequestUseCase.class));
             assertNotNull(context.getBean(UpdateApplicationStatusUseCase.class));
+            assertNotNull(context.getBean(BulkUpdateApplicationStatusUseCase.class));
+            assertNotNull(context.getBean(ArchiveApplicationsUseCase.class));
+            assertNotNull(context.getBean(FindArchivedApplicationUseCase.class));
+            assertNotNull(context.getBean(ExportApprovedApplicationsUseCase.class));
+            assertNotNull(context.getBean(GenerateReportUseCase.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve all UseCase beans during AOT processing for the native image")
+    void testUseCaseBeansResolvedAheadOfTime() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(TestConfig.class);
+            DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                    new ClassNameGenerator(ClassName.get(TestConfig.class)), new InMemoryGeneratedFiles());
+
+            new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+
+            Stream.of(FindApprovedApplicationDailyUseCase.class, FindLoanTypeByIdUseCase.class,
+                            GetApplicationsForAdvisorUseCase.class, ProcessApplicationDecisionUseCase.class,
+                            RegisterRequestUseCase.class, IdempotentRegisterRequestUseCase.class,
+                            UpdateApplicationStatusUseCase.class, BulkUpdateApplicationStatusUseCase.class,
+                            ArchiveApplicationsUseCase.class, FindArchivedApplicationUseCase.class,
+                            ExportApprovedApplicationsUseCase.class, GenerateReportUseCase.class)
+                    .forEach(type -> assertEquals(1,
+                            context.getBeanFactory().getBeanNamesForType(type, true, false).length,
+                            type::getSimpleName));
         }
     }
 
@@ -49,6 +98,12 @@ public class UseCasesConfigTest {
         @Bean
         ApplicationRepository userRepository() { return mock(ApplicationRepository.class); }
         @Bean
+        ArchivedApplicationRepository archivedApplicationRepository() {
+            return mock(ArchivedApplicationRepository.class); }
+        @Bean
+        ApplicationExportRepository applicationExportRepository() {
+            return mock(ApplicationExportRepository.class); }
+        @Bean
         LoanTypeRepository loanTypeRepository() { return mock(LoanTypeRepository.class); }
         @Bean
         StatusRepository statusRepository() { return mock(StatusRepository.class); }
@@ -59,8 +114,16 @@ public class UseCasesConfigTest {
         @Bean
         CustomLogger customLogger() { return mock(CustomLogger.class); }
         @Bean
+        IdempotencyKeyRepository idempotencyKeyRepository() { return mock(IdempotencyKeyRepository.class); }
+        @Bean
+        MetricsGateway metricsGateway() { return mock(MetricsGateway.class); }
+        @Bean
+        Scheduler offloadScheduler() { return Schedulers.immediate(); }
+        @Bean
         NotificationGateway notificationGateway() { return mock(NotificationGateway.class); }
         @Bean
+        ReportRepository reportRepository() { return mock(ReportRepository.class); }
+        @Bean
         ReportApprovedGateway reportApprovedGateway() { return mock(ReportApprovedGateway.class); }
         @Bean
         CreditAnalysisGateway creditAnalysisGateway() { return mock(CreditAnalysisGateway.class); }
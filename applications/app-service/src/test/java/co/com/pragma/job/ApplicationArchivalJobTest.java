@@ -0,0 +1,64 @@
+package co.com.pragma.job;
+
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.usecase.archiveapplications.ArchiveApplicationsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationArchivalJobTest {
+
+    @Mock
+    private ArchiveApplicationsUseCase archiveApplicationsUseCase;
+
+    @Mock
+    private CustomLogger customLogger;
+
+    private ApplicationArchivalJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ApplicationArchivalJob(archiveApplicationsUseCase, customLogger, 6, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Should archive applications older than the retention period")
+    void shouldArchiveOlderThanRetention() {
+        LocalDateTime lowerBound = LocalDateTime.now().minusMonths(6).minusMinutes(1);
+        when(archiveApplicationsUseCase.archiveCreatedBefore(any())).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(job.run())
+                .expectNext(10L)
+                .verifyComplete();
+
+        verify(archiveApplicationsUseCase).archiveCreatedBefore(argThat(cutoff ->
+                cutoff.isAfter(lowerBound) && cutoff.isBefore(LocalDateTime.now().minusMonths(6).plusMinutes(1))));
+        verify(customLogger).info("Archival job moved {} applications", 10L);
+    }
+
+    @Test
+    @DisplayName("Should log and complete when archival fails")
+    void shouldCompleteWhenArchivalFails() {
+        when(archiveApplicationsUseCase.archiveCreatedBefore(any()))
+                .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        StepVerifier.create(job.run())
+                .verifyComplete();
+
+        verify(customLogger).error("Archival job failed: {}", "DB error");
+    }
+}
@@ -0,0 +1,43 @@
+#!/usr/bin/env sh
+# Starts the JVM jar and the native binary one after the other against the same environment and reports,
+# for each, the startup time logged by Spring Boot and the resident set size once the health check is UP.
+#
+# Build both first:
+#   ./gradlew :app-service:bootJar
+#   ./gradlew :app-service:nativeCompile -Pnative
+# then run with the usual DB/SQS/JWT environment variables exported:
+#   deployment/compare-startup.sh
+set -eu
+
+JAR=${JAR:-applications/app-service/build/libs/request-service.jar}
+NATIVE=${NATIVE:-applications/app-service/build/native/nativeCompile/request-service}
+PORT=${PORT:-8080}
+HEALTH_URL=${HEALTH_URL:-http://localhost:${PORT}/request/actuator/health}
+PROFILE=${SPRING_PROFILES_ACTIVE:-prod}
+
+measure() {
+  name=$1
+  shift
+  log=$(mktemp)
+  "$@" --spring.profiles.active="$PROFILE" --server.port="$PORT" > "$log" 2>&1 &
+  pid=$!
+  tries=0
+  until curl -fs "$HEALTH_URL" > /dev/null 2>&1; do
+    tries=$((tries + 1))
+    if [ "$tries" -gt 600 ] || ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name did not become healthy, see $log" >&2
+      kill "$pid" 2> /dev/null || true
+      return 1
+    fi
+    sleep 0.1
+  done
+  started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds (process running for [0-9.]*)' "$log" | head -n 1)
+  rss=$(awk '/VmRSS/ {print $2 " " $3}' "/proc/$pid/status")
+  printf '%-7s | %s | RSS %s\n' "$name" "$started" "$rss"
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  rm -f "$log"
+}
+
+measure jvm java ${JAVA_OPTS:-} -jar "$JAR"
+measure native "$NATIVE"
@@ -0,0 +1,19 @@
+package co.com.pragma.model.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationStatusUpdate {
+    private UUID idApplication;
+    private String status;
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.model.application;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ApplicationStatusUpdateResult {
+    private UUID idApplication;
+    private String status;
+    private boolean updated;
+    private String message;
+}
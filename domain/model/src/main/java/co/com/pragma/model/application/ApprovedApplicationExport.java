@@ -0,0 +1,21 @@
+package co.com.pragma.model.application;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ApprovedApplicationExport {
+    private UUID id;
+    private Double amount;
+    private Integer term;
+    private String email;
+    private String idDocument;
+    private String loanTypeName;
+    private String statusName;
+    private LocalDateTime createdAt;
+    private LocalDateTime approvedAt;
+}
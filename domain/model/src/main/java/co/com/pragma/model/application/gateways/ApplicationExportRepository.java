@@ -0,0 +1,15 @@
+package co.com.pragma.model.application.gateways;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ApplicationExportRepository {
+    Mono<LocalDateTime> findApprovedAt(UUID id, LocalDateTime start, LocalDateTime end);
+
+    Flux<ApprovedApplicationExport> findApprovedBetween(LocalDateTime start, LocalDateTime end,
+                                                        LocalDateTime afterApprovedAt, UUID afterId);
+}
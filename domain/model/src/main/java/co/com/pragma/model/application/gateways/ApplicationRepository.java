@@ -14,6 +14,11 @@ import java.util.UUID;
 public interface ApplicationRepository {
     Mono<Application> save(Application application);
     Mono<Application> findById(UUID id);
+    Flux<Application> findByIds(List<UUID> ids);
+    Mono<Application> updateStatusIfCurrent(UUID id, List<UUID> expectedStatusIds, UUID newStatusId,
+                                            LocalDateTime updatedAt, LocalDateTime approvedAt);
+    Flux<Application> updateStatuses(List<Application> applications, List<UUID> expectedStatusIds,
+                                     LocalDateTime updatedAt);
     Mono<CustomPage<Application>> findByIdStatusIn(List<UUID> statusIds, CustomPageable pageable);
     Flux<Application> findByIdUserAndIdStatus(UUID userId, UUID statusId);
     Flux<Application> findActiveLoansByIdUser(UUID userId);
@@ -0,0 +1,19 @@
+package co.com.pragma.model.application.gateways;
+
+import co.com.pragma.model.application.Application;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedApplicationRepository {
+    Mono<Long> archive(List<UUID> statusIds, LocalDateTime createdBefore, int batchSize);
+    /**
+     * Drops the closed-application partitions that end before {@code createdBefore} and hold no rows.
+     *
+     * @return the number of partitions dropped
+     */
+    Mono<Integer> dropArchivedPartitions(LocalDateTime createdBefore);
+    Mono<Application> findById(UUID id);
+}
@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class ConcurrentUpdateException extends DomainException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package co.com.pragma.model.exception;
+
+/**
+ * Base for expected business failures. They are mapped straight to an HTTP status, so filling in
+ * a stack trace (the dominant cost of throwing) buys nothing.
+ */
+public abstract class DomainException extends RuntimeException {
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
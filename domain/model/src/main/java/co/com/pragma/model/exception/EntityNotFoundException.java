@@ -1,6 +1,6 @@
 package co.com.pragma.model.exception;
 
-public class EntityNotFoundException extends RuntimeException {
+public class EntityNotFoundException extends DomainException {
     public EntityNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class IdempotencyKeyMismatchException extends DomainException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package co.com.pragma.model.exception;
 
-public class InvalidAmountException extends RuntimeException {
+public class InvalidAmountException extends DomainException {
     public InvalidAmountException(String message) {
         super(message);
     }
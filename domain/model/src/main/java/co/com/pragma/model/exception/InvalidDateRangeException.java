@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidDateRangeException extends DomainException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidExportCursorException extends DomainException {
+    public InvalidExportCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.pragma.model.exception;
+
+public class InvalidSortFieldException extends DomainException {
+    public InvalidSortFieldException(String message) {
+        super(message);
+    }
+}
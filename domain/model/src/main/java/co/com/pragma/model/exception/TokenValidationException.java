@@ -1,6 +1,6 @@
 package co.com.pragma.model.exception;
 
-public class TokenValidationException extends RuntimeException {
+public class TokenValidationException extends DomainException {
     public TokenValidationException(String message) {
         super(message);
     }
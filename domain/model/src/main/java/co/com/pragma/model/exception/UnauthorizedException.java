@@ -1,6 +1,6 @@
 package co.com.pragma.model.exception;
 
-public class UnauthorizedException extends RuntimeException {
+public class UnauthorizedException extends DomainException {
     public UnauthorizedException(String message) {
         super(message);
     }
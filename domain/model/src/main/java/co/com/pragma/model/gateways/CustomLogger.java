@@ -1,8 +1,39 @@
 package co.com.pragma.model.gateways;
 
+import java.util.function.Supplier;
+
 public interface CustomLogger {
     void trace(String message, Object ... args);
     void info(String message, Object ... args);
     void warn(String message, Object ... args);
     void error(String message, Object ... args);
+
+    // Fixed-arity overloads skip the varargs array; all trace variants are no-ops when TRACE is off
+    void trace(String message, Object arg);
+    void trace(String message, Object arg1, Object arg2);
+    void trace(Supplier<String> message);
+    boolean isTraceEnabled();
+
+    /**
+     * Structured event builders; return {@link Event#NOOP} when the level is disabled so nothing is allocated.
+     */
+    Event atTrace();
+    Event atInfo();
+
+    interface Event {
+        Event NOOP = new Event() {
+            @Override
+            public Event field(String key, Object value) {
+                return this;
+            }
+
+            @Override
+            public void log(String message) {
+                // level disabled
+            }
+        };
+
+        Event field(String key, Object value);
+        void log(String message);
+    }
 }
@@ -0,0 +1,12 @@
+package co.com.pragma.model.gateways;
+
+/**
+ * Queue depth of a shared downstream resource, read by the entry points to shed load early.
+ */
+public interface LoadSignal {
+    String DB = "db";
+    String AUTH = "auth";
+
+    String name();
+    int pending();
+}
@@ -0,0 +1,14 @@
+package co.com.pragma.model.gateways;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface MetricsGateway {
+    String DB = "db";
+    String AUTH = "auth";
+    String SQS = "sqs";
+
+    <T> Mono<T> timeUseCase(String useCase, Mono<T> execution);
+    <T> Mono<T> timeCall(String useCase, String dependency, Mono<T> call);
+    <T> Flux<T> timeCalls(String useCase, String dependency, Flux<T> calls);
+}
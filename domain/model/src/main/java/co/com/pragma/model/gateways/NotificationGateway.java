@@ -2,9 +2,20 @@ package co.com.pragma.model.gateways;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 public interface NotificationGateway {
     Mono<Void> sendDecisionNotification(Application application, String status);
+
+    /**
+     * Emits the ids of the applications whose notification could not be delivered; completes empty when all were.
+     */
+    Flux<UUID> sendDecisionNotifications(List<Application> applications, Map<UUID, String> statusByApplicationId);
+
     Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload creditAnalysisResponsePayload);
 }
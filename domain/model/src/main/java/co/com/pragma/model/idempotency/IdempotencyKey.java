@@ -0,0 +1,13 @@
+package co.com.pragma.model.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+public class IdempotencyKey {
+    private String requestFingerprint;
+    private UUID idApplication;
+}
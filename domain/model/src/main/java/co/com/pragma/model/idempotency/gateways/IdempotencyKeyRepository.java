@@ -0,0 +1,23 @@
+package co.com.pragma.model.idempotency.gateways;
+
+import co.com.pragma.model.idempotency.IdempotencyKey;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository {
+    /**
+     * Claims the key for its owner and request under {@code reservationToken}; also reclaims a reservation whose
+     * lease expired before its attempt completed.
+     *
+     * @return true when this call holds the key and must run the request
+     */
+    Mono<Boolean> reserve(String owner, String key, String requestFingerprint, UUID reservationToken);
+    Mono<IdempotencyKey> findByKey(String owner, String key);
+
+    /**
+     * @return true when the reservation was still held by {@code reservationToken} and now points to the application
+     */
+    Mono<Boolean> complete(String owner, String key, UUID reservationToken, UUID applicationId);
+    Mono<Void> release(String owner, String key, UUID reservationToken);
+}
@@ -0,0 +1,15 @@
+package co.com.pragma.model.pagination;
+
+import lombok.Builder;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+
+/**
+ * A page whose rows are emitted as they resolve. {@code page} carries the metadata only, with empty content.
+ */
+@Getter
+@Builder
+public class CustomPageStream<T> {
+    private Flux<T> content;
+    private CustomPage<T> page;
+}
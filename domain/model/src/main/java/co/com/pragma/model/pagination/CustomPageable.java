@@ -8,6 +8,6 @@ import lombok.Getter;
 public class CustomPageable {
     private int page;
     private int size;
-    private String sortBy;
+    private SortField sortBy;
     private String sortDirection;
 }
@@ -0,0 +1,36 @@
+package co.com.pragma.model.pagination;
+
+import co.com.pragma.model.exception.InvalidSortFieldException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sortable fields of the advisor listing. Each one is backed by an (id_status, field, id) index,
+ * and {@link #TIE_BREAKER} keeps the order stable between pages.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SortField {
+    AMOUNT("amount"),
+    TERM("term"),
+    CREATED_AT("createdAt");
+
+    public static final String TIE_BREAKER = "id";
+
+    private final String key;
+
+    public static SortField fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new InvalidSortFieldException(
+                        "Unsupported sort field: " + key + ". Allowed values: " + allowedKeys()));
+    }
+
+    public static List<String> allowedKeys() {
+        return Arrays.stream(values()).map(SortField::getKey).toList();
+    }
+}
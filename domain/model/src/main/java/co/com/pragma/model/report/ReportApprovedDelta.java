@@ -0,0 +1,19 @@
+package co.com.pragma.model.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportApprovedDelta {
+    private UUID deltaId;
+    private String state;
+    private Long approvedCount;
+    private Double totalAmount;
+}
@@ -0,0 +1,16 @@
+package co.com.pragma.model.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReportBucket {
+    private LocalDateTime periodStart;
+    private String loanTypeName;
+    private String statusName;
+    private long applicationsCount;
+    private Double totalAmount;
+}
@@ -0,0 +1,20 @@
+package co.com.pragma.model.report;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+public class ReportCriteria {
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private ReportGranularity granularity;
+    private ReportDateField dateField;
+    private List<String> statusNames;
+    private List<ReportDimension> groupBy;
+}
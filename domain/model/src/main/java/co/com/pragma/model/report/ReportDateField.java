@@ -0,0 +1,22 @@
+package co.com.pragma.model.report;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportDateField {
+    CREATED_AT("createdAt"),
+    APPROVED_AT("approvedAt");
+
+    private final String key;
+
+    public static ReportDateField fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported date field: " + key));
+    }
+}
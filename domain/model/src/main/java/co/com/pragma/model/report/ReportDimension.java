@@ -0,0 +1,22 @@
+package co.com.pragma.model.report;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportDimension {
+    LOAN_TYPE("loanType"),
+    STATUS("status");
+
+    private final String key;
+
+    public static ReportDimension fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported dimension: " + key));
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.pragma.model.report;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportGranularity {
+    HOUR("hour"),
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String key;
+
+    public static ReportGranularity fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(granularity -> granularity.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported granularity: " + key));
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.pragma.model.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class TimeSeriesReport {
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private ReportGranularity granularity;
+    private ReportDateField dateField;
+    private List<String> statusNames;
+    private List<ReportDimension> groupBy;
+    private List<ReportBucket> buckets;
+}
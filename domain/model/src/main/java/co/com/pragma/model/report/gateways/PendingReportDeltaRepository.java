@@ -0,0 +1,10 @@
+package co.com.pragma.model.report.gateways;
+
+import co.com.pragma.model.report.ReportApprovedDelta;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PendingReportDeltaRepository {
+    Mono<Void> save(ReportApprovedDelta delta);
+    Flux<ReportApprovedDelta> takeAll();
+}
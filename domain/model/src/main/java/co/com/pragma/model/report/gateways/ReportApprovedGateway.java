@@ -3,6 +3,9 @@ package co.com.pragma.model.report.gateways;
 import co.com.pragma.model.application.Application;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ReportApprovedGateway {
     Mono<Void> sendReportApprovedCount(Application application, String status);
+    Mono<Void> sendReportApprovedCounts(List<Application> applications, String status);
 }
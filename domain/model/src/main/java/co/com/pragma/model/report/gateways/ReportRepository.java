@@ -0,0 +1,12 @@
+package co.com.pragma.model.report.gateways;
+
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReportRepository {
+    Flux<ReportBucket> aggregate(ReportCriteria criteria, List<UUID> statusIds);
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -13,6 +14,9 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class Status {
+    // Statuses an advisor can still act on
+    public static final List<String> REVIEWABLE_STATUS_NAMES = List.of("Pending Review", "Rejected", "Manual Review");
+
     private UUID id;
     private String name;
     private String description;
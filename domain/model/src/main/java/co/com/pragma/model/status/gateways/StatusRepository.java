@@ -12,4 +12,5 @@ public interface StatusRepository {
     Mono<Status> findByName(String name);
     Mono<Status> findByNameIgnoreCase(String name);
     Flux<Status> findByNames(List<String> names);
+    Flux<Status> findByNamesIgnoreCase(List<String> names);
 }
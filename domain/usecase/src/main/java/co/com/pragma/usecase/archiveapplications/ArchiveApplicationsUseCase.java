@@ -0,0 +1,49 @@
+package co.com.pragma.usecase.archiveapplications;
+
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ArchiveApplicationsUseCase {
+
+    private static final List<String> CLOSED_STATUS_NAMES = List.of("Rejected");
+    private static final int BATCH_SIZE = 500;
+
+    private final StatusRepository statusRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final CustomLogger customLogger;
+
+    public Mono<Long> archiveCreatedBefore(LocalDateTime cutoff) {
+        customLogger.trace("Archiving closed applications created before: {}", cutoff);
+        return statusRepository.findByNames(CLOSED_STATUS_NAMES)
+                .map(Status::getId)
+                .collectList()
+                .filter(statusIds -> !statusIds.isEmpty())
+                .flatMap(statusIds -> archiveInBatches(statusIds, cutoff))
+                .defaultIfEmpty(0L)
+                .doOnSuccess(archived -> customLogger.trace("Archived {} applications created before: {}",
+                        archived, cutoff))
+                .doOnError(error -> customLogger.trace("Error archiving applications created before: {}, error: {}",
+                        cutoff, error.getMessage()));
+    }
+
+    private Mono<Long> archiveInBatches(List<UUID> statusIds, LocalDateTime cutoff) {
+        return archivedApplicationRepository.archive(statusIds, cutoff, BATCH_SIZE)
+                .expand(archived -> archived < BATCH_SIZE
+                        ? Mono.empty()
+                        : archivedApplicationRepository.archive(statusIds, cutoff, BATCH_SIZE))
+                .reduce(0L, Long::sum)
+                // Months emptied by this and earlier runs are dropped, so id lookups probe a bounded number of them
+                .flatMap(archived -> archivedApplicationRepository.dropArchivedPartitions(cutoff)
+                        .doOnNext(dropped -> customLogger.trace("Dropped {} archived partitions", dropped))
+                        .thenReturn(archived));
+    }
+}
@@ -0,0 +1,197 @@
+package co.com.pragma.usecase.bulkupdateapplicationstatus;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationStatusUpdate;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class BulkUpdateApplicationStatusUseCase {
+
+    private final ApplicationRepository applicationRepository;
+    private final StatusRepository statusRepository;
+    private final NotificationGateway notificationGateway;
+    private final ReportApprovedGateway reportApprovedGateway;
+    private final CustomLogger customLogger;
+
+    private static final String APPROVED_STATUS_NAME = "Approved";
+    private static final String NOTIFICATION_FAILED_MESSAGE = "Status updated but the decision notification could not be sent";
+
+    public Flux<ApplicationStatusUpdateResult> updateStatuses(List<ApplicationStatusUpdate> updates) {
+        customLogger.info("Starting bulk status update for {} applications", updates.size());
+
+        List<String> statusNames = Stream.concat(
+                        updates.stream().map(ApplicationStatusUpdate::getStatus),
+                        Status.REVIEWABLE_STATUS_NAMES.stream())
+                .map(this::normalize)
+                .distinct()
+                .toList();
+        List<UUID> applicationIds = updates.stream()
+                .map(ApplicationStatusUpdate::getIdApplication)
+                .distinct()
+                .toList();
+
+        return Mono.zip(
+                        statusRepository.findByNamesIgnoreCase(statusNames)
+                                .collectMap(status -> normalize(status.getName())),
+                        applicationRepository.findByIds(applicationIds)
+                                .collectMap(Application::getId)
+                )
+                .flatMapMany(tuple -> applyUpdates(updates, tuple.getT1(), tuple.getT2()))
+                .doOnComplete(() -> customLogger.trace("Bulk status update finished for {} applications", updates.size()))
+                .doOnError(error -> customLogger.trace("Bulk status update failed: {}", error.getMessage()));
+    }
+
+    private Flux<ApplicationStatusUpdateResult> applyUpdates(List<ApplicationStatusUpdate> updates,
+                                                             Map<String, Status> statuses,
+                                                             Map<UUID, Application> applications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> reviewableStatusIds = Status.REVIEWABLE_STATUS_NAMES.stream()
+                .map(name -> statuses.get(normalize(name)))
+                .filter(Objects::nonNull)
+                .map(Status::getId)
+                .toList();
+        Map<UUID, ApplicationStatusUpdateResult> rejected = new HashMap<>();
+        Map<UUID, Status> targetStatuses = new LinkedHashMap<>();
+        List<Application> toUpdate = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+
+        for (ApplicationStatusUpdate update : updates) {
+            UUID id = update.getIdApplication();
+            if (!seen.add(id)) {
+                continue;
+            }
+            Status status = statuses.get(normalize(update.getStatus()));
+            Application application = applications.get(id);
+            if (status == null) {
+                rejected.put(id, failure(update, "Invalid status: " + update.getStatus()));
+            } else if (application == null) {
+                rejected.put(id, failure(update, "Application not found"));
+            } else if (!reviewableStatusIds.contains(application.getIdStatus())) {
+                rejected.put(id, failure(update, "Application is not in a reviewable status"));
+            } else {
+                targetStatuses.put(id, status);
+                toUpdate.add(application.toBuilder()
+                        .idStatus(status.getId())
+                        .updatedAt(now)
+                        .approvedAt(isApproved(status) ? now : null)
+                        .build());
+            }
+        }
+
+        if (toUpdate.isEmpty()) {
+            return Flux.fromIterable(buildResults(updates, rejected, targetStatuses, Map.of(), Set.of()));
+        }
+
+        return applicationRepository.updateStatuses(toUpdate, reviewableStatusIds, now)
+                .collectMap(Application::getId)
+                .flatMapMany(updated -> notifyUpdated(updated, targetStatuses)
+                        .flatMapIterable(undelivered -> buildResults(updates, rejected, targetStatuses, updated, undelivered)));
+    }
+
+    /**
+     * The status change is already committed when this runs, so delivery failures are reported per application
+     * instead of failing the whole request. Emits the ids whose decision notification was not delivered.
+     */
+    private Mono<Set<UUID>> notifyUpdated(Map<UUID, Application> updated, Map<UUID, Status> targetStatuses) {
+        if (updated.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        List<Application> updatedApplications = new ArrayList<>(updated.values());
+        Map<UUID, String> statusNames = new HashMap<>();
+        List<Application> approved = new ArrayList<>();
+        for (Application application : updatedApplications) {
+            Status status = targetStatuses.get(application.getId());
+            statusNames.put(application.getId(), status.getName());
+            if (isApproved(status)) {
+                approved.add(application);
+            }
+        }
+
+        return notificationGateway.sendDecisionNotifications(updatedApplications, statusNames)
+                .onErrorResume(error -> {
+                    customLogger.warn("Decision notifications failed for {} updated applications: {}",
+                            updatedApplications.size(), error.getMessage());
+                    return Flux.fromIterable(updated.keySet());
+                })
+                .collect(Collectors.toUnmodifiableSet())
+                .flatMap(undelivered -> (approved.isEmpty()
+                        ? Mono.<Void>empty()
+                        : reportApprovedGateway.sendReportApprovedCounts(approved, APPROVED_STATUS_NAME)
+                                .onErrorResume(error -> {
+                                    customLogger.error("Report counts lost for {} approved applications: {}",
+                                            approved.size(), error.getMessage());
+                                    return Mono.empty();
+                                }))
+                        .then(Mono.fromRunnable(() -> customLogger.trace(
+                                "Notification + reporting events sent for {} applications, {} undelivered",
+                                updatedApplications.size(), undelivered.size())))
+                        .thenReturn(undelivered));
+    }
+
+    private List<ApplicationStatusUpdateResult> buildResults(List<ApplicationStatusUpdate> updates,
+                                                             Map<UUID, ApplicationStatusUpdateResult> rejected,
+                                                             Map<UUID, Status> targetStatuses,
+                                                             Map<UUID, Application> updated,
+                                                             Set<UUID> undelivered) {
+        List<ApplicationStatusUpdateResult> results = new ArrayList<>(updates.size());
+        Set<UUID> reported = new HashSet<>();
+        for (ApplicationStatusUpdate update : updates) {
+            UUID id = update.getIdApplication();
+            if (!reported.add(id)) {
+                results.add(failure(update, "Duplicate application in request"));
+            } else if (rejected.containsKey(id)) {
+                results.add(rejected.get(id));
+            } else if (updated.containsKey(id)) {
+                results.add(ApplicationStatusUpdateResult.builder()
+                        .idApplication(id)
+                        .status(targetStatuses.get(id).getName())
+                        .updated(true)
+                        .message(undelivered.contains(id) ? NOTIFICATION_FAILED_MESSAGE : null)
+                        .build());
+            } else {
+                results.add(failure(update, "Application was modified concurrently"));
+            }
+        }
+        return results;
+    }
+
+    private ApplicationStatusUpdateResult failure(ApplicationStatusUpdate update, String message) {
+        return ApplicationStatusUpdateResult.builder()
+                .idApplication(update.getIdApplication())
+                .status(update.getStatus())
+                .updated(false)
+                .message(message)
+                .build();
+    }
+
+    private boolean isApproved(Status status) {
+        return APPROVED_STATUS_NAME.equalsIgnoreCase(status.getName());
+    }
+
+    private String normalize(String statusName) {
+        return statusName.toLowerCase(Locale.ROOT);
+    }
+}
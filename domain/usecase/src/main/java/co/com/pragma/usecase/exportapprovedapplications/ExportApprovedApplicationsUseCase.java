@@ -0,0 +1,45 @@
+package co.com.pragma.usecase.exportapprovedapplications;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import co.com.pragma.model.application.gateways.ApplicationExportRepository;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidExportCursorException;
+import co.com.pragma.model.gateways.CustomLogger;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ExportApprovedApplicationsUseCase {
+
+    private final ApplicationExportRepository applicationExportRepository;
+    private final CustomLogger logger;
+
+    /**
+     * Streams the applications approved between both dates, inclusive, ordered by approval time.
+     * Passing the id of the last exported row resumes the export right after it; an id that is not an
+     * application approved within the range is rejected instead of silently exporting nothing.
+     */
+    public Flux<ApprovedApplicationExport> export(LocalDate from, LocalDate to, UUID afterId) {
+        if (to.isBefore(from)) {
+            return Flux.error(new InvalidDateRangeException("Export range end " + to + " is before its start " + from));
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Exporting approved applications from {} to {} after {}", from, to, afterId);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Flux<ApprovedApplicationExport> rows = afterId == null
+                ? applicationExportRepository.findApprovedBetween(start, end, null, null)
+                : applicationExportRepository.findApprovedAt(afterId, start, end)
+                        .switchIfEmpty(Mono.error(new InvalidExportCursorException(
+                                "Export cursor " + afterId + " is not an application approved in the range")))
+                        .flatMapMany(approvedAt -> applicationExportRepository.findApprovedBetween(start, end,
+                                approvedAt, afterId));
+        return rows.doOnError(error -> logger.trace("Error exporting approved applications: {}", error.getMessage()));
+    }
+}
@@ -1,11 +1,12 @@
 package co.com.pragma.usecase.findapprovedapplicationdaily;
 
-import co.com.pragma.model.application.gateways.ApplicationRepository;
-import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.report.DailyReport;
-import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportGranularity;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
@@ -13,12 +14,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.List;
 
 @RequiredArgsConstructor
 public class FindApprovedApplicationDailyUseCase {
 
-    private final ApplicationRepository applicationRepository;
-    private final StatusRepository statusRepository;
+    private final GenerateReportUseCase generateReportUseCase;
     private final ApplicationConfigurationProvider  configAdapter;
     private final CustomLogger logger;
 
@@ -33,18 +34,23 @@ public class FindApprovedApplicationDailyUseCase {
         LocalDateTime endDateTime = LocalDateTime.of(LocalDate.now(zoneId), CUT_OFF_TIME);
         LocalDateTime startDateTime = endDateTime.minusDays(1);
 
-        return statusRepository.findByNameIgnoreCase(APPROVED_STATUS_NAME)
-                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found")))
-                .flatMap(status -> applicationRepository.findByStatusAndApprovedDateBetween(status.getId(),
-                                startDateTime,
-                                endDateTime)
-                        .collect(
-                                () -> DailyReport.builder().approvedLoansCount(0L).totalLoanAmount(0.0).build(),
-                                (report, application) -> {
-                                    report.setApprovedLoansCount(report.getApprovedLoansCount() + 1);
-                                    report.setTotalLoanAmount(report.getTotalLoanAmount() + application.getAmount());
-                                }
-                        )
-                );
+        ReportCriteria criteria = ReportCriteria.builder()
+                .start(startDateTime)
+                .end(endDateTime)
+                .granularity(ReportGranularity.DAY)
+                .dateField(ReportDateField.APPROVED_AT)
+                .statusNames(List.of(APPROVED_STATUS_NAME))
+                .groupBy(List.of())
+                .build();
+
+        return generateReportUseCase.generate(criteria)
+                .map(report -> report.getBuckets().stream()
+                        .reduce(DailyReport.builder().approvedLoansCount(0L).totalLoanAmount(0.0).build(),
+                                (daily, bucket) -> {
+                                    daily.setApprovedLoansCount(daily.getApprovedLoansCount() + bucket.getApplicationsCount());
+                                    daily.setTotalLoanAmount(daily.getTotalLoanAmount() + bucket.getTotalAmount());
+                                    return daily;
+                                },
+                                (left, right) -> left));
     }
 }
@@ -0,0 +1,26 @@
+package co.com.pragma.usecase.findarchivedapplication;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class FindArchivedApplicationUseCase {
+
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final CustomLogger customLogger;
+
+    public Mono<Application> findById(UUID idApplication) {
+        customLogger.trace("Finding archived application by id: {}", idApplication);
+        return archivedApplicationRepository.findById(idApplication)
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Archived application not found")))
+                .doOnSuccess(application -> customLogger.trace("Archived application found with id: {}", idApplication))
+                .doOnError(error -> customLogger.trace("Error searching archived application by id: {}, error: {}",
+                        idApplication, error.getMessage()));
+    }
+}
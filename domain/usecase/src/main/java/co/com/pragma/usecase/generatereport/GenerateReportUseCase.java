@@ -0,0 +1,76 @@
+package co.com.pragma.usecase.generatereport;
+
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.TimeSeriesReport;
+import co.com.pragma.model.report.gateways.ReportRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class GenerateReportUseCase {
+
+    static final int CLOSED_WINDOW_CACHE_SIZE = 256;
+
+    private final ReportRepository reportRepository;
+    private final StatusRepository statusRepository;
+    private final ApplicationConfigurationProvider configAdapter;
+    private final CustomLogger logger;
+
+    // Approval windows that ended before now can no longer gain rows, so their result is kept (LRU).
+    // Creation windows are not cached: their rows keep changing status, and the report filters by status.
+    private final Map<ReportCriteria, TimeSeriesReport> closedWindows = Collections.synchronizedMap(
+            new LinkedHashMap<ReportCriteria, TimeSeriesReport>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ReportCriteria, TimeSeriesReport> eldest) {
+                    return size() > CLOSED_WINDOW_CACHE_SIZE;
+                }
+            });
+
+    public Mono<TimeSeriesReport> generate(ReportCriteria criteria) {
+        if (!criteria.getStart().isBefore(criteria.getEnd())) {
+            return Mono.error(new InvalidDateRangeException(
+                    "Report window end " + criteria.getEnd() + " is not after its start " + criteria.getStart()));
+        }
+        TimeSeriesReport cached = closedWindows.get(criteria);
+        if (cached != null) {
+            logger.trace("Serving closed report window from cache: {} to {}", criteria.getStart(), criteria.getEnd());
+            return Mono.just(cached);
+        }
+        boolean cacheable = criteria.getDateField() == ReportDateField.APPROVED_AT
+                && !criteria.getEnd().isAfter(LocalDateTime.now(ZoneId.of(configAdapter.getTimezone())));
+
+        return statusRepository.findByNames(criteria.getStatusNames())
+                .map(Status::getId)
+                .collectList()
+                .filter(statusIds -> statusIds.size() == criteria.getStatusNames().stream().distinct().count())
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found")))
+                .flatMap(statusIds -> reportRepository.aggregate(criteria, statusIds).collectList())
+                .map(buckets -> TimeSeriesReport.builder()
+                        .start(criteria.getStart())
+                        .end(criteria.getEnd())
+                        .granularity(criteria.getGranularity())
+                        .dateField(criteria.getDateField())
+                        .statusNames(criteria.getStatusNames())
+                        .groupBy(criteria.getGroupBy())
+                        .buckets(buckets)
+                        .build())
+                .doOnNext(report -> {
+                    if (cacheable) {
+                        closedWindows.put(criteria, report);
+                    }
+                });
+    }
+}
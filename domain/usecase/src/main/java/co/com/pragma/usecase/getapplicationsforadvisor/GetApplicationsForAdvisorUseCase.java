@@ -6,9 +6,11 @@ import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.auth.UserFound;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageStream;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
@@ -32,8 +34,12 @@ public class GetApplicationsForAdvisorUseCase {
     private final LoanTypeRepository loanTypeRepository;
     private final AuthValidationGateway authValidationGateway;
     private final CustomLogger logger;
+    private final MetricsGateway metrics;
 
+    private static final String USE_CASE = "get_applications_for_advisor";
+    private static final String STREAM_USE_CASE = "stream_applications_for_advisor";
     private static final String APPROVED_STATUS_NAME = "Approved";
+    private static final int STREAM_CONCURRENCY = 8;
 
     public Mono<CustomPage<ApplicationAdvisorView>> getApplicationsByStatus(
             String token,
@@ -42,7 +48,8 @@ public class GetApplicationsForAdvisorUseCase {
 
         logger.trace("Starting search for applications for advisor with statuses: {}", statusNames);
 
-        return statusRepository.findByNames(statusNames)
+        return metrics.timeUseCase(USE_CASE, metrics.timeCalls(USE_CASE, MetricsGateway.DB,
+                        statusRepository.findByNames(statusNames))
                 .collectList()
                 .flatMap(statuses -> {
                     if (statuses.isEmpty()) {
@@ -51,11 +58,65 @@ public class GetApplicationsForAdvisorUseCase {
                     }
                     List<UUID> statusIds = statuses.stream().map(Status::getId).toList();
                     logger.trace("State IDs found: {}", statusIds);
-                    return applicationRepository.findByIdStatusIn(statusIds, pageable)
+                    return metrics.timeCall(USE_CASE, MetricsGateway.DB,
+                                    applicationRepository.findByIdStatusIn(statusIds, pageable))
                             .flatMap(applicationPage ->
                                     convertToAdvisorViewPage(applicationPage, token)
                             );
-                });
+                }));
+    }
+
+    public Mono<CustomPageStream<ApplicationAdvisorView>> streamApplicationsByStatus(
+            String token,
+            List<String> statusNames,
+            CustomPageable pageable) {
+
+        logger.trace("Starting streamed search for applications for advisor with statuses: {}", statusNames);
+
+        return metrics.timeUseCase(STREAM_USE_CASE, metrics.timeCalls(STREAM_USE_CASE, MetricsGateway.DB,
+                        statusRepository.findByNames(statusNames))
+                .map(Status::getId)
+                .collectList()
+                .flatMap(statusIds -> {
+                    if (statusIds.isEmpty()) {
+                        logger.trace("No states found: {}", statusNames);
+                        return Mono.just(CustomPageStream.<ApplicationAdvisorView>builder()
+                                .content(Flux.empty())
+                                .page(createEmptyPage())
+                                .build());
+                    }
+                    return metrics.timeCall(STREAM_USE_CASE, MetricsGateway.DB,
+                                    applicationRepository.findByIdStatusIn(statusIds, pageable))
+                            .map(applicationPage -> CustomPageStream.<ApplicationAdvisorView>builder()
+                                    .content(streamAdvisorViews(applicationPage.getContent(), token))
+                                    .page(createEmptyPageFrom(applicationPage))
+                                    .build());
+                }));
+    }
+
+    private Flux<ApplicationAdvisorView> streamAdvisorViews(List<Application> applications, String token) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<UUID> userIds = applications.stream()
+                .map(Application::getIdUser)
+                .distinct()
+                .toList();
+
+        return metrics.timeCalls(STREAM_USE_CASE, MetricsGateway.AUTH, authValidationGateway.foundClientByIds(userIds, token))
+                .collectMap(UserFound::getIdUser, Function.identity())
+                .flatMapMany(usersMap -> Flux.fromIterable(applications)
+                        .flatMapSequential(application -> toAdvisorView(application, usersMap), STREAM_CONCURRENCY));
+    }
+
+    private Mono<ApplicationAdvisorView> toAdvisorView(Application application, Map<UUID, UserFound> usersMap) {
+        UserFound clientUser = usersMap.get(application.getIdUser());
+        if (clientUser == null) {
+            logger.warn("User data not found for userId: {}. Skipping application.", application.getIdUser());
+            return Mono.empty();
+        }
+        return buildApplicationView(application, clientUser);
     }
 
     private Mono<CustomPage<ApplicationAdvisorView>> convertToAdvisorViewPage(
@@ -71,19 +132,13 @@ public class GetApplicationsForAdvisorUseCase {
                 .distinct()
                 .toList();
 
-        Mono<Map<UUID, UserFound>> usersMapMono = authValidationGateway.foundClientByIds(userIds, token)
+        Mono<Map<UUID, UserFound>> usersMapMono = metrics.timeCalls(USE_CASE, MetricsGateway.AUTH,
+                        authValidationGateway.foundClientByIds(userIds, token))
                 .collectMap(UserFound::getIdUser, Function.identity());
 
         return usersMapMono.flatMap(usersMap -> {
             return Flux.fromIterable(applications)
-                    .flatMap(application -> {
-                        UserFound clientUser = usersMap.get(application.getIdUser());
-                        if (clientUser == null) {
-                            logger.warn("User data not found for userId: {}. Skipping application.", application.getIdUser());
-                            return Mono.empty();
-                        }
-                        return buildApplicationView(application, clientUser);
-                    })
+                    .flatMapSequential(application -> toAdvisorView(application, usersMap), STREAM_CONCURRENCY)
                     .collectList()
                     .map(advisorViews ->
                             CustomPage.<ApplicationAdvisorView>builder()
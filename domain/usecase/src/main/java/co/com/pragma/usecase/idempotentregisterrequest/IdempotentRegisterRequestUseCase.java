@@ -0,0 +1,112 @@
+package co.com.pragma.usecase.idempotentregisterrequest;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.exception.ConcurrentUpdateException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.idempotency.gateways.IdempotencyKeyRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class IdempotentRegisterRequestUseCase {
+
+    static final int RESPONSE_CACHE_SIZE = 1024;
+    // Kept well under the reservation lease, so a live attempt never has its key taken over
+    static final Duration REGISTRATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RegisterRequestUseCase registerRequestUseCase;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CustomLogger logger;
+
+    // Responses of recent first attempts, so most retries are answered without touching the database (LRU)
+    private final Map<String, CachedResponse> responses = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > RESPONSE_CACHE_SIZE;
+                }
+            });
+
+    public Mono<Application> registerApplication(Application application, String token, String idempotencyKey) {
+        String owner = application.getIdDocument();
+        String cacheKey = owner + ':' + idempotencyKey;
+        // Taken before registering, which fills in derived fields on the application
+        String fingerprint = fingerprint(application);
+        CachedResponse cached = responses.get(cacheKey);
+        if (cached != null) {
+            if (!cached.fingerprint().equals(fingerprint)) {
+                return Mono.error(mismatch());
+            }
+            logger.trace("Replaying cached response for Idempotency-Key {}", idempotencyKey);
+            return Mono.just(cached.application());
+        }
+
+        UUID reservationToken = UUID.randomUUID();
+        return idempotencyKeyRepository.reserve(owner, idempotencyKey, fingerprint, reservationToken)
+                .flatMap(reserved -> reserved
+                        ? register(application, token, owner, idempotencyKey, reservationToken)
+                        : replay(owner, idempotencyKey, fingerprint))
+                .doOnNext(response -> responses.put(cacheKey, new CachedResponse(fingerprint, response)));
+    }
+
+    // The key is completed inside the registration transaction, so a saved application always has its key row;
+    // an attempt whose reservation was taken over fails the completion and rolls its application back
+    private Mono<Application> register(Application application, String token, String owner, String idempotencyKey,
+                                       UUID reservationToken) {
+        return registerRequestUseCase.registerApplication(application, token,
+                        saved -> idempotencyKeyRepository.complete(owner, idempotencyKey, reservationToken, saved.getId())
+                                .flatMap(completed -> completed
+                                        ? Mono.<Void>empty()
+                                        : Mono.error(new ConcurrentUpdateException(
+                                                "The Idempotency-Key reservation expired before the request completed"))))
+                .timeout(REGISTRATION_TIMEOUT)
+                .onErrorResume(error -> idempotencyKeyRepository.release(owner, idempotencyKey, reservationToken)
+                        .then(Mono.error(error)));
+    }
+
+    private Mono<Application> replay(String owner, String idempotencyKey, String fingerprint) {
+        logger.trace("Replaying stored response for Idempotency-Key {}", idempotencyKey);
+        return idempotencyKeyRepository.findByKey(owner, idempotencyKey)
+                .flatMap(stored -> {
+                    if (!stored.getRequestFingerprint().equals(fingerprint)) {
+                        return Mono.error(mismatch());
+                    }
+                    return Mono.justOrEmpty(stored.getIdApplication());
+                })
+                .flatMap(applicationRepository::findById)
+                .switchIfEmpty(Mono.error(new ConcurrentUpdateException(
+                        "A request with this Idempotency-Key is still being processed")));
+    }
+
+    private static IdempotencyKeyMismatchException mismatch() {
+        return new IdempotencyKeyMismatchException("The Idempotency-Key was already used with a different request");
+    }
+
+    static String fingerprint(Application application) {
+        String request = application.getIdDocument() + '|' + application.getIdLoanType() + '|'
+                + application.getAmount() + '|' + application.getTerm();
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedResponse(String fingerprint, Application application) {
+    }
+}
@@ -8,6 +8,7 @@ import co.com.pragma.model.creditanalysis.PaymentDetail;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
@@ -15,6 +16,8 @@ import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuples;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -30,66 +33,90 @@ public class ProcessApplicationDecisionUseCase {
     private final PaymentPlanGenerator paymentPlanGenerator;
     private final ReportApprovedGateway reportApprovedGateway;
     private final CustomLogger logger;
+    private final MetricsGateway metrics;
+    private final Scheduler offloadScheduler;
 
+    private static final String USE_CASE = "process_application_decision";
     private static final String DECISION_APPROVED = "Approved";
+    private static final String PENDING_REVIEW_STATUS_NAME = "Pending Review";
+    // Shorter plans are cheaper to build in place than to hand off to another thread
+    private static final int INLINE_PAYMENT_PLAN_MAX_TERM = 60;
 
     public Mono<Void> execute(ApplicationDecisionMessage message) {
-        return Mono.zip(
-                        applicationRepository.findById(message.getApplicationId())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found"))),
+        return metrics.timeUseCase(USE_CASE, metrics.timeCall(USE_CASE, MetricsGateway.DB, Mono.zip(
                         statusRepository.findByNameIgnoreCase(message.getDecision())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found for decision")))
-                )
+                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status not found for decision"))),
+                        statusRepository.findByName(PENDING_REVIEW_STATUS_NAME)
+                                .switchIfEmpty(Mono.error(new EntityNotFoundException("Status 'Pending Review' not found")))
+                ))
                 .flatMap(tuple -> {
-                    Application application = tuple.getT1();
-                    Status newStatus = tuple.getT2();
+                    Status newStatus = tuple.getT1();
+                    LocalDateTime now = LocalDateTime.now();
+                    boolean approved = DECISION_APPROVED.equalsIgnoreCase(message.getDecision());
 
-                    Application.ApplicationBuilder appBuilder = application.toBuilder()
-                            .idStatus(newStatus.getId())
-                            .updatedAt(LocalDateTime.now());
+                    return metrics.timeCall(USE_CASE, MetricsGateway.DB, applicationRepository.updateStatusIfCurrent(
+                                    message.getApplicationId(), List.of(tuple.getT2().getId()), newStatus.getId(), now,
+                                    approved ? now : null))
+                            .map(updatedApp -> Tuples.of(updatedApp, true))
+                            .switchIfEmpty(Mono.defer(() -> redeliveredDecision(message, newStatus)
+                                    .map(appliedApp -> Tuples.of(appliedApp, false))))
+                            .flatMap(decided -> {
+                                Application decidedApp = decided.getT1();
+                                boolean firstDelivery = decided.getT2();
+                                return approved
+                                        ? metrics.timeCall(USE_CASE, MetricsGateway.DB, loanTypeRepository.findById(decidedApp.getIdLoanType()))
+                                                .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
+                                                .flatMap(loanType -> paymentPlan(decidedApp, loanType.getInterestRate()))
+                                                .flatMap(paymentPlan -> notifyDecision(decidedApp, newStatus, paymentPlan, firstDelivery))
+                                        : notifyDecision(decidedApp, newStatus, Collections.emptyList(), firstDelivery);
+                            });
+                })
+                .then());
+    }
 
-                    if (DECISION_APPROVED.equalsIgnoreCase(message.getDecision())) {
-                        appBuilder.approvedAt(LocalDateTime.now());
+    /**
+     * A redelivered message finds the decision already applied: notify the customer again so a lost notification
+     * is not final. A decision that lost the race to another one is an expected outcome, so it is logged and the
+     * message is acknowledged instead of being retried until it reaches the DLQ.
+     */
+    private Mono<Application> redeliveredDecision(ApplicationDecisionMessage message, Status newStatus) {
+        return applicationRepository.findById(message.getApplicationId())
+                .switchIfEmpty(Mono.error(new EntityNotFoundException("Application not found")))
+                .flatMap(application -> {
+                    if (newStatus.getId().equals(application.getIdStatus())) {
+                        return Mono.just(application);
                     }
+                    logger.warn("Ignoring decision {} for application {}: it is no longer pending review",
+                            message.getDecision(), message.getApplicationId());
+                    return Mono.empty();
+                });
+    }
 
-                    Application updatedApp = appBuilder.build();
-
-                    if (DECISION_APPROVED.equalsIgnoreCase(message.getDecision())) {
-                        return loanTypeRepository.findById(application.getIdLoanType())
-                                .switchIfEmpty(Mono.error(new EntityNotFoundException("LoanType not found for application")))
-                                .map(loanType -> paymentPlanGenerator.generate(
-                                        updatedApp.getAmount(),
-                                        loanType.getInterestRate(),
-                                        updatedApp.getTerm()
-                                ))
-                                .flatMap(paymentPlan -> processAndNotify(updatedApp, newStatus, paymentPlan));
-                    } else {
-                        return processAndNotify(updatedApp, newStatus, Collections.emptyList());
-                    }
-                })
-                .then();
+    private Mono<List<PaymentDetail>> paymentPlan(Application application, double interestRate) {
+        Mono<List<PaymentDetail>> plan = Mono.fromCallable(() -> paymentPlanGenerator.generate(
+                application.getAmount(), interestRate, application.getTerm()));
+        return application.getTerm() > INLINE_PAYMENT_PLAN_MAX_TERM ? plan.subscribeOn(offloadScheduler) : plan;
     }
 
-    private Mono<Void> processAndNotify(Application application, Status status, List<PaymentDetail> paymentPlan) {
-        return applicationRepository.save(application)
-                .flatMap(updatedApplication -> {
-                    CreditAnalysisResponsePayload payload = CreditAnalysisResponsePayload.builder()
-                            .applicationId(updatedApplication.getId())
-                            .email(updatedApplication.getEmail())
-                            .status(status.getName())
-                            .amount(updatedApplication.getAmount())
-                            .term(updatedApplication.getTerm())
-                            .paymentPlan(paymentPlan)
-                            .build();
+    // The approved report goes out once, before the notification: a redelivery caused by a failed notification
+    // only re-sends the notification, so the approval is never counted twice
+    private Mono<Void> notifyDecision(Application updatedApplication, Status status, List<PaymentDetail> paymentPlan,
+                                      boolean firstDelivery) {
+        CreditAnalysisResponsePayload payload = CreditAnalysisResponsePayload.builder()
+                .applicationId(updatedApplication.getId())
+                .email(updatedApplication.getEmail())
+                .status(status.getName())
+                .amount(updatedApplication.getAmount())
+                .term(updatedApplication.getTerm())
+                .paymentPlan(paymentPlan)
+                .build();
 
-                    logger.trace("Sending notification for applicationId={} with status={}",
-                            updatedApplication.getId(), status.getName());
-                    return notificationGateway.sendCreditAnalysisDecisionNotification(payload)
-                            .then(
-                                    DECISION_APPROVED.equalsIgnoreCase(status.getName())
-                                            ? reportApprovedGateway.sendReportApprovedCount(updatedApplication, status.getName())
-                                            : Mono.empty()
-                            );
-                });
+        logger.trace("Sending notification for applicationId={} with status={}",
+                updatedApplication.getId(), status.getName());
+        Mono<Void> report = firstDelivery && DECISION_APPROVED.equalsIgnoreCase(status.getName())
+                ? reportApprovedGateway.sendReportApprovedCount(updatedApplication, status.getName())
+                : Mono.empty();
+        return metrics.timeCall(USE_CASE, MetricsGateway.SQS, report
+                .then(notificationGateway.sendCreditAnalysisDecisionNotification(payload)));
     }
 }
@@ -10,6 +10,7 @@ import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.InvalidAmountException;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
@@ -39,19 +40,31 @@ public class RegisterRequestUseCase {
     private final FindLoanTypeByIdUseCase findLoanTypeByIdUseCase;
     private final CreditAnalysisGateway creditAnalysisGateway;
     private final CustomLogger customLogger;
+    private final MetricsGateway metrics;
 
+    private static final String USE_CASE = "register_request";
     private static final String PENDING_REVIEW_STATUS_NAME = "Pending Review";
     private static final String APPROVED_STATUS_NAME = "Approved";
 
     public Mono<Application> registerApplication(Application application, String token) {
+        return registerApplication(application, token, savedApp -> Mono.empty());
+    }
+
+    /**
+     * Registers the application and runs {@code inTransaction} with the saved application in the same transaction
+     * as the insert, so its writes commit or roll back together with the application.
+     */
+    public Mono<Application> registerApplication(Application application, String token,
+                                                 Function<Application, Mono<Void>> inTransaction) {
         customLogger.trace("Starting request registration for idDocument: {}", application.getIdDocument());
 
-        return authValidationGateway.validateClientUser(application.getIdDocument(), token)
+        return metrics.timeUseCase(USE_CASE, metrics.timeCall(USE_CASE, MetricsGateway.AUTH,
+                        authValidationGateway.validateClientUser(application.getIdDocument(), token))
                 .flatMap(user -> {
                     application.setEmail(user.getEmail().toLowerCase());
                     application.setIdUser(user.getIdUser());
 
-                    return findLoanTypeByIdUseCase.findById(application.getIdLoanType())
+                    return metrics.timeCall(USE_CASE, MetricsGateway.DB, findLoanTypeByIdUseCase.findById(application.getIdLoanType()))
                             .flatMap(newLoanType -> findActiveLoansAndTheirTypes(user.getIdUser())
                                     .flatMap(activeLoansData -> findPendingReviewStatus()
                                             .flatMap(pendingStatus -> {
@@ -63,13 +76,16 @@ public class RegisterRequestUseCase {
                                                 return transactionManager.executeInTransaction(
                                                         validateAmount(application.getAmount(), newLoanType)
                                                                 .then(Mono.fromCallable(() -> prepareApplication(application, pendingStatus)))
-                                                                .flatMap(applicationRepository::save)
+                                                                .flatMap(prepared -> metrics.timeCall(USE_CASE, MetricsGateway.DB,
+                                                                        applicationRepository.save(prepared)))
+                                                                .flatMap(savedApp -> inTransaction.apply(savedApp).thenReturn(savedApp))
                                                                 .flatMap(savedApp -> {
                                                                     payload.setIdApplication(savedApp.getId());
                                                                     payload.setIdUser(savedApp.getIdUser());
                                                                     if (Boolean.TRUE.equals(newLoanType.getAutomaticValidation())) {
                                                                         customLogger.trace("Enqueuing payload for application {}", savedApp.getId());
-                                                                        return creditAnalysisGateway.requestAnalysis(payload).thenReturn(savedApp);
+                                                                        return metrics.timeCall(USE_CASE, MetricsGateway.SQS,
+                                                                                creditAnalysisGateway.requestAnalysis(payload)).thenReturn(savedApp);
                                                                     }
                                                                     return Mono.just(savedApp);
                                                                 })
@@ -79,10 +95,14 @@ public class RegisterRequestUseCase {
                             );
                 })
                 .doOnSuccess(savedApp -> customLogger.trace("Application registered successfully for email: {}", savedApp.getEmail()))
-                .doOnError(error -> customLogger.trace("Application registration failed for {}: {}", application.getIdDocument(), error.getMessage()));
+                .doOnError(error -> customLogger.trace("Application registration failed for {}: {}", application.getIdDocument(), error.getMessage())));
     }
 
     private Mono<Tuple2<List<Application>, Map<UUID, LoanType>>> findActiveLoansAndTheirTypes(UUID userId) {
+        return metrics.timeCall(USE_CASE, MetricsGateway.DB, findActiveLoansAndTypes(userId));
+    }
+
+    private Mono<Tuple2<List<Application>, Map<UUID, LoanType>>> findActiveLoansAndTypes(UUID userId) {
         return applicationRepository.findActiveLoansByIdUser(userId).collectList()
                 .flatMap(activeLoans -> {
                     if (activeLoans.isEmpty()) {
@@ -142,8 +162,10 @@ public class RegisterRequestUseCase {
                 return Mono.error(new InvalidAmountException("Amount cannot be null"));
             }
             if (amount < loanType.getMinAmount() || amount > loanType.getMaxAmount()) {
-                customLogger.trace("Validation failed: amount {} is out of range [{}, {}] for loan type {}",
-                        amount, loanType.getMinAmount(), loanType.getMaxAmount(), loanType.getName());
+                if (customLogger.isTraceEnabled()) {
+                    customLogger.trace("Validation failed: amount {} is out of range [{}, {}] for loan type {}",
+                            amount, loanType.getMinAmount(), loanType.getMaxAmount(), loanType.getName());
+                }
                 return Mono.error(new InvalidAmountException(
                         String.format("Amount %.2f is outside the valid range [%.2f, %.2f] for loan type %s",
                                 amount, loanType.getMinAmount(), loanType.getMaxAmount(), loanType.getName())
@@ -155,7 +177,7 @@ public class RegisterRequestUseCase {
     }
 
     private Mono<Status> findPendingReviewStatus() {
-        return statusRepository.findByName(PENDING_REVIEW_STATUS_NAME)
+        return metrics.timeCall(USE_CASE, MetricsGateway.DB, statusRepository.findByName(PENDING_REVIEW_STATUS_NAME))
                 .switchIfEmpty(Mono.defer(() -> {
                     customLogger.trace("Status 'Pending Review' not found");
                     return Mono.error(new EntityNotFoundException("Status 'Pending Review' not found"));
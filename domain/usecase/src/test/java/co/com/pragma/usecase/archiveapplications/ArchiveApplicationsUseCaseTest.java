@@ -0,0 +1,95 @@
+package co.com.pragma.usecase.archiveapplications;
+
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveApplicationsUseCaseTest {
+
+    @Mock
+    private StatusRepository statusRepository;
+
+    @Mock
+    private ArchivedApplicationRepository archivedApplicationRepository;
+
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private ArchiveApplicationsUseCase useCase;
+
+    private UUID rejectedStatusId;
+    private LocalDateTime cutoff;
+
+    @BeforeEach
+    void setUp() {
+        rejectedStatusId = UUID.randomUUID();
+        cutoff = LocalDateTime.now().minusMonths(6);
+    }
+
+    @Test
+    @DisplayName("Should keep archiving batches until a partial batch is returned")
+    void shouldArchiveInBatches() {
+        when(statusRepository.findByNames(List.of("Rejected")))
+                .thenReturn(Flux.just(Status.builder().id(rejectedStatusId).name("Rejected").build()));
+        when(archivedApplicationRepository.archive(List.of(rejectedStatusId), cutoff, 500))
+                .thenReturn(Mono.just(500L), Mono.just(500L), Mono.just(42L));
+        when(archivedApplicationRepository.dropArchivedPartitions(cutoff)).thenReturn(Mono.just(1));
+
+        StepVerifier.create(useCase.archiveCreatedBefore(cutoff))
+                .expectNext(1042L)
+                .verifyComplete();
+
+        verify(archivedApplicationRepository, times(3)).archive(List.of(rejectedStatusId), cutoff, 500);
+        verify(archivedApplicationRepository).dropArchivedPartitions(cutoff);
+    }
+
+    @Test
+    @DisplayName("Should archive nothing when the closed statuses are not configured")
+    void shouldSkipWhenStatusesMissing() {
+        when(statusRepository.findByNames(List.of("Rejected"))).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.archiveCreatedBefore(cutoff))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(archivedApplicationRepository);
+    }
+
+    @Test
+    @DisplayName("Should propagate archive errors")
+    void shouldPropagateArchiveErrors() {
+        when(statusRepository.findByNames(List.of("Rejected")))
+                .thenReturn(Flux.just(Status.builder().id(rejectedStatusId).name("Rejected").build()));
+        when(archivedApplicationRepository.archive(List.of(rejectedStatusId), cutoff, 500))
+                .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        StepVerifier.create(useCase.archiveCreatedBefore(cutoff))
+                .expectErrorMessage("DB error")
+                .verify();
+
+        verify(archivedApplicationRepository, never()).dropArchivedPartitions(cutoff);
+    }
+}
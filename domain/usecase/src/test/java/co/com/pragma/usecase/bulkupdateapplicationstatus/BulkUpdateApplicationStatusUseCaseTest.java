@@ -0,0 +1,252 @@
+package co.com.pragma.usecase.bulkupdateapplicationstatus;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationStatusUpdate;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkUpdateApplicationStatusUseCaseTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private StatusRepository statusRepository;
+
+    @Mock
+    private NotificationGateway notificationGateway;
+
+    @Mock
+    private ReportApprovedGateway reportApprovedGateway;
+
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private BulkUpdateApplicationStatusUseCase useCase;
+
+    private Application firstApplication;
+    private Application secondApplication;
+    private Status pendingStatus;
+    private Status approvedStatus;
+    private Status rejectedStatus;
+
+    @BeforeEach
+    void setUp() {
+        pendingStatus = Status.builder().id(UUID.randomUUID()).name("Pending Review").build();
+
+        firstApplication = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(1000.0)
+                .term(12)
+                .email("first@email.com")
+                .idStatus(pendingStatus.getId())
+                .build();
+
+        secondApplication = Application.builder()
+                .id(UUID.randomUUID())
+                .amount(2000.0)
+                .term(24)
+                .email("second@email.com")
+                .idStatus(pendingStatus.getId())
+                .build();
+
+        approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
+        rejectedStatus = Status.builder().id(UUID.randomUUID()).name("Rejected").build();
+    }
+
+    @Test
+    @DisplayName("Should update all applications with a single batched write and batched notifications")
+    void shouldUpdateAllApplicationsInBatch() {
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(firstApplication.getId(), "approved"),
+                new ApplicationStatusUpdate(secondApplication.getId(), "Rejected")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(List.of("approved", "rejected", "pending review", "manual review")))
+                .thenReturn(Flux.just(approvedStatus, rejectedStatus, pendingStatus));
+        when(applicationRepository.findByIds(List.of(firstApplication.getId(), secondApplication.getId())))
+                .thenReturn(Flux.just(firstApplication, secondApplication));
+        when(applicationRepository.updateStatuses(anyList(), anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Application>>getArgument(0)));
+        when(notificationGateway.sendDecisionNotifications(anyList(), anyMap())).thenReturn(Flux.empty());
+        when(reportApprovedGateway.sendReportApprovedCounts(anyList(), eq("Approved"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.updateStatuses(updates))
+                .expectNextMatches(result -> result.isUpdated()
+                        && result.getIdApplication().equals(firstApplication.getId())
+                        && result.getStatus().equals("Approved"))
+                .expectNextMatches(result -> result.isUpdated()
+                        && result.getIdApplication().equals(secondApplication.getId())
+                        && result.getStatus().equals("Rejected"))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Application>> updatedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(applicationRepository, times(1)).updateStatuses(updatedCaptor.capture(),
+                eq(List.of(pendingStatus.getId(), rejectedStatus.getId())), any(LocalDateTime.class));
+        List<Application> written = updatedCaptor.getValue();
+        assertThat(written).hasSize(2);
+        assertThat(written.get(0).getIdStatus()).isEqualTo(approvedStatus.getId());
+        assertThat(written.get(0).getApprovedAt()).isNotNull();
+        assertThat(written.get(1).getIdStatus()).isEqualTo(rejectedStatus.getId());
+        assertThat(written.get(1).getApprovedAt()).isNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Application>> approvedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationGateway, times(1)).sendDecisionNotifications(anyList(), anyMap());
+        verify(reportApprovedGateway, times(1)).sendReportApprovedCounts(approvedCaptor.capture(), eq("Approved"));
+        assertThat(approvedCaptor.getValue()).extracting(Application::getId).containsExactly(firstApplication.getId());
+    }
+
+    @Test
+    @DisplayName("Should report unknown statuses, missing applications and duplicates per item")
+    void shouldReportFailuresPerItem() {
+        UUID missingId = UUID.randomUUID();
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(firstApplication.getId(), "Rejected"),
+                new ApplicationStatusUpdate(secondApplication.getId(), "Unknown"),
+                new ApplicationStatusUpdate(missingId, "Rejected"),
+                new ApplicationStatusUpdate(firstApplication.getId(), "Approved")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(anyList()))
+                .thenReturn(Flux.just(rejectedStatus, approvedStatus, pendingStatus));
+        when(applicationRepository.findByIds(anyList())).thenReturn(Flux.just(firstApplication, secondApplication));
+        when(applicationRepository.updateStatuses(anyList(), anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Application>>getArgument(0)));
+        when(notificationGateway.sendDecisionNotifications(anyList(), anyMap())).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.updateStatuses(updates).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(4);
+                    assertThat(results.get(0).isUpdated()).isTrue();
+                    assertThat(results.get(1).getMessage()).isEqualTo("Invalid status: Unknown");
+                    assertThat(results.get(2).getMessage()).isEqualTo("Application not found");
+                    assertThat(results.get(3).getMessage()).isEqualTo("Duplicate application in request");
+                    assertThat(results).filteredOn(ApplicationStatusUpdateResult::isUpdated).hasSize(1);
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(reportApprovedGateway);
+    }
+
+    @Test
+    @DisplayName("Should skip the write and notifications when nothing can be updated")
+    void shouldSkipWriteWhenNothingToUpdate() {
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(firstApplication.getId(), "Unknown")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(List.of("unknown", "pending review", "rejected", "manual review")))
+                .thenReturn(Flux.just(pendingStatus, rejectedStatus));
+        when(applicationRepository.findByIds(List.of(firstApplication.getId()))).thenReturn(Flux.just(firstApplication));
+
+        StepVerifier.create(useCase.updateStatuses(updates))
+                .expectNextMatches(result -> !result.isUpdated())
+                .verifyComplete();
+
+        verify(applicationRepository, never()).updateStatuses(anyList(), anyList(), any());
+        verifyNoInteractions(notificationGateway, reportApprovedGateway);
+    }
+
+    @Test
+    @DisplayName("Should report undelivered notifications per item once the update is committed")
+    void shouldReportUndeliveredNotificationsPerItem() {
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(firstApplication.getId(), "Rejected"),
+                new ApplicationStatusUpdate(secondApplication.getId(), "Rejected")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(anyList())).thenReturn(Flux.just(rejectedStatus, pendingStatus));
+        when(applicationRepository.findByIds(anyList())).thenReturn(Flux.just(firstApplication, secondApplication));
+        when(applicationRepository.updateStatuses(anyList(), anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Application>>getArgument(0)));
+        when(notificationGateway.sendDecisionNotifications(anyList(), anyMap()))
+                .thenReturn(Flux.just(secondApplication.getId()));
+
+        StepVerifier.create(useCase.updateStatuses(updates).collectList())
+                .assertNext(results -> {
+                    assertThat(results).allMatch(ApplicationStatusUpdateResult::isUpdated);
+                    assertThat(results.get(0).getMessage()).isNull();
+                    assertThat(results.get(1).getMessage())
+                            .isEqualTo("Status updated but the decision notification could not be sent");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should mark every updated item as undelivered when the notification send fails outright")
+    void shouldNotFailCommittedUpdateWhenNotificationsFail() {
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(firstApplication.getId(), "Approved")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(anyList())).thenReturn(Flux.just(approvedStatus, pendingStatus));
+        when(applicationRepository.findByIds(anyList())).thenReturn(Flux.just(firstApplication));
+        when(applicationRepository.updateStatuses(anyList(), anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Application>>getArgument(0)));
+        when(notificationGateway.sendDecisionNotifications(anyList(), eq(Map.of(firstApplication.getId(), "Approved"))))
+                .thenReturn(Flux.error(new RuntimeException("SQS error")));
+        when(reportApprovedGateway.sendReportApprovedCounts(anyList(), eq("Approved")))
+                .thenReturn(Mono.error(new RuntimeException("SQS error")));
+
+        StepVerifier.create(useCase.updateStatuses(updates))
+                .expectNextMatches(result -> result.isUpdated()
+                        && "Status updated but the decision notification could not be sent".equals(result.getMessage()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject applications that are no longer reviewable and those changed concurrently")
+    void shouldRejectNonReviewableAndConcurrentlyChangedApplications() {
+        Application alreadyApproved = firstApplication.toBuilder().idStatus(approvedStatus.getId()).build();
+        List<ApplicationStatusUpdate> updates = List.of(
+                new ApplicationStatusUpdate(alreadyApproved.getId(), "Rejected"),
+                new ApplicationStatusUpdate(secondApplication.getId(), "Rejected")
+        );
+
+        when(statusRepository.findByNamesIgnoreCase(anyList()))
+                .thenReturn(Flux.just(rejectedStatus, approvedStatus, pendingStatus));
+        when(applicationRepository.findByIds(anyList())).thenReturn(Flux.just(alreadyApproved, secondApplication));
+        when(applicationRepository.updateStatuses(anyList(), anyList(), any(LocalDateTime.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.updateStatuses(updates).collectList())
+                .assertNext(results -> {
+                    assertThat(results.get(0).getMessage()).isEqualTo("Application is not in a reviewable status");
+                    assertThat(results.get(1).getMessage()).isEqualTo("Application was modified concurrently");
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(notificationGateway, reportApprovedGateway);
+    }
+}
@@ -0,0 +1,94 @@
+package co.com.pragma.usecase.exportapprovedapplications;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import co.com.pragma.model.application.gateways.ApplicationExportRepository;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidExportCursorException;
+import co.com.pragma.model.gateways.CustomLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportApprovedApplicationsUseCaseTest {
+
+    @Mock
+    private ApplicationExportRepository applicationExportRepository;
+
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private ExportApprovedApplicationsUseCase useCase;
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Test
+    @DisplayName("Should export the whole last day of the range")
+    void shouldExportInclusiveRange() {
+        ApprovedApplicationExport row = ApprovedApplicationExport.builder().id(UUID.randomUUID()).build();
+        when(applicationExportRepository.findApprovedBetween(START, END, null, null))
+                .thenReturn(Flux.just(row));
+
+        StepVerifier.create(useCase.export(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null))
+                .expectNext(row)
+                .verifyComplete();
+
+        verify(applicationExportRepository, never()).findApprovedAt(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resume right after the approval time of the given id")
+    void shouldResumeAfterCursor() {
+        UUID afterId = UUID.randomUUID();
+        LocalDateTime approvedAt = LocalDateTime.of(2026, 1, 15, 9, 30);
+        ApprovedApplicationExport row = ApprovedApplicationExport.builder().id(UUID.randomUUID()).build();
+        when(applicationExportRepository.findApprovedAt(afterId, START, END)).thenReturn(Mono.just(approvedAt));
+        when(applicationExportRepository.findApprovedBetween(START, END, approvedAt, afterId))
+                .thenReturn(Flux.just(row));
+
+        StepVerifier.create(useCase.export(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), afterId))
+                .expectNext(row)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that is not an application approved in the range")
+    void shouldRejectUnknownCursor() {
+        UUID afterId = UUID.randomUUID();
+        when(applicationExportRepository.findApprovedAt(afterId, START, END)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.export(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), afterId))
+                .expectError(InvalidExportCursorException.class)
+                .verify();
+
+        verify(applicationExportRepository, never()).findApprovedBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void shouldRejectInvertedRange() {
+        StepVerifier.create(useCase.export(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 1), null))
+                .expectError(InvalidDateRangeException.class)
+                .verify();
+
+        verifyNoInteractions(applicationExportRepository);
+    }
+}
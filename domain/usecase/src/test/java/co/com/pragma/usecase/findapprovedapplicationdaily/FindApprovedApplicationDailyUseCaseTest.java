@@ -1,25 +1,25 @@
 package co.com.pragma.usecase.findapprovedapplicationdaily;
 
-import co.com.pragma.model.application.Application;
-import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.report.DailyReport;
-import co.com.pragma.model.status.Status;
-import co.com.pragma.model.status.gateways.StatusRepository;
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.TimeSeriesReport;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.LocalTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -28,9 +28,7 @@ import static org.mockito.Mockito.*;
 class FindApprovedApplicationDailyUseCaseTest {
 
     @Mock
-    private ApplicationRepository applicationRepository;
-    @Mock
-    private StatusRepository statusRepository;
+    private GenerateReportUseCase generateReportUseCase;
     @Mock
     private ApplicationConfigurationProvider configAdapter;
     @Mock
@@ -49,18 +47,10 @@ class FindApprovedApplicationDailyUseCaseTest {
 
     @Test
     void shouldReturnDailyReportWhenApplicationsAreFound() {
-        Status approvedStatus = Status.builder().id(UUID.randomUUID()).name(APPROVED_STATUS_NAME).build();
-        when(statusRepository.findByNameIgnoreCase(APPROVED_STATUS_NAME))
-                .thenReturn(Mono.just(approvedStatus));
-
-        Application app1 = Application.builder().id(UUID.randomUUID()).amount(1000.0).build();
-        Application app2 = Application.builder().id(UUID.randomUUID()).amount(2500.0).build();
-
-        when(applicationRepository.findByStatusAndApprovedDateBetween(
-                eq(approvedStatus.getId()),
-                any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(Flux.just(app1, app2));
+        ReportBucket yesterday = ReportBucket.builder().applicationsCount(1L).totalAmount(1000.0).build();
+        ReportBucket today = ReportBucket.builder().applicationsCount(1L).totalAmount(2500.0).build();
+        when(generateReportUseCase.generate(any(ReportCriteria.class)))
+                .thenReturn(Mono.just(TimeSeriesReport.builder().buckets(List.of(yesterday, today)).build()));
 
         Mono<DailyReport> result = useCase.findApprovedApplicationDaily();
 
@@ -71,22 +61,17 @@ class FindApprovedApplicationDailyUseCaseTest {
                 )
                 .verifyComplete();
 
-        verify(statusRepository).findByNameIgnoreCase(APPROVED_STATUS_NAME);
-        verify(applicationRepository).findByStatusAndApprovedDateBetween(any(UUID.class),
-                any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(generateReportUseCase).generate(argThat(criteria ->
+                criteria.getStatusNames().equals(List.of(APPROVED_STATUS_NAME))
+                        && criteria.getDateField() == ReportDateField.APPROVED_AT
+                        && criteria.getEnd().toLocalTime().equals(LocalTime.of(3, 0))
+                        && criteria.getStart().equals(criteria.getEnd().minusDays(1))));
     }
 
     @Test
     void shouldReturnEmptyDailyReportWhenNoApplicationsAreFound() {
-        Status approvedStatus = Status.builder().id(UUID.randomUUID()).name(APPROVED_STATUS_NAME).build();
-        when(statusRepository.findByNameIgnoreCase(APPROVED_STATUS_NAME))
-                .thenReturn(Mono.just(approvedStatus));
-
-        when(applicationRepository.findByStatusAndApprovedDateBetween(
-                eq(approvedStatus.getId()),
-                any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(Flux.empty());
+        when(generateReportUseCase.generate(any(ReportCriteria.class)))
+                .thenReturn(Mono.just(TimeSeriesReport.builder().buckets(List.of()).build()));
 
         Mono<DailyReport> result = useCase.findApprovedApplicationDaily();
 
@@ -96,23 +81,17 @@ class FindApprovedApplicationDailyUseCaseTest {
                                 report.getTotalLoanAmount() == 0.0
                 )
                 .verifyComplete();
-
-        verify(applicationRepository).findByStatusAndApprovedDateBetween(any(UUID.class),
-                any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
     void shouldReturnErrorWhenApprovedStatusIsNotFound() {
-        when(statusRepository.findByNameIgnoreCase(APPROVED_STATUS_NAME))
-                .thenReturn(Mono.empty());
+        when(generateReportUseCase.generate(any(ReportCriteria.class)))
+                .thenReturn(Mono.error(new EntityNotFoundException("Status not found")));
+
         Mono<DailyReport> result = useCase.findApprovedApplicationDaily();
 
         StepVerifier.create(result)
                 .expectError(EntityNotFoundException.class)
                 .verify();
-
-        verify(applicationRepository, never())
-                .findByStatusAndApprovedDateBetween(any(UUID.class),
-                        any(LocalDateTime.class), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package co.com.pragma.usecase.findarchivedapplication;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.gateways.CustomLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FindArchivedApplicationUseCaseTest {
+
+    @Mock
+    private ArchivedApplicationRepository archivedApplicationRepository;
+
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private FindArchivedApplicationUseCase useCase;
+
+    @Test
+    @DisplayName("Should find archived application by id")
+    void shouldFindArchivedApplication() {
+        UUID id = UUID.randomUUID();
+        Application application = Application.builder().id(id).build();
+        when(archivedApplicationRepository.findById(id)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.findById(id))
+                .expectNext(application)
+                .verifyComplete();
+
+        verify(customLogger).trace("Archived application found with id: {}", id);
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException when archived application not found")
+    void shouldFailWhenNotArchived() {
+        UUID id = UUID.randomUUID();
+        when(archivedApplicationRepository.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.findById(id))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+}
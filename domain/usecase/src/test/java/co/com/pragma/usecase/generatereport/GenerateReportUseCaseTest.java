@@ -0,0 +1,168 @@
+package co.com.pragma.usecase.generatereport;
+
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.gateways.ApplicationConfigurationProvider;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportDimension;
+import co.com.pragma.model.report.ReportGranularity;
+import co.com.pragma.model.report.gateways.ReportRepository;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateReportUseCaseTest {
+
+    private static final String TIMEZONE = "America/Lima";
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private StatusRepository statusRepository;
+
+    @Mock
+    private ApplicationConfigurationProvider configAdapter;
+
+    @Mock
+    private CustomLogger logger;
+
+    @InjectMocks
+    private GenerateReportUseCase useCase;
+
+    private UUID approvedId;
+    private ReportBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        approvedId = UUID.randomUUID();
+        bucket = ReportBucket.builder()
+                .periodStart(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .loanTypeName("Personal")
+                .applicationsCount(4)
+                .totalAmount(40000.0)
+                .build();
+    }
+
+    private ReportCriteria criteria(LocalDateTime start, LocalDateTime end) {
+        return ReportCriteria.builder()
+                .start(start)
+                .end(end)
+                .granularity(ReportGranularity.MONTH)
+                .dateField(ReportDateField.APPROVED_AT)
+                .statusNames(List.of("Approved"))
+                .groupBy(List.of(ReportDimension.LOAN_TYPE))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should aggregate the window for the resolved status ids")
+    void shouldGenerateReport() {
+        ReportCriteria criteria = criteria(LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 4, 1, 0, 0));
+        when(configAdapter.getTimezone()).thenReturn(TIMEZONE);
+        when(statusRepository.findByNames(List.of("Approved")))
+                .thenReturn(Flux.just(Status.builder().id(approvedId).name("Approved").build()));
+        when(reportRepository.aggregate(criteria, List.of(approvedId))).thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(useCase.generate(criteria))
+                .expectNextMatches(report -> report.getBuckets().equals(List.of(bucket))
+                        && report.getGranularity() == ReportGranularity.MONTH
+                        && report.getGroupBy().equals(List.of(ReportDimension.LOAN_TYPE)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should serve a closed window from cache on later calls")
+    void shouldCacheClosedWindow() {
+        ReportCriteria criteria = criteria(LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 4, 1, 0, 0));
+        when(configAdapter.getTimezone()).thenReturn(TIMEZONE);
+        when(statusRepository.findByNames(List.of("Approved")))
+                .thenReturn(Flux.just(Status.builder().id(approvedId).name("Approved").build()));
+        when(reportRepository.aggregate(criteria, List.of(approvedId))).thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(useCase.generate(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.generate(criteria.toBuilder().build())).expectNextCount(1).verifyComplete();
+
+        verify(reportRepository, times(1)).aggregate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should query an open window every time")
+    void shouldNotCacheOpenWindow() {
+        ReportCriteria criteria = criteria(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        when(configAdapter.getTimezone()).thenReturn(TIMEZONE);
+        when(statusRepository.findByNames(List.of("Approved")))
+                .thenReturn(Flux.just(Status.builder().id(approvedId).name("Approved").build()));
+        when(reportRepository.aggregate(criteria, List.of(approvedId))).thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(useCase.generate(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.generate(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(reportRepository, times(2)).aggregate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should query a closed creation window every time")
+    void shouldNotCacheClosedCreationWindow() {
+        ReportCriteria criteria = criteria(LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 4, 1, 0, 0))
+                .toBuilder()
+                .dateField(ReportDateField.CREATED_AT)
+                .build();
+        when(statusRepository.findByNames(List.of("Approved")))
+                .thenReturn(Flux.just(Status.builder().id(approvedId).name("Approved").build()));
+        when(reportRepository.aggregate(criteria, List.of(approvedId))).thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(useCase.generate(criteria)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(useCase.generate(criteria)).expectNextCount(1).verifyComplete();
+
+        verify(reportRepository, times(2)).aggregate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail when a requested status does not exist")
+    void shouldFailForUnknownStatus() {
+        ReportCriteria criteria = criteria(LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 4, 1, 0, 0));
+        when(configAdapter.getTimezone()).thenReturn(TIMEZONE);
+        when(statusRepository.findByNames(List.of("Approved"))).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.generate(criteria))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(reportRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a window that does not end after it starts")
+    void shouldRejectEmptyWindow() {
+        LocalDateTime instant = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        StepVerifier.create(useCase.generate(criteria(instant, instant)))
+                .expectError(InvalidDateRangeException.class)
+                .verify();
+
+        verifyNoInteractions(statusRepository, reportRepository);
+    }
+}
@@ -6,9 +6,11 @@ import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.auth.UserFound;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageStream;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
@@ -24,6 +26,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +42,7 @@ class GetApplicationsForAdvisorUseCaseTest {
     @Mock private LoanTypeRepository loanTypeRepository;
     @Mock private AuthValidationGateway authValidationGateway;
     @Mock private CustomLogger logger;
+    @Mock private MetricsGateway metrics;
 
     @InjectMocks
     private GetApplicationsForAdvisorUseCase useCase;
@@ -52,6 +56,9 @@ class GetApplicationsForAdvisorUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(metrics.timeUseCase(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(metrics.timeCall(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(metrics.timeCalls(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
         status = Status.builder()
                 .id(UUID.randomUUID())
                 .name("Pending Review")
@@ -140,6 +147,50 @@ class GetApplicationsForAdvisorUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should stream advisor views in page order with page metadata kept apart")
+    void shouldStreamApplicationsWithPageMetadata() {
+        when(statusRepository.findByNames(List.of("Pending Review"))).thenReturn(Flux.just(status));
+        when(applicationRepository.findByIdStatusIn(List.of(status.getId()), pageable))
+                .thenReturn(Mono.just(CustomPage.<Application>builder()
+                        .content(List.of(application))
+                        .currentPage(0)
+                        .totalPages(3)
+                        .totalElements(25)
+                        .pageSize(10)
+                        .hasNext(true)
+                        .build()));
+        when(authValidationGateway.foundClientByIds(List.of(application.getIdUser()), "token"))
+                .thenReturn(Flux.just(user));
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(statusRepository.findById(application.getIdStatus())).thenReturn(Mono.just(status));
+        when(statusRepository.findByName("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.findByIdUserAndIdStatus(application.getIdUser(), approvedStatus.getId()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.streamApplicationsByStatus("token", List.of("Pending Review"), pageable)
+                        .flatMapMany(stream -> {
+                            assertThat(stream.getPage().getContent()).isEmpty();
+                            assertThat(stream.getPage().getTotalElements()).isEqualTo(25);
+                            assertThat(stream.getPage().isHasNext()).isTrue();
+                            return stream.getContent();
+                        }))
+                .assertNext(view -> assertThat(view.getEmail()).isEqualTo(user.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream nothing when no statuses are found")
+    void shouldStreamNothingWhenNoStatusesFound() {
+        when(statusRepository.findByNames(List.of("Nonexistent"))).thenReturn(Flux.empty());
+
+        StepVerifier.create(useCase.streamApplicationsByStatus("token", List.of("Nonexistent"), pageable)
+                        .flatMapMany(CustomPageStream::getContent))
+                .verifyComplete();
+
+        verify(applicationRepository, never()).findByIdStatusIn(anyList(), any());
+    }
+
     @Test
     @DisplayName("Should calculate monthly debt for user with approved applications")
     void shouldCalculateMonthlyDebtForApprovedApplications() {
@@ -268,7 +319,7 @@ class GetApplicationsForAdvisorUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should handle multiple users in the same page")
+    @DisplayName("Should handle multiple users in the same page and keep the page order")
     void shouldHandleMultipleUsersInSamePage() {
         UUID secondUserId = UUID.randomUUID();
         Application secondApplication = Application.builder()
@@ -304,8 +355,9 @@ class GetApplicationsForAdvisorUseCaseTest {
                 .thenReturn(Mono.just(applicationPage));
         when(authValidationGateway.foundClientByIds(List.of(application.getIdUser(), secondUserId), "token"))
                 .thenReturn(Flux.just(user, secondUser));
+        // The first view resolves last, so the page only keeps its order if the views are merged sequentially
         when(loanTypeRepository.findById(application.getIdLoanType()))
-                .thenReturn(Mono.just(loanType));
+                .thenReturn(Mono.just(loanType).delayElement(Duration.ofMillis(50)));
         when(loanTypeRepository.findById(secondApplication.getIdLoanType()))
                 .thenReturn(Mono.just(loanType));
         when(statusRepository.findById(application.getIdStatus()))
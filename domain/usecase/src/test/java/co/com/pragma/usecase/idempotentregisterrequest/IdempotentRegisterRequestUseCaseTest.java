@@ -0,0 +1,180 @@
+package co.com.pragma.usecase.idempotentregisterrequest;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.exception.ConcurrentUpdateException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.idempotency.IdempotencyKey;
+import co.com.pragma.model.idempotency.gateways.IdempotencyKeyRepository;
+import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRegisterRequestUseCaseTest {
+
+    private static final String KEY = "retry-1";
+    private static final String TOKEN = "token";
+
+    @Mock
+    private RegisterRequestUseCase registerRequestUseCase;
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private CustomLogger customLogger;
+
+    @InjectMocks
+    private IdempotentRegisterRequestUseCase useCase;
+
+    private Application application;
+    private Application saved;
+    private String fingerprint;
+
+    @BeforeEach
+    void setUp() {
+        application = Application.builder().idDocument("1234567890").amount(5000.0).term(12).build();
+        saved = application.toBuilder().id(UUID.randomUUID()).build();
+        fingerprint = IdempotentRegisterRequestUseCase.fingerprint(application);
+    }
+
+    @Test
+    @DisplayName("Should register once, completing the key in the registration transaction, and replay from cache")
+    @SuppressWarnings("unchecked")
+    void shouldReplayFromCache() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(true));
+        when(registerRequestUseCase.registerApplication(eq(application), eq(TOKEN), any()))
+                .thenAnswer(invocation -> invocation.<Function<Application, Mono<Void>>>getArgument(2)
+                        .apply(saved).thenReturn(saved));
+        when(idempotencyKeyRepository.complete(eq("1234567890"), eq(KEY), any(UUID.class), eq(saved.getId())))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectNext(saved)
+                .verifyComplete();
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectNext(saved)
+                .verifyComplete();
+
+        verify(registerRequestUseCase, times(1)).registerApplication(any(), anyString(), any(Function.class));
+        verify(idempotencyKeyRepository, times(1)).reserve(anyString(), anyString(), anyString(), any(UUID.class));
+        verify(idempotencyKeyRepository).complete(eq("1234567890"), eq(KEY), any(UUID.class), eq(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("Should replay the stored application when another instance already handled the key")
+    void shouldReplayFromStore() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(false));
+        when(idempotencyKeyRepository.findByKey("1234567890", KEY)).thenReturn(Mono.just(IdempotencyKey.builder()
+                .requestFingerprint(fingerprint).idApplication(saved.getId()).build()));
+        when(applicationRepository.findById(saved.getId())).thenReturn(Mono.just(saved));
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectNext(saved)
+                .verifyComplete();
+
+        verify(registerRequestUseCase, never()).registerApplication(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a stored key that was used with a different request body")
+    void shouldRejectStoredKeyWithDifferentRequest() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(false));
+        when(idempotencyKeyRepository.findByKey("1234567890", KEY)).thenReturn(Mono.just(IdempotencyKey.builder()
+                .requestFingerprint("another-request").idApplication(saved.getId()).build()));
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectError(IdempotencyKeyMismatchException.class)
+                .verify();
+
+        verify(applicationRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a cached key when the retry carries a different request body")
+    void shouldRejectCachedKeyWithDifferentRequest() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(true));
+        when(registerRequestUseCase.registerApplication(eq(application), eq(TOKEN), any()))
+                .thenReturn(Mono.just(saved));
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectNext(saved)
+                .verifyComplete();
+        StepVerifier.create(useCase.registerApplication(
+                        Application.builder().idDocument("1234567890").amount(9000.0).term(12).build(), TOKEN, KEY))
+                .expectError(IdempotencyKeyMismatchException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a retry while the first attempt is still running")
+    void shouldRejectInProgressKey() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(false));
+        when(idempotencyKeyRepository.findByKey("1234567890", KEY)).thenReturn(Mono.just(IdempotencyKey.builder()
+                .requestFingerprint(fingerprint).build()));
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectError(ConcurrentUpdateException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should release the key when the first attempt fails so the client can retry")
+    void shouldReleaseOnFailure() {
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), any(UUID.class))).thenReturn(Mono.just(true));
+        when(registerRequestUseCase.registerApplication(eq(application), eq(TOKEN), any()))
+                .thenReturn(Mono.error(new InvalidAmountException("Amount out of range")));
+        when(idempotencyKeyRepository.release(eq("1234567890"), eq(KEY), any(UUID.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectError(InvalidAmountException.class)
+                .verify();
+
+        verify(idempotencyKeyRepository).release(eq("1234567890"), eq(KEY), any(UUID.class));
+        verify(idempotencyKeyRepository, never()).complete(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail and roll back when the reservation was taken over before completing")
+    @SuppressWarnings("unchecked")
+    void shouldFailWhenReservationWasTakenOver() {
+        ArgumentCaptor<UUID> reservationToken = ArgumentCaptor.forClass(UUID.class);
+        when(idempotencyKeyRepository.reserve(eq("1234567890"), eq(KEY), eq(fingerprint), reservationToken.capture()))
+                .thenReturn(Mono.just(true));
+        when(registerRequestUseCase.registerApplication(eq(application), eq(TOKEN), any()))
+                .thenAnswer(invocation -> invocation.<Function<Application, Mono<Void>>>getArgument(2)
+                        .apply(saved).thenReturn(saved));
+        when(idempotencyKeyRepository.complete(eq("1234567890"), eq(KEY), any(UUID.class), eq(saved.getId())))
+                .thenReturn(Mono.just(false));
+        when(idempotencyKeyRepository.release(eq("1234567890"), eq(KEY), any(UUID.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.registerApplication(application, TOKEN, KEY))
+                .expectError(ConcurrentUpdateException.class)
+                .verify();
+
+        verify(idempotencyKeyRepository).complete("1234567890", KEY, reservationToken.getValue(), saved.getId());
+        verify(idempotencyKeyRepository).release("1234567890", KEY, reservationToken.getValue());
+    }
+}
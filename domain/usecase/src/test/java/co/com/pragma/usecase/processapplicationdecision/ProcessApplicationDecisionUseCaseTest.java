@@ -7,25 +7,32 @@ import co.com.pragma.model.creditanalysis.PaymentDetail;
 import co.com.pragma.model.creditanalysis.PaymentPlanGenerator;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
 import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -40,17 +47,25 @@ class ProcessApplicationDecisionUseCaseTest {
     private PaymentPlanGenerator paymentPlanGenerator;
     @Mock private ReportApprovedGateway reportApprovedGateway;
     @Mock private CustomLogger logger;
+    @Mock private MetricsGateway metrics;
 
-    @InjectMocks
+    private Scheduler offloadScheduler;
     private ProcessApplicationDecisionUseCase useCase;
 
     private UUID applicationId;
     private Application application;
+    private Status pendingStatus;
     private Status approvedStatus;
     private Status rejectedStatus;
 
     @BeforeEach
     void setup() {
+        offloadScheduler = Schedulers.newSingle("offload-test");
+        useCase = new ProcessApplicationDecisionUseCase(applicationRepository, statusRepository, loanTypeRepository,
+                notificationGateway, paymentPlanGenerator, reportApprovedGateway, logger, metrics, offloadScheduler);
+        lenient().when(metrics.timeUseCase(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(metrics.timeCall(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(metrics.timeCalls(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
         applicationId = UUID.randomUUID();
         application = Application.builder()
                 .id(applicationId)
@@ -60,32 +75,45 @@ class ProcessApplicationDecisionUseCaseTest {
                 .idLoanType(UUID.randomUUID())
                 .build();
 
+        pendingStatus = Status.builder().id(UUID.randomUUID()).name("Pending Review").build();
         approvedStatus = Status.builder().id(UUID.randomUUID()).name("Approved").build();
         rejectedStatus = Status.builder().id(UUID.randomUUID()).name("Rejected").build();
+
+        lenient().when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(pendingStatus));
     }
 
-    @Test
-    @DisplayName("Should process approved application successfully")
-    void shouldProcessApprovedApplicationSuccessfully() {
+    @AfterEach
+    void tearDown() {
+        offloadScheduler.dispose();
+    }
+
+    private ApplicationDecisionMessage decision(String decision) {
         ApplicationDecisionMessage message = new ApplicationDecisionMessage();
         message.setApplicationId(applicationId);
-        message.setDecision("Approved");
+        message.setDecision(decision);
+        return message;
+    }
 
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
+    @Test
+    @DisplayName("Should process approved application successfully")
+    void shouldProcessApprovedApplicationSuccessfully() {
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(eq(applicationId), eq(List.of(pendingStatus.getId())),
+                eq(approvedStatus.getId()), any(LocalDateTime.class), notNull()))
+                .thenReturn(Mono.just(application));
         when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(
                 LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build()
         ));
         when(paymentPlanGenerator.generate(anyDouble(), anyDouble(), anyInt()))
                 .thenReturn(List.of(mock(PaymentDetail.class)));
-        when(applicationRepository.save(any())).thenReturn(Mono.just(application));
         when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
         when(reportApprovedGateway.sendReportApprovedCount(any(), any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Approved")))
                 .verifyComplete();
 
-        verify(applicationRepository).save(any());
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository, never()).save(any());
         verify(notificationGateway).sendCreditAnalysisDecisionNotification(any());
         verify(reportApprovedGateway).sendReportApprovedCount(any(), eq("Approved"));
     }
@@ -94,14 +122,11 @@ class ProcessApplicationDecisionUseCaseTest {
     @Test
     @DisplayName("Should throw when application not found")
     void shouldThrowWhenApplicationNotFound() {
-        ApplicationDecisionMessage message = new ApplicationDecisionMessage();
-        message.setApplicationId(applicationId);
-        message.setDecision("Approved");
-
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.empty());
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        when(applicationRepository.findById(applicationId)).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Approved")))
                 .expectError(EntityNotFoundException.class)
                 .verify();
 
@@ -111,22 +136,95 @@ class ProcessApplicationDecisionUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should process rejected application without calling loanType or report")
-    void shouldProcessRejectedApplication() {
-        ApplicationDecisionMessage message = new ApplicationDecisionMessage();
-        message.setApplicationId(applicationId);
-        message.setDecision("Rejected");
+    @DisplayName("Should log and acknowledge a decision when the application already left Pending Review")
+    void shouldIgnoreDecisionWhenApplicationAlreadyDecided() {
+        when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        application.setIdStatus(approvedStatus.getId());
+        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.execute(decision("Rejected")))
+                .verifyComplete();
 
+        verify(logger).warn(contains("no longer pending review"), eq("Rejected"), eq(applicationId));
+        verifyNoInteractions(loanTypeRepository, notificationGateway, reportApprovedGateway);
+    }
+
+    @Test
+    @DisplayName("Should notify again without re-sending the approved report when a redelivered decision was already applied")
+    void shouldNotifyAgainWhenDecisionAlreadyApplied() {
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        application.setIdStatus(approvedStatus.getId());
         when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(
+                LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build()
+        ));
+        when(paymentPlanGenerator.generate(anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(List.of(mock(PaymentDetail.class)));
+        when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.execute(decision("Approved")))
+                .verifyComplete();
+
+        verify(applicationRepository, never()).save(any());
+        verify(notificationGateway).sendCreditAnalysisDecisionNotification(any());
+        verifyNoInteractions(reportApprovedGateway);
+    }
+
+    @Test
+    @DisplayName("Should process rejected application without calling loanType or report")
+    void shouldProcessRejectedApplication() {
         when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
-        when(applicationRepository.save(any())).thenReturn(Mono.just(application));
+        when(applicationRepository.updateStatusIfCurrent(eq(applicationId), eq(List.of(pendingStatus.getId())),
+                eq(rejectedStatus.getId()), any(LocalDateTime.class), isNull()))
+                .thenReturn(Mono.just(application));
         when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
 
-        StepVerifier.create(useCase.execute(message))
+        StepVerifier.create(useCase.execute(decision("Rejected")))
                 .verifyComplete();
 
-        verify(applicationRepository).save(any());
         verify(notificationGateway).sendCreditAnalysisDecisionNotification(any());
         verifyNoInteractions(loanTypeRepository, paymentPlanGenerator, reportApprovedGateway);
     }
+
+    @Test
+    @DisplayName("Should build short payment plans in place")
+    void shouldBuildShortPaymentPlanInPlace() {
+        AtomicReference<Thread> generatorThread = stubApprovedDecision();
+
+        StepVerifier.create(useCase.execute(decision("Approved")))
+                .verifyComplete();
+
+        assertEquals(Thread.currentThread(), generatorThread.get());
+    }
+
+    @Test
+    @DisplayName("Should build long payment plans on the offload scheduler")
+    void shouldOffloadLongPaymentPlans() {
+        application.setTerm(360);
+        AtomicReference<Thread> generatorThread = stubApprovedDecision();
+
+        StepVerifier.create(useCase.execute(decision("Approved")))
+                .verifyComplete();
+
+        assertTrue(generatorThread.get().getName().startsWith("offload-test"));
+    }
+
+    private AtomicReference<Thread> stubApprovedDecision() {
+        AtomicReference<Thread> generatorThread = new AtomicReference<>();
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any()))
+                .thenReturn(Mono.just(application));
+        when(loanTypeRepository.findById(application.getIdLoanType())).thenReturn(Mono.just(
+                LoanType.builder().id(application.getIdLoanType()).interestRate(5.0).build()
+        ));
+        when(paymentPlanGenerator.generate(anyDouble(), anyDouble(), anyInt())).thenAnswer(invocation -> {
+            generatorThread.set(Thread.currentThread());
+            return List.of(mock(PaymentDetail.class));
+        });
+        when(notificationGateway.sendCreditAnalysisDecisionNotification(any())).thenReturn(Mono.empty());
+        when(reportApprovedGateway.sendReportApprovedCount(any(), any())).thenReturn(Mono.empty());
+        return generatorThread;
+    }
 }
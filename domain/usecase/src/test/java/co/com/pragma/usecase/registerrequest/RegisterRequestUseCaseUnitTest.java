@@ -9,6 +9,7 @@ import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.InvalidAmountException;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.TransactionManager;
 import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
@@ -53,6 +54,8 @@ public class RegisterRequestUseCaseUnitTest {
     private CreditAnalysisGateway creditAnalysisGateway;
     @Mock
     private CustomLogger customLogger;
+    @Mock
+    private MetricsGateway metrics;
 
     @InjectMocks
     private RegisterRequestUseCase registerRequestUseCase;
@@ -65,6 +68,9 @@ public class RegisterRequestUseCaseUnitTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(metrics.timeUseCase(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(metrics.timeCall(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(metrics.timeCalls(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
         token = "valid-token";
         UUID userId = UUID.randomUUID();
         UUID loanTypeId = UUID.randomUUID();
@@ -149,6 +155,25 @@ public class RegisterRequestUseCaseUnitTest {
         verify(creditAnalysisGateway, never()).requestAnalysis(any());
     }
 
+    @Test
+    @DisplayName("Should run the in-transaction step after the save and fail the registration when it fails")
+    void registerApplication_InTransactionStepFails() {
+        when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0, Mono.class));
+        when(authValidationGateway.validateClientUser(testApplication.getIdDocument(), token)).thenReturn(Mono.just(user));
+        when(findLoanTypeByIdUseCase.findById(testApplication.getIdLoanType())).thenReturn(Mono.just(loanType));
+        when(applicationRepository.findActiveLoansByIdUser(user.getIdUser())).thenReturn(Flux.empty());
+        when(statusRepository.findByName("Pending Review")).thenReturn(Mono.just(status));
+        when(applicationRepository.save(any(Application.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        StepVerifier.create(registerRequestUseCase.registerApplication(testApplication, token,
+                        savedApp -> Mono.error(new IllegalStateException("Key row not written"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(applicationRepository).save(any(Application.class));
+        verify(creditAnalysisGateway, never()).requestAnalysis(any());
+    }
+
     @Test
     @DisplayName("Should build payload correctly when user has active loans")
     void registerApplication_WithExistingActiveLoans() {
@@ -2,8 +2,10 @@ package co.com.pragma.usecase.updateapplicationstatus;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
+import co.com.pragma.model.exception.ConcurrentUpdateException;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.gateways.CustomLogger;
+import co.com.pragma.model.gateways.MetricsGateway;
 import co.com.pragma.model.gateways.NotificationGateway;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
 import co.com.pragma.model.status.Status;
@@ -15,19 +17,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateApplicationStatusUseCaseTest {
 
+
     @Mock
     private ApplicationRepository applicationRepository;
 
@@ -43,10 +49,14 @@ class UpdateApplicationStatusUseCaseTest {
     @Mock
     private CustomLogger customLogger;
 
+    @Mock
+    private MetricsGateway metrics;
+
     @InjectMocks
     private UpdateApplicationStatusUseCase useCase;
 
     private Application application;
+    private Status pendingStatus;
     private Status approvedStatus;
     private Status rejectedStatus;
     private UUID applicationId;
@@ -54,6 +64,9 @@ class UpdateApplicationStatusUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(metrics.timeUseCase(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        lenient().when(metrics.timeCall(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+        lenient().when(metrics.timeCalls(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(2));
         applicationId = UUID.randomUUID();
         initialUpdatedAt = LocalDateTime.now().minusDays(1);
 
@@ -67,6 +80,11 @@ class UpdateApplicationStatusUseCaseTest {
                 .approvedAt(null)
                 .build();
 
+        pendingStatus = Status.builder()
+                .id(UUID.randomUUID())
+                .name("Pending Review")
+                .build();
+
         approvedStatus = Status.builder()
                 .id(UUID.randomUUID())
                 .name("Approved")
@@ -76,17 +94,25 @@ class UpdateApplicationStatusUseCaseTest {
                 .id(UUID.randomUUID())
                 .name("Rejected")
                 .build();
+
+        lenient().when(statusRepository.findByNames(Status.REVIEWABLE_STATUS_NAMES)).thenReturn(Flux.just(pendingStatus));
+    }
+
+    private void givenConditionalUpdateSucceeds() {
+        when(applicationRepository.updateStatusIfCurrent(eq(applicationId), eq(List.of(pendingStatus.getId())),
+                any(UUID.class), any(LocalDateTime.class), any()))
+                .thenAnswer(invocation -> Mono.just(application.toBuilder()
+                        .idStatus(invocation.getArgument(2))
+                        .updatedAt(invocation.getArgument(3))
+                        .approvedAt(invocation.getArgument(4))
+                        .build()));
     }
 
     @Test
     @DisplayName("Should update application to Approved status successfully")
     void shouldUpdateApplicationToApprovedSuccessfully() {
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation -> {
-            Application savedApp = invocation.getArgument(0);
-            return Mono.just(savedApp);
-        });
+        givenConditionalUpdateSucceeds();
         when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
         when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved"))).thenReturn(Mono.empty());
 
@@ -98,6 +124,8 @@ class UpdateApplicationStatusUseCaseTest {
                 )
                 .verifyComplete();
 
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository, never()).save(any());
         verify(notificationGateway).sendDecisionNotification(any(), eq("Approved"));
         verify(reportApprovedGateway).sendReportApprovedCount(any(), eq("Approved"));
         verify(customLogger).info("Starting use case to update request status: {}", applicationId);
@@ -109,9 +137,7 @@ class UpdateApplicationStatusUseCaseTest {
     @DisplayName("Should update application to Rejected status successfully")
     void shouldUpdateApplicationToRejectedSuccessfully() {
         when(statusRepository.findByNameIgnoreCase("Rejected")).thenReturn(Mono.just(rejectedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
+        givenConditionalUpdateSucceeds();
         when(notificationGateway.sendDecisionNotification(any(), eq("Rejected"))).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Rejected"))
@@ -148,6 +174,7 @@ class UpdateApplicationStatusUseCaseTest {
     @DisplayName("Should throw when application not found")
     void shouldThrowWhenApplicationNotFound() {
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
         when(applicationRepository.findById(applicationId)).thenReturn(Mono.empty());
 
         StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
@@ -161,13 +188,26 @@ class UpdateApplicationStatusUseCaseTest {
         verifyNoInteractions(notificationGateway, reportApprovedGateway);
     }
 
+    @Test
+    @DisplayName("Should throw conflict when the application is no longer reviewable")
+    void shouldThrowConflictWhenConditionalUpdateMatchesNothing() {
+        when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
+        when(applicationRepository.updateStatusIfCurrent(any(), anyList(), any(), any(), any())).thenReturn(Mono.empty());
+        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
+
+        StepVerifier.create(useCase.updateStatus(applicationId, "Approved"))
+                .expectError(ConcurrentUpdateException.class)
+                .verify();
+
+        verify(applicationRepository, never()).save(any());
+        verifyNoInteractions(notificationGateway, reportApprovedGateway);
+    }
+
     @Test
     @DisplayName("Should handle report failure gracefully")
     void shouldHandleReportFailure() {
         when(statusRepository.findByNameIgnoreCase("Approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
+        givenConditionalUpdateSucceeds();
         when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
         when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved")))
                 .thenReturn(Mono.error(new RuntimeException("Report failed")));
@@ -184,9 +224,7 @@ class UpdateApplicationStatusUseCaseTest {
     @DisplayName("Should handle case-insensitive status names")
     void shouldHandleCaseInsensitiveStatusNames() {
         when(statusRepository.findByNameIgnoreCase("approved")).thenReturn(Mono.just(approvedStatus));
-        when(applicationRepository.findById(applicationId)).thenReturn(Mono.just(application));
-        when(applicationRepository.save(any(Application.class))).thenAnswer(invocation ->
-                Mono.just(invocation.getArgument(0)));
+        givenConditionalUpdateSucceeds();
         when(notificationGateway.sendDecisionNotification(any(), eq("Approved"))).thenReturn(Mono.empty());
         when(reportApprovedGateway.sendReportApprovedCount(any(), eq("Approved"))).thenReturn(Mono.empty());
 
@@ -196,4 +234,4 @@ class UpdateApplicationStatusUseCaseTest {
 
         verify(notificationGateway).sendDecisionNotification(any(), eq("Approved"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import co.com.pragma.model.application.gateways.ApplicationExportRepository;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public class ApplicationExportReactiveAdapter implements ApplicationExportRepository {
+
+    static final String SELECT_APPROVED = "SELECT a.id, a.amount, a.term, a.email, a.id_document, " +
+            "a.created_at, a.approved_at, lt.name AS loan_type_name, s.name AS status_name " +
+            "FROM applications a " +
+            "JOIN status s ON s.id = a.id_status " +
+            "JOIN loan_types lt ON lt.id = a.id_loan_type " +
+            "WHERE a.closed = FALSE AND s.name = 'Approved' AND a.approved_at >= :start AND a.approved_at < :end ";
+    static final String AFTER_ID = "AND (a.approved_at, a.id) > (:afterApprovedAt, :afterId) ";
+    static final String ORDER_BY = "ORDER BY a.approved_at, a.id";
+    static final String SELECT_CURSOR = "SELECT a.approved_at FROM applications a " +
+            "JOIN status s ON s.id = a.id_status " +
+            "WHERE a.id = :id AND a.closed = FALSE " +
+            "AND s.name = 'Approved' AND a.approved_at >= :start AND a.approved_at < :end";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ApplicationExportReactiveAdapter(DatabaseClient databaseClient,
+                                            @Value("${adapters.r2dbc.export.fetch-size:500}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Mono<LocalDateTime> findApprovedAt(UUID id, LocalDateTime start, LocalDateTime end) {
+        return ReadOnlyRouting.readOnly(databaseClient.sql(SELECT_CURSOR)
+                .bind("id", id)
+                .bind("start", start)
+                .bind("end", end)
+                .map((row, metadata) -> row.get("approved_at", LocalDateTime.class))
+                .one());
+    }
+
+    @Override
+    public Flux<ApprovedApplicationExport> findApprovedBetween(LocalDateTime start, LocalDateTime end,
+                                                               LocalDateTime afterApprovedAt, UUID afterId) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(afterId == null ? SELECT_APPROVED + ORDER_BY : SELECT_APPROVED + AFTER_ID + ORDER_BY)
+                .bind("start", start)
+                .bind("end", end);
+        if (afterId != null) {
+            spec = spec.bind("afterApprovedAt", afterApprovedAt)
+                    .bind("afterId", afterId);
+        }
+
+        return ReadOnlyRouting.readOnly(spec
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> toExport(row))
+                .all());
+    }
+
+    static ApprovedApplicationExport toExport(Row row) {
+        return ApprovedApplicationExport.builder()
+                .id(row.get("id", UUID.class))
+                .amount(row.get("amount", Double.class))
+                .term(row.get("term", Integer.class))
+                .email(row.get("email", String.class))
+                .idDocument(row.get("id_document", String.class))
+                .loanTypeName(row.get("loan_type_name", String.class))
+                .statusName(row.get("status_name", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .approvedAt(row.get("approved_at", LocalDateTime.class))
+                .build();
+    }
+}
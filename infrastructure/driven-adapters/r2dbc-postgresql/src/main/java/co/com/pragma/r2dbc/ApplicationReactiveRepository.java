@@ -1,7 +1,6 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -9,18 +8,44 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 // TODO: This file is just an example, you should delete or modify it
 public interface ApplicationReactiveRepository extends ReactiveCrudRepository<ApplicationEntity, UUID>, ReactiveQueryByExampleExecutor<ApplicationEntity> {
-    Flux<ApplicationEntity> findByIdStatusIn(List<UUID> statusIds, Pageable pageable);
-    Mono<Long> countByIdStatusIn(List<UUID> statusIds);
+    // Hot queries only touch open statuses (in review or approved), so closed = FALSE prunes them to the open partition
+    @Query("SELECT COUNT(*) FROM applications WHERE closed = FALSE AND id_status = ANY(:statusIds)")
+    Mono<Long> countByIdStatusIn(UUID[] statusIds);
+    // Most lookups by id hit an open application; the closed months are only read when it is not there
+    @Query("(SELECT * FROM applications WHERE id = :id AND closed = FALSE) " +
+            "UNION ALL (SELECT * FROM applications WHERE id = :id AND closed = TRUE) LIMIT 1")
+    Mono<ApplicationEntity> findById(UUID id);
+    @Query("SELECT * FROM applications WHERE id = ANY(:ids)")
+    Flux<ApplicationEntity> findByIdIn(UUID[] ids);
+    @Query("SELECT * FROM applications WHERE closed = FALSE AND id_user = :idUser AND id_status = :idStatus")
     Flux<ApplicationEntity> findByIdUserAndIdStatus(UUID idUser, UUID idStatus);
     @Query("SELECT a.* FROM applications a " +
             "JOIN status s ON a.id_status = s.id " +
-            "WHERE a.id_user = :idUser AND s.name = 'Approved'")
+            "WHERE a.closed = FALSE AND a.id_user = :idUser AND s.name = 'Approved'")
     Flux<ApplicationEntity> findActiveLoansByIdUser(UUID idUser);
-    @Query("SELECT * FROM applications WHERE id_status = :statusId AND approved_at >= :start AND approved_at < :end")
+    @Query("SELECT * FROM applications WHERE closed = FALSE AND id_status = :statusId " +
+            "AND approved_at >= :start AND approved_at < :end")
     Flux<ApplicationEntity> findByStatusAndApprovedDateBetween(UUID statusId, LocalDateTime start, LocalDateTime end);
+    // A closing status moves the row out of the open partition
+    @Query("UPDATE applications " +
+            "SET id_status = :newStatusId, updated_at = :updatedAt, approved_at = :approvedAt, " +
+            "closed = (SELECT closed FROM status WHERE id = :newStatusId) " +
+            "WHERE id = :id AND closed = FALSE AND id_status = ANY(:expectedStatusIds) " +
+            "RETURNING *")
+    Mono<ApplicationEntity> updateStatusIfCurrent(UUID id, UUID[] expectedStatusIds, UUID newStatusId,
+                                                  LocalDateTime updatedAt, LocalDateTime approvedAt);
+    @Query("UPDATE applications AS a " +
+            "SET id_status = v.id_status, updated_at = :updatedAt, " +
+            "approved_at = CASE WHEN v.approved THEN :updatedAt ELSE NULL END, closed = s.closed " +
+            "FROM unnest(CAST(:ids AS uuid[]), CAST(:statusIds AS uuid[]), CAST(:approved AS boolean[])) " +
+            "AS v(id, id_status, approved) " +
+            "JOIN status s ON s.id = v.id_status " +
+            "WHERE a.id = v.id AND a.closed = FALSE AND a.id_status = ANY(:expectedStatusIds) " +
+            "RETURNING a.*")
+    Flux<ApplicationEntity> updateStatuses(UUID[] ids, UUID[] statusIds, Boolean[] approved,
+                                           UUID[] expectedStatusIds, LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -4,12 +4,13 @@ import co.com.pragma.model.application.Application;
 import co.com.pragma.model.application.gateways.ApplicationRepository;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.pagination.SortField;
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
+import io.r2dbc.spi.Row;
 import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -25,9 +26,14 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         UUID,
         ApplicationReactiveRepository
 > implements ApplicationRepository {
+
+    private final DatabaseClient databaseClient;
+
     public ApplicationReactiveRepositoryAdapter(ApplicationReactiveRepository repository,
-                                                ObjectMapper mapper) {
+                                                ObjectMapper mapper,
+                                                DatabaseClient databaseClient) {
         super(repository, mapper, d -> mapper.map(d, Application.class));
+        this.databaseClient = databaseClient;
     }
 
     @Override
@@ -40,14 +46,54 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
         return super.findById(id);
     }
 
+    @Override
+    public Flux<Application> findByIds(List<UUID> ids) {
+        return repository.findByIdIn(ids.toArray(UUID[]::new))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Mono<Application> updateStatusIfCurrent(UUID id, List<UUID> expectedStatusIds, UUID newStatusId,
+                                                   LocalDateTime updatedAt, LocalDateTime approvedAt) {
+        return repository.updateStatusIfCurrent(id, expectedStatusIds.toArray(UUID[]::new), newStatusId, updatedAt, approvedAt)
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<Application> updateStatuses(List<Application> applications, List<UUID> expectedStatusIds,
+                                            LocalDateTime updatedAt) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+        int size = applications.size();
+        UUID[] ids = new UUID[size];
+        UUID[] statusIds = new UUID[size];
+        Boolean[] approved = new Boolean[size];
+        for (int i = 0; i < size; i++) {
+            Application application = applications.get(i);
+            ids[i] = application.getId();
+            statusIds[i] = application.getIdStatus();
+            approved[i] = application.getApprovedAt() != null;
+        }
+        return repository.updateStatuses(ids, statusIds, approved, expectedStatusIds.toArray(UUID[]::new), updatedAt)
+                .map(this::toEntity);
+    }
+
     @Override
     public Mono<CustomPage<Application>> findByIdStatusIn(List<UUID> statusIds, CustomPageable customPageable) {
-        Pageable pageable = convertToPageable(customPageable);
+        UUID[] statusIdArray = statusIds.toArray(UUID[]::new);
+        long offset = (long) customPageable.getPage() * customPageable.getSize();
 
-        return repository.findByIdStatusIn(statusIds, pageable)
+        return ReadOnlyRouting.readOnly(databaseClient.sql(buildPageQuery(customPageable))
+                .bind("statusIds", statusIdArray)
+                .bind("window", offset + customPageable.getSize())
+                .bind("limit", customPageable.getSize())
+                .bind("offset", offset)
+                .map((row, metadata) -> toApplicationEntity(row))
+                .all()
                 .map(entity -> mapper.map(entity, Application.class))
                 .collectList()
-                .zipWith(repository.countByIdStatusIn(statusIds))
+                .zipWith(repository.countByIdStatusIn(statusIdArray)))
                 .map(tuple -> {
                     List<Application> applications = tuple.getT1();
                     long totalElements = tuple.getT2();
@@ -73,21 +119,51 @@ public class ApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperati
 
     @Override
     public Flux<Application> findActiveLoansByIdUser(UUID userId) {
-        return repository.findActiveLoansByIdUser(userId)
-                .map(entity -> mapper.map(entity, Application.class));
+        return ReadOnlyRouting.readOnly(repository.findActiveLoansByIdUser(userId)
+                .map(entity -> mapper.map(entity, Application.class)));
     }
 
     @Override
     public Flux<Application> findByStatusAndApprovedDateBetween(UUID statusId, LocalDateTime start, LocalDateTime end) {
-        return repository.findByStatusAndApprovedDateBetween(statusId, start, end)
-                .map(entity -> mapper.map(entity, Application.class));
+        return ReadOnlyRouting.readOnly(repository.findByStatusAndApprovedDateBetween(statusId, start, end)
+                .map(entity -> mapper.map(entity, Application.class)));
+    }
+
+    // Sort column and direction come from enums, so they are inlined and each sort keeps one cached statement.
+    // Reviewable statuses are open, so only the open partition is read; each status is read on its own
+    // (id_status, sort, id) index and only the first offset + limit rows of each status are merged.
+    static String buildPageQuery(CustomPageable customPageable) {
+        String direction = "desc".equalsIgnoreCase(customPageable.getSortDirection()) ? " DESC" : " ASC";
+        String column = sortColumn(customPageable.getSortBy());
+        String orderBy = column + direction + ", " + SortField.TIE_BREAKER + direction;
+        return "SELECT a.* FROM unnest(CAST(:statusIds AS uuid[])) AS s(id_status) " +
+                "CROSS JOIN LATERAL (SELECT * FROM applications WHERE closed = FALSE AND id_status = s.id_status " +
+                "ORDER BY " + orderBy + " LIMIT :window) a " +
+                "ORDER BY a." + column + direction + ", a." + SortField.TIE_BREAKER + direction +
+                " LIMIT :limit OFFSET :offset";
+    }
+
+    private static String sortColumn(SortField sortField) {
+        return switch (sortField) {
+            case AMOUNT -> "amount";
+            case TERM -> "term";
+            case CREATED_AT -> "created_at";
+        };
     }
 
-    private Pageable convertToPageable(CustomPageable customPageable) {
-        Sort.Direction direction = Sort.Direction.fromString(
-                customPageable.getSortDirection().equalsIgnoreCase("desc") ? "DESC" : "ASC"
-        );
-        Sort sort = Sort.by(direction, customPageable.getSortBy());
-        return PageRequest.of(customPageable.getPage(), customPageable.getSize(), sort);
+    static ApplicationEntity toApplicationEntity(Row row) {
+        return ApplicationEntity.builder()
+                .id(row.get("id", UUID.class))
+                .amount(row.get("amount", Double.class))
+                .term(row.get("term", Integer.class))
+                .email(row.get("email", String.class))
+                .idDocument(row.get("id_document", String.class))
+                .idStatus(row.get("id_status", UUID.class))
+                .idLoanType(row.get("id_loan_type", UUID.class))
+                .idUser(row.get("id_user", UUID.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .approvedAt(row.get("approved_at", LocalDateTime.class))
+                .build();
     }
 }
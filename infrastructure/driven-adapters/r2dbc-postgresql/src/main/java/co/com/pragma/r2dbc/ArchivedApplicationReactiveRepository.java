@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.r2dbc.entity.ArchivedApplicationEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ArchivedApplicationReactiveRepository extends ReactiveCrudRepository<ArchivedApplicationEntity, UUID>,
+        ReactiveQueryByExampleExecutor<ArchivedApplicationEntity> {
+    @Query("WITH moved AS (" +
+            "DELETE FROM applications WHERE closed = TRUE AND (id, created_at) IN (" +
+            "SELECT id, created_at FROM applications " +
+            "WHERE closed = TRUE AND id_status = ANY(:statusIds) AND created_at < :createdBefore LIMIT :batchSize) " +
+            "RETURNING *), " +
+            "archived AS (" +
+            "INSERT INTO applications_archive (id, amount, term, email, id_document, id_status, id_loan_type, " +
+            "id_user, created_at, updated_at, approved_at) " +
+            "SELECT id, amount, term, email, id_document, id_status, id_loan_type, " +
+            "id_user, created_at, updated_at, approved_at FROM moved " +
+            "RETURNING id) " +
+            "SELECT COUNT(*) FROM archived")
+    Mono<Long> archiveCreatedBefore(UUID[] statusIds, LocalDateTime createdBefore, int batchSize);
+    @Query("SELECT drop_archived_applications_partitions(:createdBefore)")
+    Mono<Integer> dropArchivedPartitions(LocalDateTime createdBefore);
+}
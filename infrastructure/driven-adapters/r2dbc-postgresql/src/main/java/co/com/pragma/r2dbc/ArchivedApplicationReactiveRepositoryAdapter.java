@@ -0,0 +1,42 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.gateways.ArchivedApplicationRepository;
+import co.com.pragma.r2dbc.entity.ArchivedApplicationEntity;
+import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
+import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class ArchivedApplicationReactiveRepositoryAdapter extends ReactiveAdapterOperations<
+        Application,
+        ArchivedApplicationEntity,
+        UUID,
+        ArchivedApplicationReactiveRepository
+> implements ArchivedApplicationRepository {
+    public ArchivedApplicationReactiveRepositoryAdapter(ArchivedApplicationReactiveRepository repository,
+                                                        ObjectMapper mapper) {
+        super(repository, mapper, d -> mapper.map(d, Application.class));
+    }
+
+    @Override
+    public Mono<Long> archive(List<UUID> statusIds, LocalDateTime createdBefore, int batchSize) {
+        return repository.archiveCreatedBefore(statusIds.toArray(UUID[]::new), createdBefore, batchSize);
+    }
+
+    @Override
+    public Mono<Integer> dropArchivedPartitions(LocalDateTime createdBefore) {
+        return repository.dropArchivedPartitions(createdBefore);
+    }
+
+    @Override
+    public Mono<Application> findById(UUID id) {
+        return ReadOnlyRouting.readOnly(super.findById(id));
+    }
+}
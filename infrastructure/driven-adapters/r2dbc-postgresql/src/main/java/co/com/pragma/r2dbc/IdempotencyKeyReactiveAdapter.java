@@ -0,0 +1,81 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.idempotency.IdempotencyKey;
+import co.com.pragma.model.idempotency.gateways.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyReactiveAdapter implements IdempotencyKeyRepository {
+
+    // An unfinished reservation older than the lease belongs to an attempt that died, so it can be taken over.
+    // The lease outlives the registration timeout, and the new token fences off a late first attempt
+    static final String RESERVE = "INSERT INTO idempotency_keys " +
+            "(owner, idempotency_key, request_fingerprint, reservation_token) " +
+            "VALUES (:owner, :key, :fingerprint, :token) " +
+            "ON CONFLICT (owner, idempotency_key) DO UPDATE " +
+            "SET reserved_at = now(), request_fingerprint = EXCLUDED.request_fingerprint, " +
+            "reservation_token = EXCLUDED.reservation_token " +
+            "WHERE idempotency_keys.id_application IS NULL " +
+            "AND idempotency_keys.reserved_at < now() - interval '2 minutes'";
+    static final String FIND_BY_KEY = "SELECT request_fingerprint, id_application FROM idempotency_keys " +
+            "WHERE owner = :owner AND idempotency_key = :key";
+    static final String COMPLETE = "UPDATE idempotency_keys SET id_application = :idApplication " +
+            "WHERE owner = :owner AND idempotency_key = :key " +
+            "AND reservation_token = :token AND id_application IS NULL";
+    static final String RELEASE = "DELETE FROM idempotency_keys " +
+            "WHERE owner = :owner AND idempotency_key = :key " +
+            "AND reservation_token = :token AND id_application IS NULL";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Boolean> reserve(String owner, String key, String requestFingerprint, UUID reservationToken) {
+        return databaseClient.sql(RESERVE)
+                .bind("owner", owner)
+                .bind("key", key)
+                .bind("fingerprint", requestFingerprint)
+                .bind("token", reservationToken)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<IdempotencyKey> findByKey(String owner, String key) {
+        return databaseClient.sql(FIND_BY_KEY)
+                .bind("owner", owner)
+                .bind("key", key)
+                .map(row -> IdempotencyKey.builder()
+                        .requestFingerprint(row.get("request_fingerprint", String.class))
+                        .idApplication(row.get("id_application", UUID.class))
+                        .build())
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> complete(String owner, String key, UUID reservationToken, UUID applicationId) {
+        return databaseClient.sql(COMPLETE)
+                .bind("idApplication", applicationId)
+                .bind("owner", owner)
+                .bind("key", key)
+                .bind("token", reservationToken)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Void> release(String owner, String key, UUID reservationToken) {
+        return databaseClient.sql(RELEASE)
+                .bind("owner", owner)
+                .bind("key", key)
+                .bind("token", reservationToken)
+                .then();
+    }
+}
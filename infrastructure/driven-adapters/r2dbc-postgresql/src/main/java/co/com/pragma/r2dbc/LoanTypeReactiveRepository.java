@@ -1,12 +1,16 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.r2dbc.entity.LoanTypeEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
 public interface LoanTypeReactiveRepository extends ReactiveCrudRepository<LoanTypeEntity, UUID>, ReactiveQueryByExampleExecutor<LoanTypeEntity> {
     Mono<LoanTypeEntity> findByName(String name);
+    @Query("SELECT * FROM loan_types WHERE id = ANY(:ids)")
+    Flux<LoanTypeEntity> findByIdIn(UUID[] ids);
 }
@@ -4,6 +4,7 @@ import co.com.pragma.model.loantype.LoanType;
 import co.com.pragma.model.loantype.gateways.LoanTypeRepository;
 import co.com.pragma.r2dbc.entity.LoanTypeEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -25,18 +26,18 @@ public class LoanTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations
 
     @Override
     public Mono<LoanType> findById(UUID id){
-        return super.findById(id);
+        return ReadOnlyRouting.readOnly(super.findById(id));
     }
 
     @Override
     public Flux<LoanType> findByIds(List<UUID> ids){
-        return super.repository.findAllById(ids)
-                .map(this::toEntity);
+        return ReadOnlyRouting.readOnly(repository.findByIdIn(ids.toArray(UUID[]::new))
+                .map(this::toEntity));
     }
 
     @Override
     public Mono<LoanType> findByName(String name){
-        return repository.findByName(name)
-                .map(entity->mapper.map(entity, LoanType.class));
+        return ReadOnlyRouting.readOnly(repository.findByName(name)
+                .map(entity->mapper.map(entity, LoanType.class)));
     }
 }
@@ -0,0 +1,50 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.report.ReportApprovedDelta;
+import co.com.pragma.model.report.gateways.PendingReportDeltaRepository;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PendingReportDeltaReactiveAdapter implements PendingReportDeltaRepository {
+
+    static final String INSERT = "INSERT INTO pending_report_deltas (id, state, approved_count, total_amount) " +
+            "VALUES (:id, :state, :approvedCount, :totalAmount) ON CONFLICT (id) DO NOTHING";
+    static final String TAKE_ALL = "DELETE FROM pending_report_deltas " +
+            "RETURNING id, state, approved_count, total_amount";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> save(ReportApprovedDelta delta) {
+        return databaseClient.sql(INSERT)
+                .bind("id", delta.getDeltaId())
+                .bind("state", delta.getState())
+                .bind("approvedCount", delta.getApprovedCount())
+                .bind("totalAmount", delta.getTotalAmount())
+                .then();
+    }
+
+    @Override
+    public Flux<ReportApprovedDelta> takeAll() {
+        return databaseClient.sql(TAKE_ALL)
+                .map((row, metadata) -> toDelta(row))
+                .all();
+    }
+
+    static ReportApprovedDelta toDelta(Row row) {
+        return ReportApprovedDelta.builder()
+                .deltaId(row.get("id", UUID.class))
+                .state(row.get("state", String.class))
+                .approvedCount(row.get("approved_count", Long.class))
+                .totalAmount(row.get("total_amount", Double.class))
+                .build();
+    }
+}
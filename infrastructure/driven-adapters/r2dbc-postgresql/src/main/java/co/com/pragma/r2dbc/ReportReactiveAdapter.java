@@ -0,0 +1,77 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportDimension;
+import co.com.pragma.model.report.gateways.ReportRepository;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportReactiveAdapter implements ReportRepository {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<ReportBucket> aggregate(ReportCriteria criteria, List<UUID> statusIds) {
+        return ReadOnlyRouting.readOnly(databaseClient.sql(buildQuery(criteria))
+                .bind("statusIds", statusIds.toArray(UUID[]::new))
+                .bind("start", criteria.getStart())
+                .bind("end", criteria.getEnd())
+                .map((row, metadata) -> toBucket(row))
+                .all());
+    }
+
+    // Granularity and columns come from enums, so they are inlined and each report shape keeps one cached statement
+    static String buildQuery(ReportCriteria criteria) {
+        String column = criteria.getDateField() == ReportDateField.APPROVED_AT ? "approved_at" : "created_at";
+        boolean byLoanType = criteria.getGroupBy().contains(ReportDimension.LOAN_TYPE);
+        boolean byStatus = criteria.getGroupBy().contains(ReportDimension.STATUS);
+        String filter = " WHERE id_status = ANY(:statusIds) AND " + column + " >= :start AND " + column + " < :end" +
+                (column.equals("created_at") ? "" : " AND created_at < :end");
+        String source = "SELECT id_status, id_loan_type, amount, created_at, approved_at FROM applications" + filter +
+                " UNION ALL " +
+                "SELECT id_status, id_loan_type, amount, created_at, approved_at FROM applications_archive" + filter;
+
+        StringBuilder query = new StringBuilder("SELECT date_trunc('")
+                .append(criteria.getGranularity().getKey()).append("', a.").append(column).append(") AS period_start, ")
+                .append(byLoanType ? "lt.name" : "NULL::varchar").append(" AS loan_type_name, ")
+                .append(byStatus ? "s.name" : "NULL::varchar").append(" AS status_name, ")
+                .append("COUNT(*) AS applications_count, SUM(a.amount) AS total_amount ")
+                .append("FROM (").append(source).append(") a");
+        if (byLoanType) {
+            query.append(" JOIN loan_types lt ON lt.id = a.id_loan_type");
+        }
+        if (byStatus) {
+            query.append(" JOIN status s ON s.id = a.id_status");
+        }
+        query.append(" GROUP BY period_start")
+                .append(byLoanType ? ", lt.name" : "")
+                .append(byStatus ? ", s.name" : "")
+                .append(" ORDER BY period_start")
+                .append(byLoanType ? ", loan_type_name" : "")
+                .append(byStatus ? ", status_name" : "");
+        return query.toString();
+    }
+
+    static ReportBucket toBucket(Row row) {
+        Long count = row.get("applications_count", Long.class);
+        return ReportBucket.builder()
+                .periodStart(row.get("period_start", LocalDateTime.class))
+                .loanTypeName(row.get("loan_type_name", String.class))
+                .statusName(row.get("status_name", String.class))
+                .applicationsCount(count != null ? count : 0L)
+                .totalAmount(row.get("total_amount", Double.class))
+                .build();
+    }
+}
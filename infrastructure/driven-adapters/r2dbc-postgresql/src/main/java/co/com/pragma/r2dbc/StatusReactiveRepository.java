@@ -1,16 +1,19 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.r2dbc.entity.StatusEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface StatusReactiveRepository extends ReactiveCrudRepository<StatusEntity, UUID>, ReactiveQueryByExampleExecutor<StatusEntity> {
     Mono<StatusEntity> findByName(String name);
     Mono<StatusEntity> findByNameIgnoreCase(String name);
-    Flux<StatusEntity> findByNameIn(List<String> names);
+    @Query("SELECT * FROM status WHERE name = ANY(:names)")
+    Flux<StatusEntity> findByNameIn(String[] names);
+    @Query("SELECT * FROM status WHERE LOWER(name) = ANY(:names)")
+    Flux<StatusEntity> findByLowerNameIn(String[] names);
 }
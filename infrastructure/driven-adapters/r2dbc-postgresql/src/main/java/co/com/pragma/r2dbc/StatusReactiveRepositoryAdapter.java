@@ -4,12 +4,14 @@ import co.com.pragma.model.status.Status;
 import co.com.pragma.model.status.gateways.StatusRepository;
 import co.com.pragma.r2dbc.entity.StatusEntity;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.routing.ReadOnlyRouting;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Repository
@@ -25,24 +27,33 @@ public class StatusReactiveRepositoryAdapter extends ReactiveAdapterOperations<
 
     @Override
     public Mono<Status> findById(UUID id){
-        return super.findById(id);
+        return ReadOnlyRouting.readOnly(super.findById(id));
     }
 
     @Override
     public Mono<Status> findByName(String name){
-        return repository.findByName(name)
-                .map(entity->mapper.map(entity, Status.class));
+        return ReadOnlyRouting.readOnly(repository.findByName(name)
+                .map(entity->mapper.map(entity, Status.class)));
     }
 
     @Override
     public Mono<Status> findByNameIgnoreCase(String name){
-        return repository.findByNameIgnoreCase(name)
-                .map(entity->mapper.map(entity, Status.class));
+        return ReadOnlyRouting.readOnly(repository.findByNameIgnoreCase(name)
+                .map(entity->mapper.map(entity, Status.class)));
     }
 
     @Override
     public Flux<Status> findByNames(List<String> names) {
-        return repository.findByNameIn(names)
-                .map(entity -> mapper.map(entity, Status.class));
+        return ReadOnlyRouting.readOnly(repository.findByNameIn(names.toArray(String[]::new))
+                .map(entity -> mapper.map(entity, Status.class)));
+    }
+
+    @Override
+    public Flux<Status> findByNamesIgnoreCase(List<String> names) {
+        String[] lowerNames = names.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        return ReadOnlyRouting.readOnly(repository.findByLowerNameIn(lowerNames)
+                .map(entity -> mapper.map(entity, Status.class)));
     }
 }
@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.model.gateways.LoadSignal;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConnectionPoolLoadSignal implements LoadSignal {
+
+    private final ConnectionPool connectionPool;
+
+    public ConnectionPoolLoadSignal(@Qualifier("getConnectionConfig") ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public String name() {
+        return DB;
+    }
+
+    @Override
+    public int pending() {
+        return connectionPool.getMetrics()
+                .map(PoolMetrics::pendingAcquireSize)
+                .orElse(0);
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.pragma.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+public class InstrumentedConnectionPool extends ConnectionPool {
+
+    private final Timer acquiredTimer;
+    private final Timer failedTimer;
+
+    public InstrumentedConnectionPool(ConnectionPoolConfiguration configuration, String name, MeterRegistry registry) {
+        super(configuration);
+        this.acquiredTimer = acquireTimer(name, "success", registry);
+        this.failedTimer = acquireTimer(name, "error", registry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(connection -> acquiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Timer acquireTimer(String name, String outcome, MeterRegistry registry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting for a connection from the pool")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
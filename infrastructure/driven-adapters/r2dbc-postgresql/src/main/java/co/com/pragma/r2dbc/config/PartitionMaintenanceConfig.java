@@ -0,0 +1,28 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.partition.ApplicationPartitionMaintainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@ConditionalOnProperty(prefix = "adapters.r2dbc.partitions", name = "enabled", havingValue = "true")
+public class PartitionMaintenanceConfig {
+
+    private static final String ENSURE_PARTITIONS_QUERY =
+            "SELECT ensure_applications_partitions(CURRENT_DATE, :monthsAhead) AS created";
+
+    @Bean
+    public ApplicationPartitionMaintainer applicationPartitionMaintainer(DatabaseClient databaseClient,
+                                                                         PostgresqlConnectionProperties properties) {
+        PostgresqlConnectionProperties.Partitions partitions = properties.partitions();
+        Mono<Integer> ensurePartitions = databaseClient.sql(ENSURE_PARTITIONS_QUERY)
+                .bind("monthsAhead", partitions.monthsAhead())
+                .map(row -> row.get("created", Integer.class))
+                .one();
+
+        return new ApplicationPartitionMaintainer(ensurePartitions, partitions.checkInterval());
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.pragma.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
@@ -8,37 +9,57 @@ import io.r2dbc.postgresql.client.SSLMode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
     public static final int DEFAULT_PORT = 5432;
 
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
-		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties, MeterRegistry meterRegistry) {
+		PostgresqlConnectionConfiguration.Builder dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
                 .database(properties.database())
                 .schema(properties.schema())
                 .username(properties.username())
                 .password(properties.password())
-                .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE)
-                .build();
+                .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE);
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
-
-		return new ConnectionPool(poolConfiguration);
+		return createPool(withStatements(dbConfiguration, properties.statements()).build(),
+                properties.pool(), properties.pool().name(), meterRegistry);
 	}
-}
\ No newline at end of file
+
+    static PostgresqlConnectionConfiguration.Builder withStatements(PostgresqlConnectionConfiguration.Builder builder,
+                                                                   PostgresqlConnectionProperties.Statements statements) {
+        builder.preparedStatementCacheQueries(statements.preparedStatementCacheQueries())
+                .forceBinary(statements.forceBinary())
+                .fetchSize(statements.fetchSize());
+
+        if (statements.statementTimeout() != null) {
+            builder.statementTimeout(statements.statementTimeout());
+        }
+        return builder;
+    }
+
+    static ConnectionPool createPool(PostgresqlConnectionConfiguration dbConfiguration,
+                                     PostgresqlConnectionProperties.Pool pool,
+                                     String name,
+                                     MeterRegistry meterRegistry) {
+        ConnectionPoolConfiguration.Builder poolConfiguration = ConnectionPoolConfiguration.builder()
+                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .validationDepth(pool.validationDepth());
+
+        if (pool.validationQuery() != null && !pool.validationQuery().isBlank()) {
+            poolConfiguration.validationQuery(pool.validationQuery());
+        }
+
+        return new InstrumentedConnectionPool(poolConfiguration.build(), name, meterRegistry);
+    }
+}
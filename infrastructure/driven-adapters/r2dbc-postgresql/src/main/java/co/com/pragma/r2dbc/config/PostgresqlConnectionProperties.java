@@ -1,7 +1,11 @@
 package co.com.pragma.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
@@ -11,5 +15,46 @@ public record PostgresqlConnectionProperties(
         String schema,
         String username,
         String password,
-        boolean ssl) {
+        boolean ssl,
+        @DefaultValue Pool pool,
+        @DefaultValue Statements statements,
+        @DefaultValue Partitions partitions,
+        @DefaultValue Replica replica) {
+
+    public record Pool(
+            @DefaultValue("api-postgres-connection-pool") String name,
+            @DefaultValue("12") int initialSize,
+            @DefaultValue("15") int maxSize,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("5s") Duration maxAcquireTime,
+            @DefaultValue("5s") Duration maxCreateConnectionTime,
+            @DefaultValue("30m") Duration maxLifeTime,
+            @DefaultValue("1m") Duration backgroundEvictionInterval,
+            @DefaultValue("LOCAL") ValidationDepth validationDepth,
+            String validationQuery) {
+    }
+
+    public record Statements(
+            @DefaultValue("256") int preparedStatementCacheQueries,
+            @DefaultValue("false") boolean forceBinary,
+            @DefaultValue("0") int fetchSize,
+            Duration statementTimeout) {
+    }
+
+    public record Partitions(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("3") int monthsAhead,
+            @DefaultValue("12h") Duration checkInterval) {
+    }
+
+    public record Replica(
+            @DefaultValue("false") boolean enabled,
+            String host,
+            Integer port,
+            String username,
+            String password,
+            @DefaultValue("10s") Duration maxLag,
+            @DefaultValue("5s") Duration lagCheckInterval,
+            @DefaultValue Pool pool) {
+    }
 }
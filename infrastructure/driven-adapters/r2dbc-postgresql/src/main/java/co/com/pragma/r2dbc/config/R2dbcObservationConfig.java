@@ -0,0 +1,38 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import io.micrometer.observation.ObservationRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.observation.ObservationProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ImportRuntimeHints(R2dbcProxyRuntimeHints.class)
+public class R2dbcObservationConfig {
+
+    /**
+     * Wraps the pool (or the replica router when enabled) so every query opens an {@code r2dbc.query} observation.
+     */
+    @Bean
+    @Primary
+    public ConnectionFactory observedConnectionFactory(@Qualifier("getConnectionConfig") ConnectionPool primaryConnectionPool,
+                                                       ObjectProvider<ReadReplicaRoutingConnectionFactory> routingConnectionFactory,
+                                                       ObjectProvider<ObservationRegistry> observationRegistry,
+                                                       PostgresqlConnectionProperties properties) {
+        ConnectionFactory target = routingConnectionFactory.getIfAvailable(() -> primaryConnectionPool);
+        String url = "r2dbc:postgresql://" + properties.host() + ":" + properties.port() + "/" + properties.database();
+
+        ObservationProxyExecutionListener listener = new ObservationProxyExecutionListener(
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP), target, url);
+        return ProxyConnectionFactory.builder(target)
+                .listener(listener)
+                .build();
+    }
+}
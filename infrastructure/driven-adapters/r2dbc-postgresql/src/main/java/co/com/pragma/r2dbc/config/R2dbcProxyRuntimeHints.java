@@ -0,0 +1,33 @@
+package co.com.pragma.r2dbc.config;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * r2dbc-proxy wraps the SPI objects in JDK proxies, which native images only support for interface sets
+ * declared at build time. The sets mirror the ones its JdkProxyFactory creates.
+ */
+class R2dbcProxyRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final TypeReference WRAPPED = TypeReference.of(Wrapped.class);
+    private static final TypeReference CONNECTION_HOLDER = TypeReference.of("io.r2dbc.proxy.callback.ConnectionHolder");
+    private static final TypeReference PROXY_CONFIG_HOLDER = TypeReference.of("io.r2dbc.proxy.callback.ProxyConfigHolder");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies().registerJdkProxy(TypeReference.of(ConnectionFactory.class), WRAPPED, PROXY_CONFIG_HOLDER);
+        List.of(Connection.class, Batch.class, Statement.class, Result.class, Row.class, Result.RowSegment.class)
+                .forEach(type -> hints.proxies().registerJdkProxy(
+                        TypeReference.of(type), WRAPPED, CONNECTION_HOLDER, PROXY_CONFIG_HOLDER));
+    }
+}
@@ -0,0 +1,61 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.routing.ReadReplicaRoutingConnectionFactory;
+import co.com.pragma.r2dbc.routing.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.client.SSLMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) " +
+            "END::float8 AS lag_seconds";
+
+    @Bean
+    public ConnectionPool replicaConnectionPool(PostgresqlConnectionProperties properties, MeterRegistry meterRegistry) {
+        PostgresqlConnectionProperties.Replica replica = properties.replica();
+        PostgresqlConnectionConfiguration.Builder dbConfiguration = PostgresqlConnectionConfiguration.builder()
+                .host(replica.host())
+                .port(replica.port() != null ? replica.port() : properties.port())
+                .database(properties.database())
+                .schema(properties.schema())
+                .username(replica.username() != null ? replica.username() : properties.username())
+                .password(replica.password() != null ? replica.password() : properties.password())
+                .sslMode(properties.ssl() ? SSLMode.REQUIRE : SSLMode.DISABLE);
+
+        return PostgreSQLConnectionPool.createPool(
+                PostgreSQLConnectionPool.withStatements(dbConfiguration, properties.statements()).build(), replica.pool(),
+                replica.pool().name() + "-replica", meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaConnectionPool") ConnectionPool replicaConnectionPool,
+                                               PostgresqlConnectionProperties properties) {
+        Mono<Duration> lagProbe = DatabaseClient.create(replicaConnectionPool)
+                .sql(LAG_QUERY)
+                .map(row -> Duration.ofMillis(Math.round(row.get("lag_seconds", Double.class) * 1000)))
+                .one();
+
+        return new ReplicaLagMonitor(lagProbe, properties.replica().maxLag(), properties.replica().lagCheckInterval());
+    }
+
+    @Bean
+    public ReadReplicaRoutingConnectionFactory routingConnectionFactory(@Qualifier("getConnectionConfig") ConnectionPool primaryConnectionPool,
+                                                      @Qualifier("replicaConnectionPool") ConnectionPool replicaConnectionPool,
+                                                      ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadReplicaRoutingConnectionFactory(primaryConnectionPool, replicaConnectionPool, replicaLagMonitor);
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.pragma.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table("applications_archive")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ArchivedApplicationEntity {
+
+    @Id
+    private UUID id;
+    private Double amount;
+    private Integer term;
+    private String email;
+    private String idDocument;
+    private UUID idStatus;
+    private UUID idLoanType;
+    private UUID idUser;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime approvedAt;
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,51 @@
+package co.com.pragma.r2dbc.partition;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Log4j2
+public class ApplicationPartitionMaintainer implements InitializingBean, DisposableBean {
+
+    private final Mono<Integer> ensurePartitions;
+    private final Duration checkInterval;
+
+    private Disposable subscription;
+
+    public ApplicationPartitionMaintainer(Mono<Integer> ensurePartitions, Duration checkInterval) {
+        this.ensurePartitions = ensurePartitions;
+        this.checkInterval = checkInterval;
+    }
+
+    Mono<Integer> maintain() {
+        return ensurePartitions
+                .doOnNext(created -> {
+                    if (created > 0) {
+                        log.info("Created {} applications partitions", created);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Applications partition maintenance failed: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(Duration.ZERO, checkInterval)
+                .concatMap(tick -> maintain())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
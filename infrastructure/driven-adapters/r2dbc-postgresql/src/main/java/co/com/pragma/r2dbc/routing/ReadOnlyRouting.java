@@ -0,0 +1,25 @@
+package co.com.pragma.r2dbc.routing;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+public final class ReadOnlyRouting {
+
+    static final String READ_ONLY_KEY = ReadOnlyRouting.class.getName() + ".READ_ONLY";
+
+    private ReadOnlyRouting() {
+    }
+
+    public static <T> Mono<T> readOnly(Mono<T> query) {
+        return query.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> readOnly(Flux<T> query) {
+        return query.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    static boolean isReadOnly(ContextView context) {
+        return context.getOrDefault(READ_ONLY_KEY, Boolean.FALSE);
+    }
+}
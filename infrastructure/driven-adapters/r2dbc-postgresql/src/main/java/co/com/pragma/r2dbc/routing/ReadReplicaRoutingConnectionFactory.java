@@ -0,0 +1,29 @@
+package co.com.pragma.r2dbc.routing;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadReplicaRoutingConnectionFactory(ConnectionFactory primary,
+                                               ConnectionFactory replica,
+                                               ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetConnectionFactories(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(
+                ReadOnlyRouting.isReadOnly(context) && lagMonitor.isReplicaUsable() ? REPLICA : PRIMARY));
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.pragma.r2dbc.routing;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Log4j2
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+
+    private final Mono<Duration> lagProbe;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean replicaUsable;
+    private Disposable subscription;
+
+    public ReplicaLagMonitor(Mono<Duration> lagProbe, Duration maxLag, Duration checkInterval) {
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    Mono<Boolean> checkLag() {
+        return lagProbe
+                .map(lag -> lag.compareTo(maxLag) <= 0)
+                .timeout(checkInterval)
+                .onErrorResume(error -> {
+                    log.warn("Replica lag check failed, routing reads to primary: {}", error.getMessage());
+                    return Mono.just(false);
+                })
+                .defaultIfEmpty(false)
+                .doOnNext(usable -> {
+                    if (usable != replicaUsable) {
+                        log.info("Read replica is now {}", usable ? "in use" : "bypassed");
+                    }
+                    replicaUsable = usable;
+                });
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(Duration.ZERO, checkInterval)
+                .concatMap(tick -> checkLag())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS status (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS loan_types (
+    id                   UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    name                 VARCHAR(100)   NOT NULL,
+    min_amount           NUMERIC(15, 2) NOT NULL,
+    max_amount           NUMERIC(15, 2) NOT NULL,
+    interest_rate        NUMERIC(5, 2)  NOT NULL,
+    automatic_validation BOOLEAN        NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    id           UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    amount       NUMERIC(15, 2) NOT NULL,
+    term         INTEGER        NOT NULL,
+    email        VARCHAR(255)   NOT NULL,
+    id_document  VARCHAR(50)    NOT NULL,
+    id_status    UUID           NOT NULL REFERENCES status (id),
+    id_loan_type UUID           NOT NULL REFERENCES loan_types (id),
+    id_user      UUID           NOT NULL,
+    created_at   TIMESTAMP      NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP
+);
+
+INSERT INTO status (name, description)
+SELECT v.name, v.description
+FROM (VALUES ('Pending Review', 'Application awaiting review'),
+             ('Manual Review', 'Application requires a manual review'),
+             ('Approved', 'Application approved'),
+             ('Rejected', 'Application rejected')) AS v(name, description)
+WHERE NOT EXISTS (SELECT 1 FROM status s WHERE s.name = v.name);
@@ -0,0 +1,19 @@
+CREATE UNIQUE INDEX IF NOT EXISTS ux_status_name ON status (name);
+CREATE INDEX IF NOT EXISTS ix_status_lower_name ON status (LOWER(name));
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_loan_types_name ON loan_types (name);
+
+-- findByIdStatusIn / countByIdStatusIn: paged advisor listing by status, default order by amount
+CREATE INDEX IF NOT EXISTS ix_applications_status_amount
+    ON applications (id_status, amount);
+
+-- findByIdUserAndIdStatus / findActiveLoansByIdUser
+CREATE INDEX IF NOT EXISTS ix_applications_user_status
+    ON applications (id_user, id_status);
+
+-- findByStatusAndApprovedDateBetween: only approved rows carry approved_at
+CREATE INDEX IF NOT EXISTS ix_applications_status_approved_at
+    ON applications (id_status, approved_at)
+    WHERE approved_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS ix_applications_loan_type ON applications (id_loan_type);
@@ -0,0 +1,148 @@
+-- Open applications (in review or approved) are the working set every hot query reads, so they stay in one
+-- partition whose size follows the live applications, not their history. Closed ones only wait for the archival
+-- job: they are split by month, and months the job has emptied are dropped.
+ALTER TABLE status ADD COLUMN IF NOT EXISTS closed BOOLEAN NOT NULL DEFAULT FALSE;
+UPDATE status SET closed = TRUE WHERE name = 'Rejected';
+
+CREATE OR REPLACE FUNCTION ensure_applications_partitions(from_month DATE, months_ahead INTEGER)
+    RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    month_start    DATE;
+    month_end      DATE;
+    partition_name TEXT;
+    created        INTEGER := 0;
+BEGIN
+    FOR i IN 0..months_ahead
+        LOOP
+            month_start := (date_trunc('month', from_month) + make_interval(months => i))::DATE;
+            month_end := (month_start + INTERVAL '1 month')::DATE;
+            partition_name := format('applications_closed_%s', to_char(month_start, 'YYYY_MM'));
+            IF to_regclass(partition_name) IS NULL THEN
+                -- Rows of the month already in the DEFAULT partition would make the new bounds fail:
+                -- park them, create the partition and route them back through the parent
+                CREATE TEMP TABLE IF NOT EXISTS applications_closed_parked (LIKE applications_closed) ON COMMIT DROP;
+                WITH parked AS (
+                    DELETE FROM applications_closed_default
+                        WHERE created_at >= month_start AND created_at < month_end
+                        RETURNING *)
+                INSERT INTO applications_closed_parked SELECT * FROM parked;
+                EXECUTE format('CREATE TABLE %I PARTITION OF applications_closed FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, month_end);
+                INSERT INTO applications_closed SELECT * FROM applications_closed_parked;
+                TRUNCATE applications_closed_parked;
+                created := created + 1;
+            END IF;
+        END LOOP;
+    RETURN created;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION drop_archived_applications_partitions(created_before TIMESTAMP)
+    RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_name TEXT;
+    is_empty       BOOLEAN;
+    dropped        INTEGER := 0;
+BEGIN
+    -- Held until commit so no closed row is routed into a month between its emptiness check and its drop;
+    -- hot queries prune applications_closed away at plan time and do not wait on it
+    LOCK TABLE applications_closed IN ACCESS EXCLUSIVE MODE;
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'applications_closed'::regclass
+          AND c.relname ~ '^applications_closed_[0-9]{4}_[0-9]{2}$'
+          AND to_date(right(c.relname, 7), 'YYYY_MM') + INTERVAL '1 month' <= created_before
+        LOOP
+            EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', partition_name) INTO is_empty;
+            IF is_empty THEN
+                EXECUTE format('DROP TABLE %I', partition_name);
+                dropped := dropped + 1;
+            END IF;
+        END LOOP;
+    RETURN dropped;
+END;
+$$;
+
+DROP INDEX IF EXISTS ix_applications_status_amount;
+DROP INDEX IF EXISTS ix_applications_user_status;
+DROP INDEX IF EXISTS ix_applications_status_approved_at;
+DROP INDEX IF EXISTS ix_applications_loan_type;
+
+ALTER TABLE applications RENAME TO applications_unpartitioned;
+ALTER TABLE applications_unpartitioned RENAME CONSTRAINT applications_pkey TO applications_unpartitioned_pkey;
+
+CREATE TABLE applications (
+    id           UUID           NOT NULL DEFAULT gen_random_uuid(),
+    amount       NUMERIC(15, 2) NOT NULL,
+    term         INTEGER        NOT NULL,
+    email        VARCHAR(255)   NOT NULL,
+    id_document  VARCHAR(50)    NOT NULL,
+    id_status    UUID           NOT NULL REFERENCES status (id),
+    id_loan_type UUID           NOT NULL REFERENCES loan_types (id),
+    id_user      UUID           NOT NULL,
+    created_at   TIMESTAMP      NOT NULL DEFAULT now(),
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP,
+    closed       BOOLEAN        NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, closed, created_at)
+) PARTITION BY LIST (closed);
+
+CREATE TABLE applications_open PARTITION OF applications FOR VALUES IN (FALSE);
+CREATE TABLE applications_closed PARTITION OF applications FOR VALUES IN (TRUE) PARTITION BY RANGE (created_at);
+CREATE TABLE applications_closed_default PARTITION OF applications_closed DEFAULT;
+
+DO
+$$
+    DECLARE
+        first_month DATE := date_trunc('month',
+                COALESCE((SELECT MIN(u.created_at)
+                          FROM applications_unpartitioned u
+                                   JOIN status s ON s.id = u.id_status
+                          WHERE s.closed), now()))::DATE;
+        span        INTERVAL := age(date_trunc('month', now()), first_month);
+    BEGIN
+        PERFORM ensure_applications_partitions(first_month,
+                (EXTRACT(YEAR FROM span) * 12 + EXTRACT(MONTH FROM span))::INTEGER + 3);
+    END
+$$;
+
+INSERT INTO applications (id, amount, term, email, id_document, id_status, id_loan_type, id_user,
+                          created_at, updated_at, approved_at, closed)
+SELECT u.id, u.amount, u.term, u.email, u.id_document, u.id_status, u.id_loan_type, u.id_user,
+       COALESCE(u.created_at, now()), u.updated_at, u.approved_at, s.closed
+FROM applications_unpartitioned u
+         JOIN status s ON s.id = u.id_status;
+
+DROP TABLE applications_unpartitioned;
+
+CREATE INDEX ix_applications_status_amount ON applications (id_status, amount);
+CREATE INDEX ix_applications_user_status ON applications (id_user, id_status);
+CREATE INDEX ix_applications_status_approved_at ON applications (id_status, approved_at)
+    WHERE approved_at IS NOT NULL;
+CREATE INDEX ix_applications_loan_type ON applications (id_loan_type);
+CREATE INDEX ix_applications_status_created ON applications (id_status, created_at);
+
+CREATE TABLE IF NOT EXISTS applications_archive (
+    id           UUID PRIMARY KEY,
+    amount       NUMERIC(15, 2) NOT NULL,
+    term         INTEGER        NOT NULL,
+    email        VARCHAR(255)   NOT NULL,
+    id_document  VARCHAR(50)    NOT NULL,
+    id_status    UUID           NOT NULL REFERENCES status (id),
+    id_loan_type UUID           NOT NULL REFERENCES loan_types (id),
+    id_user      UUID           NOT NULL,
+    created_at   TIMESTAMP      NOT NULL,
+    updated_at   TIMESTAMP,
+    approved_at  TIMESTAMP,
+    archived_at  TIMESTAMP      NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS ix_applications_archive_user ON applications_archive (id_user, created_at DESC);
@@ -0,0 +1,7 @@
+-- Advisor listing sort keys (SortField): filter by status, order by the sort key, tie-break on id
+DROP INDEX IF EXISTS ix_applications_status_amount;
+DROP INDEX IF EXISTS ix_applications_status_created;
+
+CREATE INDEX ix_applications_status_amount_id ON applications (id_status, amount, id);
+CREATE INDEX ix_applications_status_term_id ON applications (id_status, term, id);
+CREATE INDEX ix_applications_status_created_id ON applications (id_status, created_at, id);
@@ -0,0 +1,2 @@
+-- Time series reports read archived rows too, filtered by status and creation date
+CREATE INDEX IF NOT EXISTS ix_applications_archive_status_created ON applications_archive (id_status, created_at);
@@ -0,0 +1,8 @@
+-- Report deltas that could not be published before shutdown, replayed on the next start
+CREATE TABLE IF NOT EXISTS pending_report_deltas (
+    id             UUID PRIMARY KEY,
+    state          VARCHAR(50)    NOT NULL,
+    approved_count BIGINT         NOT NULL,
+    total_amount   NUMERIC(17, 2) NOT NULL,
+    created_at     TIMESTAMP      NOT NULL DEFAULT now()
+);
@@ -0,0 +1,11 @@
+-- Idempotency-Key reservations for POST /requests; id_application stays NULL while the first attempt runs.
+-- reservation_token fences the attempt holding the lease, request_fingerprint identifies the request that claimed it
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    owner               VARCHAR(50)  NOT NULL,
+    idempotency_key     VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(64)  NOT NULL,
+    reservation_token   UUID         NOT NULL,
+    id_application      UUID,
+    reserved_at         TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (owner, idempotency_key)
+);
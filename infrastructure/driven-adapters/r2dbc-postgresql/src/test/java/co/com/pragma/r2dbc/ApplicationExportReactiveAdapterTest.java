@@ -0,0 +1,143 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationExportReactiveAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    RowsFetchSpec<ApprovedApplicationExport> rows;
+
+    ApplicationExportReactiveAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ApplicationExportReactiveAdapter(databaseClient, 250);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubQuery() {
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.filter(any(Function.class))).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("Should read the range in approval order without a resume condition")
+    void shouldExportWholeRange() {
+        stubQuery();
+        StepVerifier.create(adapter.findApprovedBetween(START, END, null, null))
+                .verifyComplete();
+
+        verify(databaseClient).sql(ApplicationExportReactiveAdapter.SELECT_APPROVED
+                + ApplicationExportReactiveAdapter.ORDER_BY);
+        verify(spec, never()).bind(eq("afterId"), any());
+    }
+
+    @Test
+    @DisplayName("Should resume after the last exported id")
+    void shouldResumeAfterId() {
+        stubQuery();
+        UUID afterId = UUID.randomUUID();
+        LocalDateTime afterApprovedAt = START.plusDays(3);
+
+        StepVerifier.create(adapter.findApprovedBetween(START, END, afterApprovedAt, afterId))
+                .verifyComplete();
+
+        verify(databaseClient).sql(ApplicationExportReactiveAdapter.SELECT_APPROVED
+                + ApplicationExportReactiveAdapter.AFTER_ID + ApplicationExportReactiveAdapter.ORDER_BY);
+        verify(spec).bind("afterApprovedAt", afterApprovedAt);
+        verify(spec).bind("afterId", afterId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should resolve the approval time of a resume cursor")
+    void shouldFindCursorApprovedAt() {
+        UUID id = UUID.randomUUID();
+        RowsFetchSpec<LocalDateTime> cursor = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(ApplicationExportReactiveAdapter.SELECT_CURSOR)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(cursor);
+        when(cursor.one()).thenReturn(Mono.just(START));
+
+        StepVerifier.create(adapter.findApprovedAt(id, START, END))
+                .expectNext(START)
+                .verifyComplete();
+
+        verify(spec).bind("id", id);
+    }
+
+    @Test
+    @DisplayName("Should fetch rows from the cursor in batches of the configured size")
+    @SuppressWarnings("unchecked")
+    void shouldApplyFetchSize() {
+        stubQuery();
+        adapter.findApprovedBetween(START, END, null, null).blockLast();
+
+        ArgumentCaptor<Function<Statement, Statement>> filter = ArgumentCaptor.forClass(Function.class);
+        verify(spec).filter(filter.capture());
+        Statement statement = mock(Statement.class);
+        filter.getValue().apply(statement);
+        verify(statement).fetchSize(250);
+    }
+
+    @Test
+    @DisplayName("Should map a joined row with loan type and status names")
+    void shouldMapRow() {
+        UUID id = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.get("id", UUID.class)).thenReturn(id);
+        when(row.get("amount", Double.class)).thenReturn(15000.0);
+        when(row.get("loan_type_name", String.class)).thenReturn("Personal");
+        when(row.get("status_name", String.class)).thenReturn("Approved");
+        when(row.get("approved_at", LocalDateTime.class)).thenReturn(START);
+
+        ApprovedApplicationExport export = ApplicationExportReactiveAdapter.toExport(row);
+
+        assertEquals(id, export.getId());
+        assertEquals(15000.0, export.getAmount());
+        assertEquals("Personal", export.getLoanTypeName());
+        assertEquals("Approved", export.getStatusName());
+        assertEquals(START, export.getApprovedAt());
+    }
+}
@@ -3,6 +3,7 @@ package co.com.pragma.r2dbc;
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.pagination.SortField;
 import co.com.pragma.r2dbc.entity.ApplicationEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -22,8 +22,13 @@ import reactor.test.StepVerifier;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +43,15 @@ class ApplicationReactiveRepositoryAdapterTest {
     @Mock
     ObjectMapper mapper;
 
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    DatabaseClient.GenericExecuteSpec spec;
+
+    @Mock
+    RowsFetchSpec<ApplicationEntity> rows;
+
     private Application domain;
     private ApplicationEntity entity;
     private CustomPageable customPageable;
@@ -69,11 +83,19 @@ class ApplicationReactiveRepositoryAdapterTest {
         customPageable = CustomPageable.builder()
                 .page(0)
                 .size(10)
-                .sortBy("id")
+                .sortBy(SortField.AMOUNT)
                 .sortDirection("asc")
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubPageQuery(Flux<ApplicationEntity> result) {
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(result);
+    }
+
     @Test
     @DisplayName("Should return saved application when save succeeds")
     void saveShouldReturnSavedApplication() {
@@ -133,12 +155,8 @@ class ApplicationReactiveRepositoryAdapterTest {
         List<ApplicationEntity> entityList = List.of(entity);
         long totalCount = 1L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.fromIterable(entityList));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
+        stubPageQuery(Flux.fromIterable(entityList));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(totalCount));
         when(mapper.map(entity, Application.class)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
@@ -149,6 +167,15 @@ class ApplicationReactiveRepositoryAdapterTest {
                                 customPage.getCurrentPage() == customPageable.getPage() &&
                                 customPage.getPageSize() == customPageable.getSize())
                 .verifyComplete();
+
+        verify(databaseClient).sql("SELECT a.* FROM unnest(CAST(:statusIds AS uuid[])) AS s(id_status) " +
+                "CROSS JOIN LATERAL (SELECT * FROM applications WHERE closed = FALSE AND id_status = s.id_status " +
+                "ORDER BY amount ASC, id ASC LIMIT :window) a " +
+                "ORDER BY a.amount ASC, a.id ASC LIMIT :limit OFFSET :offset");
+        verify(spec).bind("statusIds", statusIds.toArray(UUID[]::new));
+        verify(spec).bind("window", 10L);
+        verify(spec).bind("limit", 10);
+        verify(spec).bind("offset", 0L);
     }
 
     @Test
@@ -157,12 +184,8 @@ class ApplicationReactiveRepositoryAdapterTest {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         long totalCount = 0L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.empty());
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
+        stubPageQuery(Flux.empty());
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(totalCount));
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
                 .expectNextMatches(customPage ->
@@ -207,12 +230,8 @@ class ApplicationReactiveRepositoryAdapterTest {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         RuntimeException error = new RuntimeException("Count error");
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.just(entity));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.error(error));
+        stubPageQuery(Flux.just(entity));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.error(error));
         when(mapper.map(entity, Application.class)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
@@ -231,16 +250,12 @@ class ApplicationReactiveRepositoryAdapterTest {
         CustomPageable customPageable = CustomPageable.builder()
                 .page(0)
                 .size(10)
-                .sortBy("id")
+                .sortBy(SortField.AMOUNT)
                 .sortDirection("desc")
                 .build();
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.DESC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.fromIterable(entityList));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
+        stubPageQuery(Flux.fromIterable(entityList));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(totalCount));
         when(mapper.map(entity, Application.class)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
@@ -248,6 +263,11 @@ class ApplicationReactiveRepositoryAdapterTest {
                         customPage.getContent().size() == 1 &&
                                 customPage.getTotalElements() == totalCount)
                 .verifyComplete();
+
+        verify(databaseClient).sql("SELECT a.* FROM unnest(CAST(:statusIds AS uuid[])) AS s(id_status) " +
+                "CROSS JOIN LATERAL (SELECT * FROM applications WHERE closed = FALSE AND id_status = s.id_status " +
+                "ORDER BY amount DESC, id DESC LIMIT :window) a " +
+                "ORDER BY a.amount DESC, a.id DESC LIMIT :limit OFFSET :offset");
     }
 
     @Test
@@ -256,12 +276,8 @@ class ApplicationReactiveRepositoryAdapterTest {
         List<UUID> statusIds = List.of(UUID.randomUUID());
         RuntimeException error = new RuntimeException("DB find error");
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.error(error));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(0L));
+        stubPageQuery(Flux.error(error));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(0L));
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException
@@ -292,12 +308,8 @@ class ApplicationReactiveRepositoryAdapterTest {
         List<ApplicationEntity> entityList = List.of(entity, entity, entity);
         long totalCount = 15L;
 
-        Pageable pageable = PageRequest.of(customPageable.getPage(), customPageable.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageable.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.fromIterable(entityList));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
+        stubPageQuery(Flux.fromIterable(entityList));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(totalCount));
         when(mapper.map(entity, Application.class)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageable))
@@ -411,21 +423,112 @@ class ApplicationReactiveRepositoryAdapterTest {
         CustomPageable customPageableWithPage = CustomPageable.builder()
                 .page(1)
                 .size(5)
-                .sortBy("id")
+                .sortBy(SortField.AMOUNT)
                 .sortDirection("asc")
                 .build();
 
-        Pageable pageable = PageRequest.of(customPageableWithPage.getPage(), customPageableWithPage.getSize(),
-                Sort.by(Sort.Direction.ASC, customPageableWithPage.getSortBy()));
-
-        when(repository.findByIdStatusIn(eq(statusIds), eq(pageable)))
-                .thenReturn(Flux.fromIterable(entityList));
-        when(repository.countByIdStatusIn(statusIds)).thenReturn(Mono.just(totalCount));
+        stubPageQuery(Flux.fromIterable(entityList));
+        when(repository.countByIdStatusIn(statusIds.toArray(UUID[]::new))).thenReturn(Mono.just(totalCount));
         when(mapper.map(entity, Application.class)).thenReturn(domain);
 
         StepVerifier.create(repositoryAdapter.findByIdStatusIn(statusIds, customPageableWithPage))
                 .expectNextMatches(CustomPage::isHasPrevious)
                 .verifyComplete();
+
+        verify(spec).bind("window", 10L);
+        verify(spec).bind("offset", 5L);
     }
 
+    @Test
+    @DisplayName("Should order the page by the column of each sort field")
+    void buildPageQueryShouldUseSortColumn() {
+        CustomPageable byCreatedAt = CustomPageable.builder()
+                .page(0)
+                .size(10)
+                .sortBy(SortField.CREATED_AT)
+                .sortDirection("asc")
+                .build();
+
+        assertEquals("SELECT a.* FROM unnest(CAST(:statusIds AS uuid[])) AS s(id_status) " +
+                        "CROSS JOIN LATERAL (SELECT * FROM applications WHERE closed = FALSE AND id_status = s.id_status " +
+                        "ORDER BY created_at ASC, id ASC LIMIT :window) a " +
+                        "ORDER BY a.created_at ASC, a.id ASC LIMIT :limit OFFSET :offset",
+                ApplicationReactiveRepositoryAdapter.buildPageQuery(byCreatedAt));
+    }
+
+    @Test
+    @DisplayName("Should find applications by a list of IDs in one query")
+    void findByIdsShouldReturnApplications() {
+        List<UUID> ids = List.of(domain.getId());
+
+        when(repository.findByIdIn(ids.toArray(UUID[]::new))).thenReturn(Flux.just(entity));
+        when(mapper.map(entity, Application.class)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findByIds(ids))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should update statuses with a single batched statement")
+    void updateStatusesShouldBindArrays() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        Application approved = domain.toBuilder().approvedAt(updatedAt).build();
+
+        List<UUID> expectedStatusIds = List.of(UUID.randomUUID());
+
+        when(repository.updateStatuses(
+                new UUID[]{approved.getId()},
+                new UUID[]{approved.getIdStatus()},
+                new Boolean[]{true},
+                expectedStatusIds.toArray(UUID[]::new),
+                updatedAt))
+                .thenReturn(Flux.just(entity));
+        when(mapper.map(entity, Application.class)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.updateStatuses(List.of(approved), expectedStatusIds, updatedAt))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not hit the database when there is nothing to update")
+    void updateStatusesShouldSkipEmptyBatch() {
+        StepVerifier.create(repositoryAdapter.updateStatuses(List.of(), List.of(UUID.randomUUID()), LocalDateTime.now()))
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should update status conditionally in a single statement")
+    void updateStatusIfCurrentShouldReturnUpdatedApplication() {
+        UUID expectedStatusId = UUID.randomUUID();
+        UUID newStatusId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        when(repository.updateStatusIfCurrent(domain.getId(), new UUID[]{expectedStatusId}, newStatusId, updatedAt, null))
+                .thenReturn(Mono.just(entity));
+        when(mapper.map(entity, Application.class)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.updateStatusIfCurrent(
+                        domain.getId(), List.of(expectedStatusId), newStatusId, updatedAt, null))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the conditional update matches no row")
+    void updateStatusIfCurrentShouldBeEmptyWhenStatusChanged() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<UUID> expectedStatusIds = List.of(UUID.randomUUID());
+        UUID newStatusId = UUID.randomUUID();
+
+        when(repository.updateStatusIfCurrent(domain.getId(), expectedStatusIds.toArray(UUID[]::new), newStatusId, updatedAt, updatedAt))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(repositoryAdapter.updateStatusIfCurrent(
+                        domain.getId(), expectedStatusIds, newStatusId, updatedAt, updatedAt))
+                .verifyComplete();
+    }
 }
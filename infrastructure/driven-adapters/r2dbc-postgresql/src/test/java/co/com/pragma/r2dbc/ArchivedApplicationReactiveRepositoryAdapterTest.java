@@ -0,0 +1,79 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.r2dbc.entity.ArchivedApplicationEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivecommons.utils.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivedApplicationReactiveRepositoryAdapterTest {
+
+    @InjectMocks
+    ArchivedApplicationReactiveRepositoryAdapter repositoryAdapter;
+
+    @Mock
+    ArchivedApplicationReactiveRepository repository;
+
+    @Mock
+    ObjectMapper mapper;
+
+    @Test
+    @DisplayName("Should archive a batch binding the status ids as an array")
+    void shouldArchiveBatch() {
+        UUID statusId = UUID.randomUUID();
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        when(repository.archiveCreatedBefore(new UUID[]{statusId}, cutoff, 500)).thenReturn(Mono.just(120L));
+
+        StepVerifier.create(repositoryAdapter.archive(List.of(statusId), cutoff, 500))
+                .expectNext(120L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report how many emptied partitions were dropped")
+    void shouldDropArchivedPartitions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        when(repository.dropArchivedPartitions(cutoff)).thenReturn(Mono.just(2));
+
+        StepVerifier.create(repositoryAdapter.dropArchivedPartitions(cutoff))
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return archived application when found by id")
+    void shouldFindById() {
+        UUID id = UUID.randomUUID();
+        ArchivedApplicationEntity entity = ArchivedApplicationEntity.builder().id(id).build();
+        Application domain = Application.builder().id(id).build();
+        when(repository.findById(id)).thenReturn(Mono.just(entity));
+        when(mapper.map(entity, Application.class)).thenReturn(domain);
+
+        StepVerifier.create(repositoryAdapter.findById(id))
+                .expectNext(domain)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return empty when application is not archived")
+    void shouldReturnEmptyWhenNotArchived() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(repositoryAdapter.findById(id))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,128 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.idempotency.IdempotencyKey;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyReactiveAdapterTest {
+
+    @InjectMocks
+    IdempotencyKeyReactiveAdapter adapter;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    DatabaseClient.GenericExecuteSpec spec;
+
+    @Test
+    @DisplayName("Should report the key as reserved only when a row was inserted or reclaimed")
+    @SuppressWarnings("unchecked")
+    void shouldReserve() {
+        FetchSpec<Map<String, Object>> fetch = mock(FetchSpec.class);
+        when(databaseClient.sql(IdempotencyKeyReactiveAdapter.RESERVE)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+        UUID reservationToken = UUID.randomUUID();
+
+        StepVerifier.create(adapter.reserve("1234567890", "retry-1", "fingerprint", reservationToken))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.reserve("1234567890", "retry-1", "fingerprint", reservationToken))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(spec, times(2)).bind("key", "retry-1");
+        verify(spec, times(2)).bind("fingerprint", "fingerprint");
+        verify(spec, times(2)).bind("token", reservationToken);
+    }
+
+    @Test
+    @DisplayName("Should read the request fingerprint and application id stored for the key")
+    @SuppressWarnings("unchecked")
+    void shouldFindByKey() {
+        UUID applicationId = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.get("request_fingerprint", String.class)).thenReturn("fingerprint");
+        when(row.get("id_application", UUID.class)).thenReturn(applicationId);
+        when(databaseClient.sql(IdempotencyKeyReactiveAdapter.FIND_BY_KEY)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        RowsFetchSpec<IdempotencyKey> fetch = mock(RowsFetchSpec.class);
+        ArgumentCaptor<Function<Row, IdempotencyKey>> mapper = ArgumentCaptor.forClass(Function.class);
+        when(spec.map(mapper.capture())).thenReturn(fetch);
+        when(fetch.one()).thenAnswer(invocation -> Mono.just(mapper.getValue().apply(row)));
+
+        StepVerifier.create(adapter.findByKey("1234567890", "retry-1"))
+                .assertNext(key -> {
+                    assertEquals("fingerprint", key.getRequestFingerprint());
+                    assertEquals(applicationId, key.getIdApplication());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should store the created application id only while the reservation token still holds the key")
+    @SuppressWarnings("unchecked")
+    void shouldComplete() {
+        UUID applicationId = UUID.randomUUID();
+        UUID reservationToken = UUID.randomUUID();
+        FetchSpec<Map<String, Object>> fetch = mock(FetchSpec.class);
+        when(databaseClient.sql(IdempotencyKeyReactiveAdapter.COMPLETE)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L), Mono.just(0L));
+
+        StepVerifier.create(adapter.complete("1234567890", "retry-1", reservationToken, applicationId))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(adapter.complete("1234567890", "retry-1", reservationToken, applicationId))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(spec, times(2)).bind("idApplication", applicationId);
+        verify(spec, times(2)).bind("token", reservationToken);
+        verify(databaseClient, times(2)).sql(contains("reservation_token = :token"));
+    }
+
+    @Test
+    @DisplayName("Should only delete the unfinished reservation held by the same token on release")
+    void shouldRelease() {
+        UUID reservationToken = UUID.randomUUID();
+        when(databaseClient.sql(IdempotencyKeyReactiveAdapter.RELEASE)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.release("1234567890", "retry-1", reservationToken))
+                .verifyComplete();
+
+        verify(databaseClient).sql(contains("reservation_token = :token AND id_application IS NULL"));
+        verify(spec).bind("token", reservationToken);
+    }
+}
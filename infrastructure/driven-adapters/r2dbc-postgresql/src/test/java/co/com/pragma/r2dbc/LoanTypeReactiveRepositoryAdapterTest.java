@@ -111,7 +111,7 @@ public class LoanTypeReactiveRepositoryAdapterTest {
                 .id(id2).name("Car Loan").minAmount(10000.0).maxAmount(40000.0)
                 .interestRate(6.0).automaticValidation(false).build();
 
-        when(repository.findAllById(List.of(id1, id2)))
+        when(repository.findByIdIn(new UUID[]{id1, id2}))
                 .thenReturn(Flux.just(entity1, entity2));
         when(mapper.map(entity1, LoanType.class)).thenReturn(domain1);
         when(mapper.map(entity2, LoanType.class)).thenReturn(domain2);
@@ -127,7 +127,7 @@ public class LoanTypeReactiveRepositoryAdapterTest {
     void shouldReturnEmptyWhenNotFoundByIds() {
         UUID id = UUID.randomUUID();
 
-        when(repository.findAllById(List.of(id)))
+        when(repository.findByIdIn(new UUID[]{id}))
                 .thenReturn(Flux.empty());
 
         StepVerifier.create(repositoryAdapter.findByIds(List.of(id)))
@@ -136,12 +136,12 @@ public class LoanTypeReactiveRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should propagate error when repository findAllById fails")
+    @DisplayName("Should propagate error when repository findByIdIn fails")
     void shouldPropagateErrorWhenFindByIdsFails() {
         UUID id = UUID.randomUUID();
         RuntimeException error = new RuntimeException("DB error");
 
-        when(repository.findAllById(List.of(id)))
+        when(repository.findByIdIn(new UUID[]{id}))
                 .thenReturn(Flux.error(error));
 
         StepVerifier.create(repositoryAdapter.findByIds(List.of(id)))
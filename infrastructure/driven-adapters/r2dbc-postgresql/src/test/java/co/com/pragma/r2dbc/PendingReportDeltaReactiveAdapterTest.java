@@ -0,0 +1,87 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.report.ReportApprovedDelta;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingReportDeltaReactiveAdapterTest {
+
+    @InjectMocks
+    PendingReportDeltaReactiveAdapter adapter;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    @Mock
+    DatabaseClient.GenericExecuteSpec spec;
+
+    @Test
+    @DisplayName("Should insert the delta keyed by its id")
+    void shouldSaveDelta() {
+        UUID deltaId = UUID.randomUUID();
+        when(databaseClient.sql(PendingReportDeltaReactiveAdapter.INSERT)).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.save(ReportApprovedDelta.builder()
+                        .deltaId(deltaId).state("Approved").approvedCount(3L).totalAmount(4500.0).build()))
+                .verifyComplete();
+
+        verify(spec).bind("id", deltaId);
+        verify(spec).bind("approvedCount", 3L);
+    }
+
+    @Test
+    @DisplayName("Should delete and return every pending delta in one statement")
+    @SuppressWarnings("unchecked")
+    void shouldTakeAll() {
+        RowsFetchSpec<ReportApprovedDelta> rows = mock(RowsFetchSpec.class);
+        ReportApprovedDelta delta = ReportApprovedDelta.builder().deltaId(UUID.randomUUID()).build();
+        when(databaseClient.sql(PendingReportDeltaReactiveAdapter.TAKE_ALL)).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.just(delta));
+
+        StepVerifier.create(adapter.takeAll())
+                .expectNext(delta)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should map a pending delta row")
+    void shouldMapRow() {
+        UUID deltaId = UUID.randomUUID();
+        Row row = mock(Row.class);
+        when(row.get("id", UUID.class)).thenReturn(deltaId);
+        when(row.get("state", String.class)).thenReturn("Approved");
+        when(row.get("approved_count", Long.class)).thenReturn(7L);
+        when(row.get("total_amount", Double.class)).thenReturn(70000.0);
+
+        ReportApprovedDelta delta = PendingReportDeltaReactiveAdapter.toDelta(row);
+
+        assertEquals(deltaId, delta.getDeltaId());
+        assertEquals("Approved", delta.getState());
+        assertEquals(7L, delta.getApprovedCount());
+        assertEquals(70000.0, delta.getTotalAmount());
+    }
+}
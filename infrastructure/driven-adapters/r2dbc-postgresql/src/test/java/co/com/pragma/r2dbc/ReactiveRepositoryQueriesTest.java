@@ -0,0 +1,56 @@
+package co.com.pragma.r2dbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.r2dbc.repository.Query;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ReactiveRepositoryQueriesTest {
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+            ApplicationReactiveRepository.class,
+            StatusReactiveRepository.class,
+            LoanTypeReactiveRepository.class,
+            ArchivedApplicationReactiveRepository.class
+    })
+    @DisplayName("Declared queries keep a stable statement text so the driver can cache them")
+    void declaredQueriesUseArrayBinds(Class<?> repository) {
+        List<String> queries = Arrays.stream(repository.getDeclaredMethods())
+                .map(method -> method.getAnnotation(Query.class))
+                .filter(Objects::nonNull)
+                .map(Query::value)
+                .toList();
+
+        assertFalse(queries.isEmpty());
+        queries.forEach(query -> assertFalse(
+                query.toUpperCase(Locale.ROOT).replace(" ", "").contains("IN(:"),
+                () -> "Collection binds expand per element, use = ANY(:param) instead: " + query));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+            ApplicationReactiveRepository.class,
+            StatusReactiveRepository.class,
+            LoanTypeReactiveRepository.class,
+            ArchivedApplicationReactiveRepository.class
+    })
+    @DisplayName("Collection parameters of declared queries are bound as arrays")
+    void collectionParametersAreArrays(Class<?> repository) {
+        for (Method method : repository.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Query.class)) {
+                Arrays.stream(method.getParameterTypes())
+                        .forEach(type -> assertFalse(Iterable.class.isAssignableFrom(type),
+                                () -> method.getName() + " binds a collection instead of an array"));
+            }
+        }
+    }
+}
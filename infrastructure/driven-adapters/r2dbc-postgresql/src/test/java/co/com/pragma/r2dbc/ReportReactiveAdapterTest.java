@@ -0,0 +1,115 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportDimension;
+import co.com.pragma.model.report.ReportGranularity;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportReactiveAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 4, 1, 0, 0);
+
+    @InjectMocks
+    ReportReactiveAdapter adapter;
+
+    @Mock
+    DatabaseClient databaseClient;
+
+    private ReportCriteria criteria(ReportDateField dateField, List<ReportDimension> groupBy) {
+        return ReportCriteria.builder()
+                .start(START)
+                .end(END)
+                .granularity(ReportGranularity.WEEK)
+                .dateField(dateField)
+                .statusNames(List.of("Approved"))
+                .groupBy(groupBy)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should bucket by the truncated date and group by the requested dimensions")
+    void shouldGroupByDimensions() {
+        String query = ReportReactiveAdapter.buildQuery(
+                criteria(ReportDateField.CREATED_AT, List.of(ReportDimension.LOAN_TYPE, ReportDimension.STATUS)));
+
+        assertTrue(query.startsWith("SELECT date_trunc('week', a.created_at) AS period_start, lt.name"));
+        assertTrue(query.contains("JOIN loan_types lt") && query.contains("JOIN status s"));
+        assertTrue(query.contains("GROUP BY period_start, lt.name, s.name"));
+        assertTrue(query.contains("FROM applications_archive"));
+    }
+
+    @Test
+    @DisplayName("Should skip joins for ungrouped reports and prune partitions on approval reports")
+    void shouldBuildApprovalQueryWithoutDimensions() {
+        String query = ReportReactiveAdapter.buildQuery(criteria(ReportDateField.APPROVED_AT, List.of()));
+
+        assertFalse(query.contains("JOIN"));
+        assertTrue(query.contains("approved_at >= :start AND approved_at < :end AND created_at < :end"));
+        assertTrue(query.endsWith("GROUP BY period_start ORDER BY period_start"));
+    }
+
+    @Test
+    @DisplayName("Should bind the status ids as an array and map the buckets")
+    @SuppressWarnings("unchecked")
+    void shouldAggregate() {
+        UUID statusId = UUID.randomUUID();
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<ReportBucket> rows = mock(RowsFetchSpec.class);
+        ReportBucket bucket = ReportBucket.builder().applicationsCount(2).build();
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(rows);
+        when(rows.all()).thenReturn(Flux.just(bucket));
+
+        StepVerifier.create(adapter.aggregate(criteria(ReportDateField.CREATED_AT, List.of()), List.of(statusId)))
+                .expectNext(bucket)
+                .verifyComplete();
+
+        verify(spec).bind("statusIds", new UUID[]{statusId});
+    }
+
+    @Test
+    @DisplayName("Should map an aggregated row")
+    void shouldMapRow() {
+        Row row = mock(Row.class);
+        when(row.get("period_start", LocalDateTime.class)).thenReturn(START);
+        when(row.get("loan_type_name", String.class)).thenReturn("Personal");
+        when(row.get("applications_count", Long.class)).thenReturn(3L);
+        when(row.get("total_amount", Double.class)).thenReturn(4500.0);
+
+        ReportBucket bucket = ReportReactiveAdapter.toBucket(row);
+
+        assertEquals(START, bucket.getPeriodStart());
+        assertEquals("Personal", bucket.getLoanTypeName());
+        assertEquals(3L, bucket.getApplicationsCount());
+        assertEquals(4500.0, bucket.getTotalAmount());
+    }
+}
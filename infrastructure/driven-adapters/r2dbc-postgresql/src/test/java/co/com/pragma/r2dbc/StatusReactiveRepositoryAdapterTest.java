@@ -111,7 +111,7 @@ public class StatusReactiveRepositoryAdapterTest {
         List<StatusEntity> entityList = List.of(entity, entity2);
         List<Status> domainList = List.of(domain, domain2);
 
-        when(repository.findByNameIn(names)).thenReturn(Flux.fromIterable(entityList));
+        when(repository.findByNameIn(names.toArray(String[]::new))).thenReturn(Flux.fromIterable(entityList));
         when(mapper.map(entity, Status.class)).thenReturn(domain);
         when(mapper.map(entity2, Status.class)).thenReturn(domain2);
 
@@ -124,7 +124,7 @@ public class StatusReactiveRepositoryAdapterTest {
     @DisplayName("Should return empty Flux when no Statuses found by names")
     void shouldReturnEmptyWhenNotFoundByNames() {
         List<String> names = List.of("NonExistentStatus");
-        when(repository.findByNameIn(names)).thenReturn(Flux.empty());
+        when(repository.findByNameIn(names.toArray(String[]::new))).thenReturn(Flux.empty());
 
         StepVerifier.create(repositoryAdapter.findByNames(names))
                 .verifyComplete();
@@ -167,11 +167,24 @@ public class StatusReactiveRepositoryAdapterTest {
     void shouldPropagateErrorWhenFindByNamesFails() {
         List<String> names = List.of("Pending Review", "Approved");
         RuntimeException error = new RuntimeException("DB error");
-        when(repository.findByNameIn(names)).thenReturn(Flux.error(error));
+        when(repository.findByNameIn(names.toArray(String[]::new))).thenReturn(Flux.error(error));
 
         StepVerifier.create(repositoryAdapter.findByNames(names))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
                         throwable.getMessage().equals("DB error"))
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should find statuses by names ignoring case")
+    void shouldFindByNamesIgnoreCase() {
+        when(repository.findByLowerNameIn(new String[]{"pending review", "approved"})).thenReturn(Flux.just(entity, entity2));
+        when(mapper.map(entity, Status.class)).thenReturn(domain);
+        when(mapper.map(entity2, Status.class)).thenReturn(domain2);
+
+        StepVerifier.create(repositoryAdapter.findByNamesIgnoreCase(List.of("PENDING REVIEW", "Approved")))
+                .expectNext(domain)
+                .expectNext(domain2)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,77 @@
+package co.com.pragma.r2dbc.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InstrumentedConnectionPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private InstrumentedConnectionPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record acquire time for successful acquisitions")
+    void shouldRecordSuccessfulAcquire() {
+        Connection connection = mock(Connection.class);
+        when(connection.validate(any(ValidationDepth.class))).thenReturn(Mono.just(true));
+        when(connection.close()).thenReturn(Mono.empty());
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+
+        pool = new InstrumentedConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(0)
+                .maxSize(1)
+                .build(), "test-pool", meterRegistry);
+
+        StepVerifier.create(pool.create())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, timer("success").count());
+        assertEquals(0, timer("error").count());
+    }
+
+    @Test
+    @DisplayName("Should record acquire time for failed acquisitions")
+    void shouldRecordFailedAcquire() {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        doReturn(Mono.error(new IllegalStateException("Connection refused"))).when(connectionFactory).create();
+
+        pool = new InstrumentedConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(0)
+                .maxSize(1)
+                .build(), "test-pool", meterRegistry);
+
+        StepVerifier.create(pool.create())
+                .expectError()
+                .verify();
+
+        assertEquals(1, timer("error").count());
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.get("r2dbc.pool.acquire")
+                .tag("name", "test-pool")
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
@@ -1,5 +1,8 @@
 package co.com.pragma.r2dbc.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ValidationDepth;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +28,8 @@ class PostgreSQLConnectionPoolTest {
 
     private AutoCloseable mocks;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
         mocks = MockitoAnnotations.openMocks(this);
@@ -31,6 +40,11 @@ class PostgreSQLConnectionPoolTest {
         when(properties.schema()).thenReturn("schema");
         when(properties.username()).thenReturn("username");
         when(properties.password()).thenReturn("password");
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(
+                "test-pool", 0, 4, Duration.ofMinutes(30), Duration.ofSeconds(5), Duration.ofSeconds(5),
+                Duration.ofMinutes(30), Duration.ofMinutes(1), ValidationDepth.LOCAL, null));
+        when(properties.statements()).thenReturn(new PostgresqlConnectionProperties.Statements(
+                256, false, 0, null));
     }
 
     @AfterEach
@@ -42,13 +56,32 @@ class PostgreSQLConnectionPoolTest {
     @DisplayName("Builds config with SSL disabled")
     void getConnectionConfigSslDisabled() {
         when(properties.ssl()).thenReturn(false);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, meterRegistry));
     }
 
     @Test
     @DisplayName("Builds config with SSL enabled")
     void getConnectionConfigSslEnabled() {
         when(properties.ssl()).thenReturn(true);
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Builds config with statement cache disabled and a statement timeout")
+    void getConnectionConfigWithStatementOptions() {
+        when(properties.statements()).thenReturn(new PostgresqlConnectionProperties.Statements(
+                0, true, 100, Duration.ofSeconds(10)));
+        assertNotNull(connectionPool.getConnectionConfig(properties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Sizes the pool from properties and registers the acquire timer")
+    void getConnectionConfigUsesPoolProperties() {
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties, meterRegistry);
+
+        assertInstanceOf(InstrumentedConnectionPool.class, pool);
+        assertEquals(4, pool.getMetrics().orElseThrow().getMaxAllocatedSize());
+        assertNotNull(meterRegistry.find("r2dbc.pool.acquire").tag("name", "test-pool").timer());
+        pool.dispose();
     }
 }
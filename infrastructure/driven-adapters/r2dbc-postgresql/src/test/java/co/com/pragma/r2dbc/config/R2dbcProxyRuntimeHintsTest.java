@@ -0,0 +1,47 @@
+package co.com.pragma.r2dbc.config;
+
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class R2dbcProxyRuntimeHintsTest {
+
+    @Test
+    @DisplayName("Declares the interface sets of every proxy created around the pool")
+    void declaresCreatedProxies() {
+        RuntimeHints hints = new RuntimeHints();
+        new R2dbcProxyRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement("SELECT 1")).thenReturn(mock(Statement.class));
+        when(connection.createBatch()).thenReturn(mock(Batch.class));
+        ConnectionFactory target = mock(ConnectionFactory.class);
+        doReturn(Mono.just(connection)).when(target).create();
+
+        ConnectionFactory proxiedFactory = ProxyConnectionFactory.builder(target).build();
+        Connection proxiedConnection = Mono.from(proxiedFactory.create()).block();
+
+        Stream.of(proxiedFactory, proxiedConnection,
+                        proxiedConnection.createStatement("SELECT 1"), proxiedConnection.createBatch())
+                .forEach(proxy -> {
+                    assertTrue(Proxy.isProxyClass(proxy.getClass()));
+                    assertTrue(RuntimeHintsPredicates.proxies()
+                            .forInterfaces(proxy.getClass().getInterfaces()).test(hints), proxy::toString);
+                });
+    }
+}
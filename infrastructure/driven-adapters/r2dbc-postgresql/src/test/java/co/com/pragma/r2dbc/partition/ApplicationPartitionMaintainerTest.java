@@ -0,0 +1,33 @@
+package co.com.pragma.r2dbc.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+class ApplicationPartitionMaintainerTest {
+
+    private static final Duration CHECK_INTERVAL = Duration.ofHours(12);
+
+    @Test
+    @DisplayName("Should report the number of partitions created")
+    void shouldReportCreatedPartitions() {
+        ApplicationPartitionMaintainer maintainer = new ApplicationPartitionMaintainer(Mono.just(2), CHECK_INTERVAL);
+
+        StepVerifier.create(maintainer.maintain())
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should swallow maintenance failures so the next run can retry")
+    void shouldSwallowFailures() {
+        ApplicationPartitionMaintainer maintainer = new ApplicationPartitionMaintainer(
+                Mono.error(new IllegalStateException("Connection refused")), CHECK_INTERVAL);
+
+        StepVerifier.create(maintainer.maintain())
+                .verifyComplete();
+    }
+}
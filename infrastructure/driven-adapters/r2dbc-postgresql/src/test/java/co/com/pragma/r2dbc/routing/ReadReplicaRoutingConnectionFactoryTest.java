@@ -0,0 +1,79 @@
+package co.com.pragma.r2dbc.routing;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory primary;
+
+    @Mock
+    private ConnectionFactory replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReadReplicaRoutingConnectionFactory routingConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(Mono.just(primaryConnection)).when(primary).create();
+        lenient().doReturn(Mono.just(replicaConnection)).when(replica).create();
+
+        routingConnectionFactory = new ReadReplicaRoutingConnectionFactory(primary, replica, lagMonitor);
+        routingConnectionFactory.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("Should route read-only queries to the replica when it is healthy")
+    void shouldRouteReadOnlyToReplica() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        StepVerifier.create(ReadOnlyRouting.readOnly(routingConnectionFactory.create()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+
+        verify(primary, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica lags behind")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+        StepVerifier.create(ReadOnlyRouting.readOnly(routingConnectionFactory.create()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+
+    @Test
+    @DisplayName("Should keep writes on the primary")
+    void shouldRouteWritesToPrimary() {
+        StepVerifier.create(routingConnectionFactory.create())
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        verifyNoInteractions(lagMonitor);
+        verify(replica, never()).create();
+    }
+}
@@ -0,0 +1,62 @@
+package co.com.pragma.r2dbc.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Should use the replica when the lag is within tolerance")
+    void shouldUseReplicaWhenLagWithinTolerance() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(Mono.just(Duration.ofSeconds(2)), MAX_LAG, CHECK_INTERVAL);
+
+        StepVerifier.create(monitor.checkLag())
+                .expectNext(true)
+                .verifyComplete();
+
+        assertTrue(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("Should bypass the replica when the lag exceeds tolerance")
+    void shouldBypassReplicaWhenLagExceedsTolerance() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(Mono.just(Duration.ofSeconds(30)), MAX_LAG, CHECK_INTERVAL);
+
+        StepVerifier.create(monitor.checkLag())
+                .expectNext(false)
+                .verifyComplete();
+
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("Should bypass the replica when the lag probe fails")
+    void shouldBypassReplicaWhenProbeFails() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                Mono.error(new IllegalStateException("Connection refused")), MAX_LAG, CHECK_INTERVAL);
+
+        StepVerifier.create(monitor.checkLag())
+                .expectNext(false)
+                .verifyComplete();
+
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("Should start bypassing the replica until the first successful check")
+    void shouldBypassReplicaBeforeFirstCheck() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(Mono.never(), MAX_LAG, CHECK_INTERVAL);
+
+        assertFalse(monitor.isReplicaUsable());
+    }
+}
@@ -6,35 +6,38 @@ import co.com.pragma.model.gateways.TokenValidator;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.UUID;
 
 @Component
+@ImportRuntimeHints(JwtRuntimeHints.class)
 public class JwtValidatorAdapter implements TokenValidator {
 
-    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Scheduler offloadScheduler;
 
-    public JwtValidatorAdapter(@Value("${jwt.secret}") String secretKeyString) {
-        this.secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKeyString));
+    public JwtValidatorAdapter(@Value("${jwt.secret}") String secretKeyString, Scheduler offloadScheduler) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKeyString)))
+                .build();
+        this.offloadScheduler = offloadScheduler;
     }
 
     @Override
     public Mono<ValidatedUser> validateToken(String token) {
         return Mono.fromSupplier(() -> {
             try {
-                Claims claims = Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload();
+                Claims claims = parser.parseSignedClaims(token).getPayload();
 
                 return ValidatedUser.builder()
                         .idUser(UUID.fromString(claims.get("idUser", String.class)))
@@ -49,6 +52,6 @@ public class JwtValidatorAdapter implements TokenValidator {
             } catch (JwtException ex) {
                 throw new TokenValidationException("Invalid JWT token: " + ex.getMessage());
             }
-        });
+        }).subscribeOn(offloadScheduler);
     }
 }
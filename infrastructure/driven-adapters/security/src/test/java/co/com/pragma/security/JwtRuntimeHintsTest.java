@@ -0,0 +1,37 @@
+package co.com.pragma.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new JwtRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Registers the jjwt implementation types for reflective construction")
+    void registersImplementationTypes() {
+        JwtRuntimeHints.IMPLEMENTATION_TYPES.forEach(type -> {
+            assertTrue(ClassUtils.isPresent(type, getClass().getClassLoader()), type + " is not on the classpath");
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type);
+        });
+    }
+
+    @Test
+    @DisplayName("Registers the jjwt service files")
+    void registersServiceFiles() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.NonBlocking;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import javax.crypto.SecretKey;
@@ -15,6 +18,8 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 @ExtendWith(MockitoExtension.class)
 public class JwtValidatorAdapterTest {
 
@@ -25,7 +30,7 @@ public class JwtValidatorAdapterTest {
     void setUp() {
         String testSecret = "testSecretKeyWhichIsLongEnoughForHS256Algorithm";
         String base64Secret = Base64.getEncoder().encodeToString(testSecret.getBytes());
-        jwtValidatorAdapter = new JwtValidatorAdapter(base64Secret);
+        jwtValidatorAdapter = new JwtValidatorAdapter(base64Secret, Schedulers.boundedElastic());
         testSecretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(base64Secret));
     }
 
@@ -109,4 +114,23 @@ public class JwtValidatorAdapterTest {
                                 throwable.getMessage().startsWith("Invalid JWT token:"))
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should verify the signature off the subscribing event loop")
+    void validateToken_OffloadsFromNonBlockingThread() {
+        String token = Jwts.builder()
+                .claim("idUser", UUID.randomUUID().toString())
+                .subject("test@example.com")
+                .claim("idDocument", "12345678")
+                .claim("role", "USER")
+                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
+                .signWith(testSecretKey)
+                .compact();
+
+        StepVerifier.create(Mono.defer(() -> jwtValidatorAdapter.validateToken(token))
+                        .map(validatedUser -> Thread.currentThread())
+                        .subscribeOn(Schedulers.parallel()))
+                .assertNext(thread -> assertFalse(thread instanceof NonBlocking))
+                .verifyComplete();
+    }
+}
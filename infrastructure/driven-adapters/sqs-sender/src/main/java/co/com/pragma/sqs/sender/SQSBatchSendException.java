@@ -0,0 +1,24 @@
+package co.com.pragma.sqs.sender;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Raised when batch entries are still failing once their retries are spent. The rest of the batch was delivered, so
+ * callers can tell exactly which entries were lost by their ids.
+ */
+@Getter
+public class SQSBatchSendException extends IllegalStateException {
+
+    private final List<String> failedIds;
+
+    public SQSBatchSendException(String queueName, List<String> failedIds) {
+        this(queueName, failedIds, null);
+    }
+
+    public SQSBatchSendException(String queueName, List<String> failedIds, Throwable cause) {
+        super("Failed to send " + failedIds.size() + " messages to " + queueName, cause);
+        this.failedIds = failedIds;
+    }
+}
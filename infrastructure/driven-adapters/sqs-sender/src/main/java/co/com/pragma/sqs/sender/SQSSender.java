@@ -1,23 +1,46 @@
 package co.com.pragma.sqs.sender;
 
 import co.com.pragma.sqs.sender.config.SQSSenderProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.observation.transport.SenderContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Log4j2
 @RequiredArgsConstructor
 public class SQSSender /*implements SomeGateway*/ {
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final Duration BATCH_RETRY_BACKOFF = Duration.ofMillis(200);
+    private static final String OBSERVATION_NAME = "sqs.send";
+
     private final SQSSenderProperties properties;
     private final SqsAsyncClient client;
+    private final ObservationRegistry observationRegistry;
 
     public Mono<String> send(String queueName, String message) {
         return send(queueName, message, null);
@@ -28,12 +51,128 @@ public class SQSSender /*implements SomeGateway*/ {
         if (queueUrl == null) {
             return Mono.error(new IllegalArgumentException("Queue not configured: " + queueName));
         }
-        return Mono.fromCallable(() -> buildRequest(message, queueUrl, attributes))
-                .flatMap(request -> Mono.fromFuture(client.sendMessage(request)))
+        return observe(queueName, traceAttributes -> Mono.fromCallable(
+                        () -> buildRequest(message, queueUrl, withTrace(attributes, traceAttributes)))
+                .flatMap(request -> Mono.fromFuture(client.sendMessage(request))))
                 .doOnNext(response -> log.debug("Message sent to {} with id {}", queueName, response.messageId()))
                 .map(SendMessageResponse::messageId);
     }
 
+    public Flux<String> sendBatch(String queueName, List<SendMessageBatchRequestEntry> entries) {
+        String queueUrl = properties.queues().get(queueName);
+        if (queueUrl == null) {
+            return Flux.error(new IllegalArgumentException("Queue not configured: " + queueName));
+        }
+        // A failed chunk must not stop the later ones, otherwise their entries would be lost without being reported
+        return Flux.defer(() -> {
+            List<String> failedIds = new ArrayList<>();
+            return Flux.fromIterable(entries)
+                    .buffer(MAX_BATCH_SIZE)
+                    .concatMap(batch -> sendBatchChunk(queueName, queueUrl, batch, 1)
+                            .onErrorResume(error -> {
+                                if (error instanceof SQSBatchSendException batchError) {
+                                    failedIds.addAll(batchError.getFailedIds());
+                                    return Flux.empty();
+                                }
+                                failedIds.addAll(batch.stream().map(SendMessageBatchRequestEntry::id).toList());
+                                log.warn("Batch of {} messages to {} failed: {}", batch.size(), queueName, error.getMessage());
+                                return Flux.empty();
+                            }))
+                    .concatWith(Flux.defer(() -> failedIds.isEmpty()
+                            ? Flux.empty()
+                            : Flux.error(new SQSBatchSendException(queueName, List.copyOf(failedIds)))));
+        });
+    }
+
+    private Flux<String> sendBatchChunk(String queueName, String queueUrl, List<SendMessageBatchRequestEntry> batch,
+                                        int attempt) {
+        return observe(queueName, traceAttributes -> Mono.fromFuture(() -> client.sendMessageBatch(
+                        SendMessageBatchRequest.builder()
+                                .queueUrl(queueUrl)
+                                .entries(traceAttributes.isEmpty() ? batch : withTrace(batch, traceAttributes))
+                                .build())))
+                .flatMapMany(response -> Flux.fromIterable(response.successful())
+                        .map(SendMessageBatchResultEntry::messageId)
+                        .concatWith(retryFailed(queueName, queueUrl, batch, response, attempt)));
+    }
+
+    /**
+     * The successful entries of a batch are already on the queue, so only the failed ones are sent again. Entries
+     * rejected for a sender fault would fail the same way on every attempt and are reported straight away.
+     */
+    private Flux<String> retryFailed(String queueName, String queueUrl, List<SendMessageBatchRequestEntry> batch,
+                                     SendMessageBatchResponse response, int attempt) {
+        if (!response.hasFailed() || response.failed().isEmpty()) {
+            log.debug("Batch of {} messages sent to {}", response.successful().size(), queueName);
+            return Flux.empty();
+        }
+        List<BatchResultErrorEntry> failed = response.failed();
+        boolean retryable = attempt < MAX_BATCH_ATTEMPTS
+                && failed.stream().noneMatch(entry -> Boolean.TRUE.equals(entry.senderFault()));
+        if (!retryable) {
+            return Flux.error(new SQSBatchSendException(queueName, failed.stream().map(BatchResultErrorEntry::id).toList()));
+        }
+        Set<String> failedIds = failed.stream().map(BatchResultErrorEntry::id).collect(Collectors.toSet());
+        List<SendMessageBatchRequestEntry> retry = batch.stream()
+                .filter(entry -> failedIds.contains(entry.id()))
+                .toList();
+        log.warn("Retrying {} of {} batch entries on {} (attempt {})", retry.size(), batch.size(), queueName, attempt + 1);
+        return Mono.delay(BATCH_RETRY_BACKOFF.multipliedBy(attempt))
+                .thenMany(Flux.defer(() -> sendBatchChunk(queueName, queueUrl, retry, attempt + 1)))
+                .onErrorMap(error -> !(error instanceof SQSBatchSendException), error -> new SQSBatchSendException(
+                        queueName, retry.stream().map(SendMessageBatchRequestEntry::id).toList(), error));
+    }
+
+    /**
+     * Opens a producer observation; the tracing handler writes the trace context into the attributes map it is given,
+     * which the listener reads back to continue the same trace.
+     */
+    private <T> Mono<T> observe(String queueName, Function<Map<String, MessageAttributeValue>, Mono<T>> send) {
+        return Mono.deferContextual(contextView -> {
+            SenderContext<Map<String, MessageAttributeValue>> context = new SenderContext<>(
+                    (carrier, key, value) -> carrier.put(key, stringAttribute(value)));
+            context.setCarrier(new HashMap<>());
+            context.setRemoteServiceName("sqs");
+
+            Observation observation = Observation.createNotStarted(OBSERVATION_NAME, () -> context, observationRegistry)
+                    .contextualName(queueName + " send")
+                    .lowCardinalityKeyValue("messaging.system", "aws_sqs")
+                    .lowCardinalityKeyValue("messaging.destination.name", queueName)
+                    .parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                    .start();
+
+            return send.apply(context.getCarrier())
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop());
+        });
+    }
+
+    private static List<SendMessageBatchRequestEntry> withTrace(List<SendMessageBatchRequestEntry> batch,
+                                                                Map<String, MessageAttributeValue> traceAttributes) {
+        return batch.stream()
+                .map(entry -> entry.toBuilder()
+                        .messageAttributes(withTrace(entry.messageAttributes(), traceAttributes))
+                        .build())
+                .toList();
+    }
+
+    private static Map<String, MessageAttributeValue> withTrace(Map<String, MessageAttributeValue> attributes,
+                                                                Map<String, MessageAttributeValue> traceAttributes) {
+        if (traceAttributes.isEmpty()) {
+            return attributes;
+        }
+        Map<String, MessageAttributeValue> merged = attributes == null ? new HashMap<>() : new HashMap<>(attributes);
+        merged.putAll(traceAttributes);
+        return merged;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder()
+                .dataType("String")
+                .stringValue(value)
+                .build();
+    }
+
     private SendMessageRequest buildRequest(String message, String queueUrl, Map<String, MessageAttributeValue> attributes) {
         SendMessageRequest.Builder builder = SendMessageRequest.builder()
                 .queueUrl(queueUrl)
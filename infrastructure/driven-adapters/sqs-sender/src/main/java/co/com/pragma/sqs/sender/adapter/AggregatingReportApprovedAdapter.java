@@ -0,0 +1,208 @@
+package co.com.pragma.sqs.sender.adapter;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.ReportApprovedDelta;
+import co.com.pragma.model.report.gateways.PendingReportDeltaRepository;
+import co.com.pragma.model.report.gateways.ReportApprovedGateway;
+import co.com.pragma.sqs.sender.SQSBatchSendException;
+import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.aggregation.ReportApprovedAccumulator;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
+import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "adapter.sqs.reporting.aggregation", name = "enabled", havingValue = "true")
+@RegisterReflectionForBinding(ReportApprovedDelta.class)
+public class AggregatingReportApprovedAdapter implements ReportApprovedGateway, InitializingBean, DisposableBean {
+
+    private static final Map<String, String> DELTA_ATTRIBUTES = Map.of(
+            "eventType", "REPORT_APPROVED_DELTA",
+            "reportId", "total_approved_requests"
+    );
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    // Flushes a delta may fail before it is moved to pending_report_deltas and left for the next start
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+
+    private final SQSSender sqsSender;
+    private final MessageTemplate deltaTemplate;
+    private final PendingReportDeltaRepository pendingDeltaRepository;
+    private final String reportingQueue;
+    private final Duration flushInterval;
+    private final long maxApprovals;
+
+    private final ReportApprovedAccumulator accumulator = new ReportApprovedAccumulator();
+    // Deltas that failed to publish keep their id, so a retried delta can be deduplicated downstream
+    private final BlockingQueue<UnsentDelta> unsent;
+    private final Sinks.Many<Long> flushRequests = Sinks.many().multicast().directBestEffort();
+    private Disposable subscription;
+
+    public AggregatingReportApprovedAdapter(
+            SQSSender sqsSender,
+            SqsMessageFactory messageFactory,
+            PendingReportDeltaRepository pendingDeltaRepository,
+            @Value("${queue.names.reporting}") String reportingQueue,
+            @Value("${adapter.sqs.reporting.aggregation.flush-interval:10s}") Duration flushInterval,
+            @Value("${adapter.sqs.reporting.aggregation.max-approvals:500}") long maxApprovals,
+            @Value("${adapter.sqs.reporting.aggregation.max-unsent:1000}") int maxUnsent
+    ) {
+        this.sqsSender = sqsSender;
+        this.deltaTemplate = messageFactory.template(DELTA_ATTRIBUTES);
+        this.pendingDeltaRepository = pendingDeltaRepository;
+        this.reportingQueue = reportingQueue;
+        this.flushInterval = flushInterval;
+        this.maxApprovals = maxApprovals;
+        this.unsent = new LinkedBlockingQueue<>(maxUnsent);
+    }
+
+    @Override
+    public Mono<Void> sendReportApprovedCount(Application application, String status) {
+        return Mono.fromRunnable(() -> record(status, 1, application.getAmount()));
+    }
+
+    @Override
+    public Mono<Void> sendReportApprovedCounts(List<Application> applications, String status) {
+        return Mono.fromRunnable(() -> record(status, applications.size(), applications.stream()
+                .mapToDouble(application -> application.getAmount() != null ? application.getAmount() : 0.0)
+                .sum()));
+    }
+
+    private void record(String status, long count, Double amount) {
+        if (accumulator.add(status, count, amount != null ? amount : 0.0) >= maxApprovals) {
+            flushRequests.tryEmitNext(count);
+        }
+    }
+
+    Mono<Void> flush() {
+        List<UnsentDelta> deltas = takePending();
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        return publish(deltas)
+                .onErrorResume(error -> {
+                    List<UnsentDelta> failed = failedDeltas(deltas, error);
+                    log.warn("Publishing {} of {} report deltas failed, retrying on next flush: {}",
+                            failed.size(), deltas.size(), error.getMessage());
+                    return persist(requeue(failed.stream().map(UnsentDelta::failedAgain).toList()));
+                })
+                .doOnCancel(() -> requeue(deltas).forEach(delta ->
+                        log.error("Report delta {} dropped on cancel, queue is full", delta.getDeltaId())));
+    }
+
+    private List<UnsentDelta> takePending() {
+        List<UnsentDelta> deltas = new ArrayList<>();
+        unsent.drainTo(deltas);
+        accumulator.drain().forEach(delta -> deltas.add(new UnsentDelta(delta, 0)));
+        return deltas;
+    }
+
+    /**
+     * Only the entries SQS reported as failed go back; the rest of the batch was delivered. Any other error means
+     * the request never reached SQS, so the whole batch is retried.
+     */
+    private static List<UnsentDelta> failedDeltas(List<UnsentDelta> deltas, Throwable error) {
+        if (!(error instanceof SQSBatchSendException batchError)) {
+            return deltas;
+        }
+        Set<String> failedIds = Set.copyOf(batchError.getFailedIds());
+        return deltas.stream()
+                .filter(unsentDelta -> failedIds.contains(unsentDelta.delta().getDeltaId().toString()))
+                .toList();
+    }
+
+    /**
+     * Queues deltas for the next flush and returns the ones that have to be persisted instead: those that have
+     * failed too often and those that no longer fit in the bounded queue.
+     */
+    private List<ReportApprovedDelta> requeue(List<UnsentDelta> deltas) {
+        List<ReportApprovedDelta> overflow = new ArrayList<>();
+        for (UnsentDelta unsentDelta : deltas) {
+            if (unsentDelta.failures() >= MAX_PUBLISH_ATTEMPTS || !unsent.offer(unsentDelta)) {
+                overflow.add(unsentDelta.delta());
+            }
+        }
+        return overflow;
+    }
+
+    private Mono<Void> persist(List<ReportApprovedDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+        log.warn("Persisting {} report deltas for the next start", deltas.size());
+        return Flux.fromIterable(deltas)
+                .concatMap(pendingDeltaRepository::save)
+                .then()
+                .onErrorResume(error -> {
+                    log.error("Could not persist {} report deltas, their counts are lost: {}",
+                            deltas.size(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> publish(List<UnsentDelta> deltas) {
+        List<SendMessageBatchRequestEntry> entries = deltas.stream()
+                .map(UnsentDelta::delta)
+                .map(delta -> deltaTemplate.batchEntry(delta.getDeltaId().toString(), delta, Map.of()))
+                .toList();
+        return sqsSender.sendBatch(reportingQueue, entries).then();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = pendingDeltaRepository.takeAll()
+                .map(delta -> new UnsentDelta(delta, 0))
+                .collectList()
+                .flatMap(restored -> persist(requeue(restored)))
+                .onErrorResume(error -> {
+                    log.warn("Could not restore pending report deltas: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .thenMany(Flux.merge(Flux.interval(flushInterval), flushRequests.asFlux()))
+                .onBackpressureDrop()
+                .concatMap(tick -> flush())
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        List<UnsentDelta> deltas = takePending();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        publish(deltas)
+                .timeout(SHUTDOWN_TIMEOUT)
+                .onErrorResume(error -> persist(failedDeltas(deltas, error).stream()
+                        .map(UnsentDelta::delta)
+                        .toList()))
+                .block(SHUTDOWN_TIMEOUT.multipliedBy(2));
+    }
+
+    private record UnsentDelta(ReportApprovedDelta delta, int failures) {
+        UnsentDelta failedAgain() {
+            return new UnsentDelta(delta, failures + 1);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package co.com.pragma.sqs.sender.adapter;
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import co.com.pragma.model.creditanalysis.gateway.CreditAnalysisGateway;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -11,10 +13,11 @@ import reactor.core.publisher.Mono;
 import java.util.Map;
 
 @Component
+@RegisterReflectionForBinding(CreditAnalysisPayload.class)
 public class CreditAnalysisAdapter implements CreditAnalysisGateway {
 
     private final SQSSender sqsSender;
-    private final SqsMessageFactory messageFactory;
+    private final MessageTemplate analysisTemplate;
     private final String indebtednessQueue;
 
     public CreditAnalysisAdapter(
@@ -23,22 +26,21 @@ public class CreditAnalysisAdapter implements CreditAnalysisGateway {
             @Value("${queue.names.indebtedness}") String indebtednessQueue
     ) {
         this.sqsSender = sqsSender;
-        this.messageFactory = messageFactory;
+        this.analysisTemplate = messageFactory.template(Map.of("eventType", "CREDIT_ANALYSIS_REQUESTED"));
         this.indebtednessQueue = indebtednessQueue;
     }
 
     @Override
     public Mono<Void> requestAnalysis(CreditAnalysisPayload payload) {
         var attributes = Map.of(
-                "eventType", "CREDIT_ANALYSIS_REQUESTED",
                 "applicationId", payload.getIdApplication().toString(),
                 "idUser", payload.getIdUser().toString()
         );
 
         return sqsSender.send(
                 indebtednessQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
+                analysisTemplate.encode(payload),
+                analysisTemplate.attributes(attributes)
         ).then();
     }
 }
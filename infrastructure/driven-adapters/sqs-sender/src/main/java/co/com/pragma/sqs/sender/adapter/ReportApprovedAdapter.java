@@ -4,18 +4,31 @@ import co.com.pragma.model.application.Application;
 import co.com.pragma.model.report.ReportApprovedMessage;
 import co.com.pragma.model.report.gateways.ReportApprovedGateway;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.List;
 import java.util.Map;
 
 @Component
+@ConditionalOnProperty(prefix = "adapter.sqs.reporting.aggregation", name = "enabled", havingValue = "false",
+        matchIfMissing = true)
+@RegisterReflectionForBinding(ReportApprovedMessage.class)
 public class ReportApprovedAdapter implements ReportApprovedGateway {
 
+    private static final Map<String, String> REPORT_ATTRIBUTES = Map.of(
+            "eventType", "REPORT_APPROVED",
+            "reportId", "total_approved_requests"
+    );
+
     private final SQSSender sqsSender;
-    private final SqsMessageFactory messageFactory;
+    private final MessageTemplate reportTemplate;
     private final String reportingQueue;
 
     public ReportApprovedAdapter(
@@ -24,27 +37,36 @@ public class ReportApprovedAdapter implements ReportApprovedGateway {
             @Value("${queue.names.reporting}") String reportingQueue
     ) {
         this.sqsSender = sqsSender;
-        this.messageFactory = messageFactory;
+        this.reportTemplate = messageFactory.template(REPORT_ATTRIBUTES);
         this.reportingQueue = reportingQueue;
     }
 
     @Override
     public Mono<Void> sendReportApprovedCount(Application application, String status) {
-        ReportApprovedMessage payload = ReportApprovedMessage.builder()
+        return sqsSender.send(
+                reportingQueue,
+                reportTemplate.encode(reportPayload(application, status)),
+                reportTemplate.attributes()
+        ).then();
+    }
+
+    @Override
+    public Mono<Void> sendReportApprovedCounts(List<Application> applications, String status) {
+        List<SendMessageBatchRequestEntry> entries = applications.stream()
+                .map(application -> reportTemplate.batchEntry(
+                        application.getId().toString(),
+                        reportPayload(application, status),
+                        Map.of()))
+                .toList();
+
+        return sqsSender.sendBatch(reportingQueue, entries).then();
+    }
+
+    private ReportApprovedMessage reportPayload(Application application, String status) {
+        return ReportApprovedMessage.builder()
                 .applicationId(application.getId())
                 .amount(application.getAmount())
                 .state(status)
                 .build();
-
-        var attributes = Map.of(
-                "eventType", "REPORT_APPROVED",
-                "reportId", "total_approved_requests"
-        );
-
-        return sqsSender.send(
-                reportingQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
-        ).then();
     }
 }
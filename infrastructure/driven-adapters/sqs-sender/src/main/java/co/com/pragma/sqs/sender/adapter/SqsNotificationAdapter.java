@@ -3,20 +3,29 @@ package co.com.pragma.sqs.sender.adapter;
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
 import co.com.pragma.model.gateways.NotificationGateway;
+import co.com.pragma.sqs.sender.SQSBatchSendException;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
+@RegisterReflectionForBinding(CreditAnalysisResponsePayload.class)
 public class SqsNotificationAdapter implements NotificationGateway {
 
     private final SQSSender sqsSender;
-    private final SqsMessageFactory messageFactory;
+    private final MessageTemplate decisionTemplate;
+    private final MessageTemplate analysisResponseTemplate;
     private final String notificationsQueue;
 
     public SqsNotificationAdapter(
@@ -25,43 +34,56 @@ public class SqsNotificationAdapter implements NotificationGateway {
             @Value("${queue.names.notifications}") String notificationsQueue
     ) {
         this.sqsSender = sqsSender;
-        this.messageFactory = messageFactory;
+        this.decisionTemplate = messageFactory.template(Map.of("eventType", "DECISION_FINAL"));
+        this.analysisResponseTemplate = messageFactory.template(Map.of("eventType", "CREDIT_ANALYSIS_RESPONSE"));
         this.notificationsQueue = notificationsQueue;
     }
 
     @Override
     public Mono<Void> sendDecisionNotification(Application application, String status) {
-        var payload = Map.of(
-                "applicationId", application.getId(),
-                "email", application.getEmail(),
-                "status", status,
-                "amount", application.getAmount(),
-                "term", application.getTerm()
-        );
-
-        var attributes = Map.of(
-                "eventType", "DECISION_FINAL",
-                "applicationId", application.getId().toString()
-        );
-
         return sqsSender.send(
                 notificationsQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
+                decisionTemplate.encode(decisionPayload(application, status)),
+                decisionTemplate.attributes(decisionAttributes(application))
         ).then();
     }
 
     @Override
-    public Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload payload) {
-        var attributes = Map.of(
-                "eventType", "CREDIT_ANALYSIS_RESPONSE",
-                "applicationId", payload.getApplicationId().toString()
-        );
+    public Flux<UUID> sendDecisionNotifications(List<Application> applications, Map<UUID, String> statusByApplicationId) {
+        List<SendMessageBatchRequestEntry> entries = applications.stream()
+                .map(application -> decisionTemplate.batchEntry(
+                        application.getId().toString(),
+                        decisionPayload(application, statusByApplicationId.get(application.getId())),
+                        decisionAttributes(application)))
+                .toList();
+
+        // Entries are keyed by application id, so the ids SQS kept rejecting map straight back to applications
+        return sqsSender.sendBatch(notificationsQueue, entries)
+                .thenMany(Flux.<UUID>empty())
+                .onErrorResume(SQSBatchSendException.class, error -> Flux.fromIterable(error.getFailedIds())
+                        .map(UUID::fromString));
+    }
 
+    @Override
+    public Mono<Void> sendCreditAnalysisDecisionNotification(CreditAnalysisResponsePayload payload) {
         return sqsSender.send(
                 notificationsQueue,
-                messageFactory.toJson(payload),
-                messageFactory.buildAttributes(attributes)
+                analysisResponseTemplate.encode(payload),
+                analysisResponseTemplate.attributes(Map.of("applicationId", payload.getApplicationId().toString()))
         ).then();
     }
+
+    private Map<String, Object> decisionPayload(Application application, String status) {
+        return Map.of(
+                "applicationId", application.getId(),
+                "email", application.getEmail(),
+                "status", status,
+                "amount", application.getAmount(),
+                "term", application.getTerm()
+        );
+    }
+
+    private Map<String, String> decisionAttributes(Application application) {
+        return Map.of("applicationId", application.getId().toString());
+    }
 }
@@ -0,0 +1,48 @@
+package co.com.pragma.sqs.sender.aggregation;
+
+import co.com.pragma.model.report.ReportApprovedDelta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ReportApprovedAccumulator {
+
+    private final Map<String, AtomicReference<Totals>> totalsByState = new ConcurrentHashMap<>();
+
+    /**
+     * Adds approvals for a state without locking and returns the count pending for that state.
+     */
+    public long add(String state, long count, double amount) {
+        return totalsByState.computeIfAbsent(state, key -> new AtomicReference<>(Totals.EMPTY))
+                .accumulateAndGet(new Totals(count, amount), Totals::plus)
+                .count();
+    }
+
+    public List<ReportApprovedDelta> drain() {
+        List<ReportApprovedDelta> deltas = new ArrayList<>();
+        totalsByState.forEach((state, totals) -> {
+            Totals drained = totals.getAndSet(Totals.EMPTY);
+            if (drained.count() > 0) {
+                deltas.add(ReportApprovedDelta.builder()
+                        .deltaId(UUID.randomUUID())
+                        .state(state)
+                        .approvedCount(drained.count())
+                        .totalAmount(drained.amount())
+                        .build());
+            }
+        });
+        return deltas;
+    }
+
+    record Totals(long count, double amount) {
+        static final Totals EMPTY = new Totals(0, 0.0);
+
+        Totals plus(Totals other) {
+            return new Totals(count + other.count, amount + other.amount);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package co.com.pragma.sqs.sender.factory;
+
+import co.com.pragma.messagecodec.MessageCodec;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Message shape of one event type: constant attributes are encoded once and only the per-message
+ * attributes are added on each send.
+ */
+public class MessageTemplate {
+
+    private final MessageCodec codec;
+    private final Map<String, MessageAttributeValue> constantAttributes;
+
+    MessageTemplate(MessageCodec codec, Map<String, String> constantAttributes) {
+        Map<String, MessageAttributeValue> attributes = HashMap.newHashMap(constantAttributes.size() + 1);
+        constantAttributes.forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        attributes.put(MessageCodec.CONTENT_TYPE_ATTRIBUTE, stringAttribute(codec.contentType()));
+        this.codec = codec;
+        this.constantAttributes = Map.copyOf(attributes);
+    }
+
+    public String encode(Object payload) {
+        return codec.encode(payload);
+    }
+
+    public Map<String, MessageAttributeValue> attributes() {
+        return constantAttributes;
+    }
+
+    public Map<String, MessageAttributeValue> attributes(Map<String, String> messageAttributes) {
+        if (messageAttributes.isEmpty()) {
+            return constantAttributes;
+        }
+        Map<String, MessageAttributeValue> attributes =
+                HashMap.newHashMap(constantAttributes.size() + messageAttributes.size());
+        attributes.putAll(constantAttributes);
+        messageAttributes.forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        return attributes;
+    }
+
+    public SendMessageBatchRequestEntry batchEntry(String id, Object payload, Map<String, String> messageAttributes) {
+        return SendMessageBatchRequestEntry.builder()
+                .id(id)
+                .messageBody(encode(payload))
+                .messageAttributes(attributes(messageAttributes))
+                .build();
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder()
+                .stringValue(value)
+                .dataType("String")
+                .build();
+    }
+}
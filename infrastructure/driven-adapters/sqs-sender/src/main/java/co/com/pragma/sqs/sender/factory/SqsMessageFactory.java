@@ -1,33 +1,25 @@
 package co.com.pragma.sqs.sender.factory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import co.com.pragma.messagecodec.MessageCodec;
+import co.com.pragma.messagecodec.MessageCodecRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class SqsMessageFactory {
 
-    private final ObjectMapper objectMapper;
+    private final MessageCodec codec;
 
-    @SneakyThrows
-    public String toJson(Object payload) {
-        return objectMapper.writeValueAsString(payload);
+    public SqsMessageFactory(
+            MessageCodecRegistry codecRegistry,
+            @Value("${adapter.sqs.content-type:application/json}") String contentType
+    ) {
+        this.codec = codecRegistry.forContentType(contentType);
     }
 
-    public Map<String, MessageAttributeValue> buildAttributes(Map<String, String> attributes) {
-        return attributes.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> MessageAttributeValue.builder()
-                                .stringValue(entry.getValue())
-                                .dataType("String")
-                                .build()
-                ));
+    public MessageTemplate template(Map<String, String> constantAttributes) {
+        return new MessageTemplate(codec, constantAttributes);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,11 @@
 package co.com.pragma.sqs.sender;
 
 import co.com.pragma.sqs.sender.config.SQSSenderProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import io.micrometer.observation.transport.SenderContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,13 +15,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,7 +37,10 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class SQSSenderTest {
 
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
     private SQSSender sender;
+    private TestObservationRegistry observationRegistry;
 
     @Mock
     private SqsAsyncClient sqsClient;
@@ -36,7 +51,8 @@ class SQSSenderTest {
                 "us-east-1",
                 Map.of("myQueue", "http://sqs.amazonaws.com/123/myQueue")
         );
-        sender = new SQSSender(properties, sqsClient);
+        observationRegistry = TestObservationRegistry.create();
+        sender = new SQSSender(properties, sqsClient, observationRegistry);
     }
 
     @Test
@@ -112,4 +128,201 @@ class SQSSenderTest {
         SendMessageRequest request = captor.getValue();
         assertThat(request.messageAttributes()).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should send entries in chunks of ten and return all message ids")
+    void shouldSendBatchInChunks() {
+        List<SendMessageBatchRequestEntry> entries = IntStream.range(0, 12)
+                .mapToObj(i -> SendMessageBatchRequestEntry.builder().id("id-" + i).messageBody("body-" + i).build())
+                .toList();
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> {
+                    SendMessageBatchRequest request = invocation.getArgument(0);
+                    List<SendMessageBatchResultEntry> successful = request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder()
+                                    .id(entry.id())
+                                    .messageId("msg-" + entry.id())
+                                    .build())
+                            .toList();
+                    return CompletableFuture.completedFuture(
+                            SendMessageBatchResponse.builder().successful(successful).build());
+                });
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .expectNextCount(12)
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+
+        assertThat(captor.getAllValues().get(0).entries()).hasSize(10);
+        assertThat(captor.getAllValues().get(1).entries()).hasSize(2);
+        assertThat(captor.getAllValues().get(0).queueUrl()).isEqualTo("http://sqs.amazonaws.com/123/myQueue");
+    }
+
+    @Test
+    @DisplayName("Should return the failed entry ids once the retries are spent")
+    void shouldReturnErrorWhenBatchEntriesFail() {
+        List<SendMessageBatchRequestEntry> entries = List.of(
+                SendMessageBatchRequestEntry.builder().id("id-1").messageBody("body").build()
+        );
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("id-1").code("InternalError").build())
+                        .build()));
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .expectErrorSatisfies(error ->
+                        assertThat(error)
+                                .isInstanceOf(SQSBatchSendException.class)
+                                .hasMessageContaining("Failed to send 1 messages")
+                                .extracting(e -> ((SQSBatchSendException) e).getFailedIds())
+                                .isEqualTo(List.of("id-1")))
+                .verify();
+
+        verify(sqsClient, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should resend only the failed entries of a partially failed batch")
+    void shouldRetryOnlyFailedEntries() {
+        List<SendMessageBatchRequestEntry> entries = List.of(
+                SendMessageBatchRequestEntry.builder().id("id-1").messageBody("body-1").build(),
+                SendMessageBatchRequestEntry.builder().id("id-2").messageBody("body-2").build()
+        );
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("id-1").messageId("msg-1").build())
+                        .failed(BatchResultErrorEntry.builder().id("id-2").code("InternalError").senderFault(false).build())
+                        .build()))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("id-2").messageId("msg-2").build())
+                        .build()));
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .expectNext("msg-1", "msg-2")
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues().get(1).entries())
+                .extracting(SendMessageBatchRequestEntry::id)
+                .containsExactly("id-2");
+    }
+
+    @Test
+    @DisplayName("Should not retry entries rejected for a sender fault")
+    void shouldNotRetrySenderFaults() {
+        List<SendMessageBatchRequestEntry> entries = List.of(
+                SendMessageBatchRequestEntry.builder().id("id-1").messageBody("body").build()
+        );
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("id-1").code("InvalidMessageContents").senderFault(true).build())
+                        .build()));
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .expectError(SQSBatchSendException.class)
+                .verify();
+
+        verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should keep sending the remaining chunks when one chunk fails and report its entry ids")
+    void shouldContinueAfterFailedChunk() {
+        List<SendMessageBatchRequestEntry> entries = IntStream.range(0, 12)
+                .mapToObj(i -> SendMessageBatchRequestEntry.builder().id("id-" + i).messageBody("body-" + i).build())
+                .toList();
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS down")))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("id-10").messageId("msg-10").build(),
+                                SendMessageBatchResultEntry.builder().id("id-11").messageId("msg-11").build())
+                        .build()));
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .expectNext("msg-10", "msg-11")
+                .expectErrorSatisfies(error -> assertThat(((SQSBatchSendException) error).getFailedIds())
+                        .hasSize(10)
+                        .doesNotContain("id-10", "id-11"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return error on batch send when queue name is not configured")
+    void shouldReturnErrorOnBatchWhenQueueNotConfigured() {
+        StepVerifier.create(sender.sendBatch("unknownQueue", List.of()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(sqsClient);
+    }
+
+    @Test
+    @DisplayName("Should record a send observation and carry the trace context in the message attributes")
+    void shouldPropagateTraceContext() {
+        observationRegistry.observationConfig().observationHandler(new TraceContextInjector());
+        Map<String, MessageAttributeValue> attributes =
+                Map.of("attr1", MessageAttributeValue.builder().stringValue("value1").dataType("String").build());
+
+        when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageResponse.builder().messageId("msg-1").build()));
+
+        StepVerifier.create(sender.send("myQueue", "Traced", attributes))
+                .expectNext("msg-1")
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageRequest> captor = ArgumentCaptor.forClass(SendMessageRequest.class);
+        verify(sqsClient).sendMessage(captor.capture());
+
+        assertThat(captor.getValue().messageAttributes()).containsKey("attr1");
+        assertThat(captor.getValue().messageAttributes().get("traceparent").stringValue()).isEqualTo(TRACEPARENT);
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo("sqs.send")
+                .that()
+                .hasLowCardinalityKeyValue("messaging.destination.name", "myQueue")
+                .hasBeenStarted()
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("Should carry the trace context in every batch entry")
+    void shouldPropagateTraceContextInBatch() {
+        observationRegistry.observationConfig().observationHandler(new TraceContextInjector());
+        List<SendMessageBatchRequestEntry> entries = IntStream.range(0, 3)
+                .mapToObj(i -> SendMessageBatchRequestEntry.builder().id("id-" + i).messageBody("body-" + i).build())
+                .toList();
+
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder().build()));
+
+        StepVerifier.create(sender.sendBatch("myQueue", entries))
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient).sendMessageBatch(captor.capture());
+
+        assertThat(captor.getValue().entries())
+                .allSatisfy(entry -> assertThat(entry.messageAttributes().get("traceparent").stringValue())
+                        .isEqualTo(TRACEPARENT));
+    }
+
+    private static class TraceContextInjector implements ObservationHandler<SenderContext<Map<String, MessageAttributeValue>>> {
+
+        @Override
+        public void onStart(SenderContext<Map<String, MessageAttributeValue>> context) {
+            context.getSetter().set(context.getCarrier(), "traceparent", TRACEPARENT);
+        }
+
+        @Override
+        public boolean supportsContext(Observation.Context context) {
+            return context instanceof SenderContext;
+        }
+    }
 }
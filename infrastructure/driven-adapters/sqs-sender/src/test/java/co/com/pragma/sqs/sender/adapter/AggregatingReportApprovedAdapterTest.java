@@ -0,0 +1,225 @@
+package co.com.pragma.sqs.sender.adapter;
+
+import co.com.pragma.model.application.Application;
+import co.com.pragma.model.report.ReportApprovedDelta;
+import co.com.pragma.model.report.gateways.PendingReportDeltaRepository;
+import co.com.pragma.sqs.sender.SQSBatchSendException;
+import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
+import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AggregatingReportApprovedAdapterTest {
+
+    private static final String REPORTING_QUEUE = "reporting-queue";
+
+    @Mock
+    private SQSSender sqsSender;
+
+    @Mock
+    private SqsMessageFactory messageFactory;
+
+    @Mock
+    private MessageTemplate deltaTemplate;
+
+    @Mock
+    private PendingReportDeltaRepository pendingDeltaRepository;
+
+    @Captor
+    private ArgumentCaptor<ReportApprovedDelta> deltaCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<String, String>> attributesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<SendMessageBatchRequestEntry>> entriesCaptor;
+
+    private AggregatingReportApprovedAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        when(messageFactory.template(attributesCaptor.capture())).thenReturn(deltaTemplate);
+        adapter = new AggregatingReportApprovedAdapter(sqsSender, messageFactory, pendingDeltaRepository,
+                REPORTING_QUEUE, Duration.ofHours(1), 3, 2);
+        lenient().when(deltaTemplate.batchEntry(anyString(), any(), any()))
+                .thenAnswer(invocation -> SendMessageBatchRequestEntry.builder()
+                        .id(invocation.getArgument(0))
+                        .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.destroy();
+    }
+
+    private Application application(double amount) {
+        return Application.builder().id(UUID.randomUUID()).amount(amount).build();
+    }
+
+    @Test
+    @DisplayName("Should publish a single delta with the accumulated count and amount")
+    void shouldFlushOneDelta() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.just("message-id"));
+
+        StepVerifier.create(adapter.sendReportApprovedCount(application(1000.0), "Approved")).verifyComplete();
+        StepVerifier.create(adapter.sendReportApprovedCounts(
+                List.of(application(2000.0), application(500.0)), "Approved")).verifyComplete();
+        verify(sqsSender, never()).sendBatch(anyString(), anyList());
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(deltaTemplate).batchEntry(anyString(), deltaCaptor.capture(), any());
+        assertEquals(3L, deltaCaptor.getValue().getApprovedCount());
+        assertEquals(3500.0, deltaCaptor.getValue().getTotalAmount());
+        assertEquals("REPORT_APPROVED_DELTA", attributesCaptor.getValue().get("eventType"));
+        verify(sqsSender, times(1)).sendBatch(eq(REPORTING_QUEUE), anyList());
+    }
+
+    @Test
+    @DisplayName("Should not publish anything when no approvals were recorded")
+    void shouldSkipEmptyFlush() {
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(sqsSender, never()).sendBatch(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed delta with the same id on the next flush")
+    void shouldRetryFailedDelta() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList()))
+                .thenReturn(Flux.error(new RuntimeException("SQS down")))
+                .thenReturn(Flux.just("message-id"));
+        adapter.sendReportApprovedCount(application(1000.0), "Approved").block();
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(deltaTemplate, times(2)).batchEntry(anyString(), deltaCaptor.capture(), any());
+        List<ReportApprovedDelta> published = deltaCaptor.getAllValues();
+        assertEquals(published.get(0).getDeltaId(), published.get(1).getDeltaId());
+    }
+
+    @Test
+    @DisplayName("Should flush as soon as the approval threshold is reached")
+    void shouldFlushOnThreshold() {
+        when(pendingDeltaRepository.takeAll()).thenReturn(Flux.empty());
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.just("message-id"));
+        adapter.afterPropertiesSet();
+
+        adapter.sendReportApprovedCounts(
+                List.of(application(1.0), application(1.0), application(1.0)), "Approved").block();
+
+        verify(sqsSender, timeout(1000)).sendBatch(eq(REPORTING_QUEUE), anyList());
+    }
+
+    @Test
+    @DisplayName("Should republish deltas persisted by a previous shutdown")
+    void shouldRestorePendingDeltas() {
+        UUID deltaId = UUID.randomUUID();
+        when(pendingDeltaRepository.takeAll()).thenReturn(Flux.just(ReportApprovedDelta.builder()
+                .deltaId(deltaId).state("Approved").approvedCount(4L).totalAmount(400.0).build()));
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.just("message-id"));
+        adapter.afterPropertiesSet();
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(deltaTemplate).batchEntry(eq(deltaId.toString()), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should persist pending deltas when they cannot be published on shutdown")
+    void shouldPersistOnShutdown() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.error(new RuntimeException("SQS down")));
+        when(pendingDeltaRepository.save(any(ReportApprovedDelta.class))).thenReturn(Mono.empty());
+        adapter.sendReportApprovedCount(application(1000.0), "Approved").block();
+
+        adapter.destroy();
+
+        verify(pendingDeltaRepository).save(deltaCaptor.capture());
+        assertEquals(1L, deltaCaptor.getValue().getApprovedCount());
+    }
+
+    @Test
+    @DisplayName("Should re-queue only the deltas SQS reported as failed")
+    void shouldRequeueOnlyFailedDeltas() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList()))
+                .thenAnswer(invocation -> {
+                    List<SendMessageBatchRequestEntry> entries = invocation.getArgument(1);
+                    return Flux.error(new SQSBatchSendException(REPORTING_QUEUE, List.of(entries.get(0).id())));
+                })
+                .thenReturn(Flux.just("message-id"));
+        adapter.sendReportApprovedCount(application(1000.0), "Approved").block();
+        adapter.sendReportApprovedCount(application(500.0), "Rejected").block();
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(sqsSender, times(2)).sendBatch(eq(REPORTING_QUEUE), entriesCaptor.capture());
+        List<List<SendMessageBatchRequestEntry>> batches = entriesCaptor.getAllValues();
+        assertEquals(2, batches.get(0).size());
+        assertEquals(List.of(batches.get(0).get(0).id()),
+                batches.get(1).stream().map(SendMessageBatchRequestEntry::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should persist a delta once it has failed to publish repeatedly")
+    void shouldPersistAfterRepeatedFailures() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.error(new RuntimeException("SQS down")));
+        when(pendingDeltaRepository.save(any(ReportApprovedDelta.class))).thenReturn(Mono.empty());
+        adapter.sendReportApprovedCount(application(1000.0), "Approved").block();
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+        StepVerifier.create(adapter.flush()).verifyComplete();
+        verify(pendingDeltaRepository, never()).save(any());
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(pendingDeltaRepository).save(deltaCaptor.capture());
+        assertEquals(1L, deltaCaptor.getValue().getApprovedCount());
+        StepVerifier.create(adapter.flush()).verifyComplete();
+        verify(sqsSender, times(3)).sendBatch(eq(REPORTING_QUEUE), anyList());
+    }
+
+    @Test
+    @DisplayName("Should persist failed deltas that no longer fit in the bounded queue")
+    void shouldPersistWhenQueueIsFull() {
+        when(sqsSender.sendBatch(eq(REPORTING_QUEUE), anyList())).thenReturn(Flux.error(new RuntimeException("SQS down")));
+        when(pendingDeltaRepository.save(any(ReportApprovedDelta.class))).thenReturn(Mono.empty());
+        adapter.sendReportApprovedCount(application(1.0), "Approved").block();
+        adapter.sendReportApprovedCount(application(1.0), "Rejected").block();
+        adapter.sendReportApprovedCount(application(1.0), "Manual Review").block();
+
+        StepVerifier.create(adapter.flush()).verifyComplete();
+
+        verify(pendingDeltaRepository, times(1)).save(any(ReportApprovedDelta.class));
+    }
+}
@@ -2,6 +2,7 @@ package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.creditanalysis.CreditAnalysisPayload;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +31,9 @@ class CreditAnalysisAdapterTest {
     @Mock
     private SqsMessageFactory messageFactory;
 
+    @Mock
+    private MessageTemplate analysisTemplate;
+
     private CreditAnalysisAdapter creditAnalysisAdapter;
 
     private final String indebtednessQueue = "indebtedness-queue";
@@ -39,6 +43,7 @@ class CreditAnalysisAdapterTest {
 
     @BeforeEach
     void setUp() {
+        when(messageFactory.template(Map.of("eventType", "CREDIT_ANALYSIS_REQUESTED"))).thenReturn(analysisTemplate);
         creditAnalysisAdapter = new CreditAnalysisAdapter(sqsSender, messageFactory, indebtednessQueue);
 
         payload = CreditAnalysisPayload.builder()
@@ -55,17 +60,16 @@ class CreditAnalysisAdapterTest {
                 "key", MessageAttributeValue.builder().dataType("String").stringValue("value").build()
         );
 
-        when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
+        when(analysisTemplate.encode(payload)).thenReturn(jsonMessage);
+        when(analysisTemplate.attributes(any())).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(creditAnalysisAdapter.requestAnalysis(payload))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(payload);
-        verify(messageFactory).buildAttributes(Map.of(
-                "eventType", "CREDIT_ANALYSIS_REQUESTED",
+        verify(analysisTemplate).encode(payload);
+        verify(analysisTemplate).attributes(Map.of(
                 "applicationId", applicationId.toString(),
                 "idUser", userId.toString()
         ));
@@ -78,8 +82,8 @@ class CreditAnalysisAdapterTest {
         String jsonMessage = "json-payload";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
+        when(analysisTemplate.encode(payload)).thenReturn(jsonMessage);
+        when(analysisTemplate.attributes(any())).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
                 .thenReturn(Mono.error(new RuntimeException("SQS error")));
 
@@ -102,16 +106,15 @@ class CreditAnalysisAdapterTest {
                 "idUser", MessageAttributeValue.builder().dataType("String").stringValue(userId.toString()).build()
         );
 
-        when(messageFactory.toJson(payload)).thenReturn(jsonMessage);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
+        when(analysisTemplate.encode(payload)).thenReturn(jsonMessage);
+        when(analysisTemplate.attributes(any(Map.class))).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(indebtednessQueue), eq(jsonMessage), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(creditAnalysisAdapter.requestAnalysis(payload))
                 .verifyComplete();
 
-        verify(messageFactory).buildAttributes(Map.of(
-                "eventType", "CREDIT_ANALYSIS_REQUESTED",
+        verify(analysisTemplate).attributes(Map.of(
                 "applicationId", applicationId.toString(),
                 "idUser", userId.toString()
         ));
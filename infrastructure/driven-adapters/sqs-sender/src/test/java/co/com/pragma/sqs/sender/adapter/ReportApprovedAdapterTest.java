@@ -3,6 +3,7 @@ package co.com.pragma.sqs.sender.adapter;
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.report.ReportApprovedMessage;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,10 +13,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -33,6 +37,9 @@ class ReportApprovedAdapterTest {
     @Mock
     private SqsMessageFactory messageFactory;
 
+    @Mock
+    private MessageTemplate reportTemplate;
+
     @Captor
     private ArgumentCaptor<ReportApprovedMessage> messageCaptor;
 
@@ -47,6 +54,7 @@ class ReportApprovedAdapterTest {
 
     @BeforeEach
     void setUp() {
+        when(messageFactory.template(attributesCaptor.capture())).thenReturn(reportTemplate);
         reportApprovedAdapter = new ReportApprovedAdapter(sqsSender, messageFactory, reportingQueue);
 
         application = Application.builder()
@@ -70,22 +78,21 @@ class ReportApprovedAdapterTest {
                 "key", MessageAttributeValue.builder().dataType("String").stringValue("value").build()
         );
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
+        when(reportTemplate.encode(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
+        when(reportTemplate.attributes()).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(messageCaptor.capture());
+        verify(reportTemplate).encode(messageCaptor.capture());
         ReportApprovedMessage capturedMessage = messageCaptor.getValue();
 
         assertEquals(applicationId, capturedMessage.getApplicationId());
         assertEquals(20000.0, capturedMessage.getAmount());
         assertEquals("APPROVED", capturedMessage.getState());
 
-        verify(messageFactory).buildAttributes(attributesCaptor.capture());
         Map<String, String> capturedAttributes = attributesCaptor.getValue();
 
         assertEquals("REPORT_APPROVED", capturedAttributes.get("eventType"));
@@ -101,15 +108,15 @@ class ReportApprovedAdapterTest {
         String expectedJson = "json-payload";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
+        when(reportTemplate.encode(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
+        when(reportTemplate.attributes()).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(messageCaptor.capture());
+        verify(reportTemplate).encode(messageCaptor.capture());
         ReportApprovedMessage capturedMessage = messageCaptor.getValue();
         assertEquals("REJECTED", capturedMessage.getState());
     }
@@ -122,8 +129,8 @@ class ReportApprovedAdapterTest {
         String expectedJson = "json-payload";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
+        when(reportTemplate.encode(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
+        when(reportTemplate.attributes()).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.error(new RuntimeException("SQS error")));
 
@@ -143,15 +150,15 @@ class ReportApprovedAdapterTest {
         String expectedJson = "json-payload";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any(Map.class))).thenReturn(expectedAttributes);
+        when(reportTemplate.encode(any(ReportApprovedMessage.class))).thenReturn(expectedJson);
+        when(reportTemplate.attributes()).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(reportingQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(reportApprovedAdapter.sendReportApprovedCount(application, status))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(messageCaptor.capture());
+        verify(reportTemplate).encode(messageCaptor.capture());
         ReportApprovedMessage capturedMessage = messageCaptor.getValue();
 
         assertAll(
@@ -160,4 +167,24 @@ class ReportApprovedAdapterTest {
                 () -> assertEquals(status, capturedMessage.getState())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should send approved report messages as a single batch")
+    void sendReportApprovedCounts_ShouldSendBatch() {
+        SendMessageBatchRequestEntry entry = SendMessageBatchRequestEntry.builder()
+                .id(applicationId.toString())
+                .messageBody("json-payload")
+                .build();
+
+        when(reportTemplate.batchEntry(eq(applicationId.toString()), any(ReportApprovedMessage.class), any()))
+                .thenReturn(entry);
+        when(sqsSender.sendBatch(reportingQueue, List.of(entry))).thenReturn(Flux.just("message-id"));
+
+        StepVerifier.create(reportApprovedAdapter.sendReportApprovedCounts(List.of(application), "Approved"))
+                .verifyComplete();
+
+        verify(reportTemplate).batchEntry(eq(applicationId.toString()), messageCaptor.capture(), eq(Map.of()));
+        assertEquals("Approved", messageCaptor.getValue().getState());
+        assertEquals("REPORT_APPROVED", attributesCaptor.getValue().get("eventType"));
+    }
+}
@@ -2,7 +2,9 @@ package co.com.pragma.sqs.sender.adapter;
 
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.creditanalysis.CreditAnalysisResponsePayload;
+import co.com.pragma.sqs.sender.SQSBatchSendException;
 import co.com.pragma.sqs.sender.SQSSender;
+import co.com.pragma.sqs.sender.factory.MessageTemplate;
 import co.com.pragma.sqs.sender.factory.SqsMessageFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,10 +14,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -33,6 +38,12 @@ class SqsNotificationAdapterTest {
     @Mock
     private SqsMessageFactory messageFactory;
 
+    @Mock
+    private MessageTemplate decisionTemplate;
+
+    @Mock
+    private MessageTemplate analysisResponseTemplate;
+
     private SqsNotificationAdapter adapter;
 
     private final String notificationsQueue = "notifications-queue";
@@ -45,6 +56,9 @@ class SqsNotificationAdapterTest {
 
     @BeforeEach
     void setUp() {
+        when(messageFactory.template(Map.of("eventType", "DECISION_FINAL"))).thenReturn(decisionTemplate);
+        when(messageFactory.template(Map.of("eventType", "CREDIT_ANALYSIS_RESPONSE")))
+                .thenReturn(analysisResponseTemplate);
         adapter = new SqsNotificationAdapter(sqsSender, messageFactory, notificationsQueue);
 
         application = Application.builder()
@@ -66,15 +80,15 @@ class SqsNotificationAdapterTest {
         String expectedJson = "json-payload";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(any())).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
+        when(decisionTemplate.encode(any())).thenReturn(expectedJson);
+        when(decisionTemplate.attributes(anyMap())).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(notificationsQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(adapter.sendDecisionNotification(application, status))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(payloadCaptor.capture());
+        verify(decisionTemplate).encode(payloadCaptor.capture());
         Map<String, Object> capturedPayload = payloadCaptor.getValue();
 
         assertThat(capturedPayload)
@@ -84,10 +98,7 @@ class SqsNotificationAdapterTest {
                 .containsEntry("amount", 1000.0)
                 .containsEntry("term", 6);
 
-        verify(messageFactory).buildAttributes(Map.of(
-                "eventType", "DECISION_FINAL",
-                "applicationId", appId.toString()
-        ));
+        verify(decisionTemplate).attributes(Map.of("applicationId", appId.toString()));
         verify(sqsSender).send(notificationsQueue, expectedJson, expectedAttributes);
     }
 
@@ -100,19 +111,16 @@ class SqsNotificationAdapterTest {
         String expectedJson = "json-credit-analysis";
         Map<String, MessageAttributeValue> expectedAttributes = Map.of();
 
-        when(messageFactory.toJson(payload)).thenReturn(expectedJson);
-        when(messageFactory.buildAttributes(any())).thenReturn(expectedAttributes);
+        when(analysisResponseTemplate.encode(payload)).thenReturn(expectedJson);
+        when(analysisResponseTemplate.attributes(anyMap())).thenReturn(expectedAttributes);
         when(sqsSender.send(eq(notificationsQueue), eq(expectedJson), eq(expectedAttributes)))
                 .thenReturn(Mono.just("message-id"));
 
         StepVerifier.create(adapter.sendCreditAnalysisDecisionNotification(payload))
                 .verifyComplete();
 
-        verify(messageFactory).toJson(payload);
-        verify(messageFactory).buildAttributes(Map.of(
-                "eventType", "CREDIT_ANALYSIS_RESPONSE",
-                "applicationId", appId.toString()
-        ));
+        verify(analysisResponseTemplate).encode(payload);
+        verify(analysisResponseTemplate).attributes(Map.of("applicationId", appId.toString()));
         verify(sqsSender).send(notificationsQueue, expectedJson, expectedAttributes);
     }
 
@@ -123,4 +131,41 @@ class SqsNotificationAdapterTest {
                 adapter.sendDecisionNotification(null, "APPROVED")
         );
     }
+
+    @Test
+    @DisplayName("Should send decision notifications as a single batch")
+    void sendDecisionNotifications_ShouldSendBatch() {
+        SendMessageBatchRequestEntry entry = SendMessageBatchRequestEntry.builder()
+                .id(appId.toString())
+                .messageBody("json-payload")
+                .build();
+
+        when(decisionTemplate.batchEntry(eq(appId.toString()), any(), any())).thenReturn(entry);
+        when(sqsSender.sendBatch(notificationsQueue, List.of(entry))).thenReturn(Flux.just("message-id"));
+
+        StepVerifier.create(adapter.sendDecisionNotifications(List.of(application), Map.of(appId, "APPROVED")))
+                .verifyComplete();
+
+        verify(decisionTemplate).batchEntry(eq(appId.toString()), payloadCaptor.capture(), any());
+        assertThat(payloadCaptor.getValue())
+                .containsEntry("applicationId", appId)
+                .containsEntry("status", "APPROVED");
+        verify(sqsSender, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void sendDecisionNotifications_ShouldEmitUndeliveredApplicationIds() {
+        SendMessageBatchRequestEntry entry = SendMessageBatchRequestEntry.builder()
+                .id(appId.toString())
+                .messageBody("json-payload")
+                .build();
+
+        when(decisionTemplate.batchEntry(eq(appId.toString()), any(), any())).thenReturn(entry);
+        when(sqsSender.sendBatch(notificationsQueue, List.of(entry)))
+                .thenReturn(Flux.error(new SQSBatchSendException(notificationsQueue, List.of(appId.toString()))));
+
+        StepVerifier.create(adapter.sendDecisionNotifications(List.of(application), Map.of(appId, "APPROVED")))
+                .expectNext(appId)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,53 @@
+package co.com.pragma.sqs.sender.aggregation;
+
+import co.com.pragma.model.report.ReportApprovedDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportApprovedAccumulatorTest {
+
+    @Test
+    @DisplayName("Should return the pending count per state as approvals are added")
+    void shouldAccumulatePerState() {
+        ReportApprovedAccumulator accumulator = new ReportApprovedAccumulator();
+
+        assertEquals(1, accumulator.add("Approved", 1, 1000.0));
+        assertEquals(3, accumulator.add("Approved", 2, 3000.0));
+        assertEquals(1, accumulator.add("Rejected", 1, 500.0));
+    }
+
+    @Test
+    @DisplayName("Should drain one delta per state and reset the totals")
+    void shouldDrainAndReset() {
+        ReportApprovedAccumulator accumulator = new ReportApprovedAccumulator();
+        accumulator.add("Approved", 1, 1000.0);
+        accumulator.add("Approved", 1, 2500.0);
+
+        List<ReportApprovedDelta> deltas = accumulator.drain();
+
+        assertEquals(1, deltas.size());
+        assertNotNull(deltas.get(0).getDeltaId());
+        assertEquals(2L, deltas.get(0).getApprovedCount());
+        assertEquals(3500.0, deltas.get(0).getTotalAmount());
+        assertTrue(accumulator.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not lose approvals added concurrently")
+    void shouldAccumulateConcurrently() {
+        ReportApprovedAccumulator accumulator = new ReportApprovedAccumulator();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> accumulator.add("Approved", 1, 1.0));
+
+        ReportApprovedDelta delta = accumulator.drain().get(0);
+        assertEquals(10_000L, delta.getApprovedCount());
+        assertEquals(10_000.0, delta.getTotalAmount());
+    }
+}
@@ -1,22 +1,32 @@
 package co.com.pragma.sqs.sender.factory;
 
+import co.com.pragma.messagecodec.JsonMessageCodec;
+import co.com.pragma.messagecodec.MessageCodecRegistry;
+import co.com.pragma.messagecodec.SmileMessageCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SqsMessageFactoryTest {
 
-    private SqsMessageFactory factory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MessageCodecRegistry codecRegistry;
+    private MessageTemplate template;
 
     @BeforeEach
     void setUp() {
-        factory = new SqsMessageFactory(new ObjectMapper());
+        codecRegistry = new MessageCodecRegistry(List.of(
+                new JsonMessageCodec(objectMapper), new SmileMessageCodec(objectMapper)));
+        template = new SqsMessageFactory(codecRegistry, JsonMessageCodec.CONTENT_TYPE)
+                .template(Map.of("eventType", "TEST"));
     }
 
     @Test
@@ -25,30 +35,72 @@ class SqsMessageFactoryTest {
         record TestPayload(String name, int age) {}
         TestPayload payload = new TestPayload("Fabricio", 25);
 
-        String json = factory.toJson(payload);
+        String json = template.encode(payload);
 
         assertThat(json).contains("\"name\":\"Fabricio\"");
         assertThat(json).contains("\"age\":25");
     }
 
     @Test
-    @DisplayName("Should build SQS attributes from map")
+    @DisplayName("Should add per message attributes to the template attributes")
     void shouldBuildAttributes() {
         Map<String, String> input = Map.of("key1", "value1", "key2", "value2");
 
-        Map<String, MessageAttributeValue> result = factory.buildAttributes(input);
+        Map<String, MessageAttributeValue> result = template.attributes(input);
 
-        assertThat(result).hasSize(2);
+        assertThat(result).containsOnlyKeys("eventType", "contentType", "key1", "key2");
         assertThat(result.get("key1").stringValue()).isEqualTo("value1");
         assertThat(result.get("key1").dataType()).isEqualTo("String");
         assertThat(result.get("key2").stringValue()).isEqualTo("value2");
     }
 
     @Test
-    @DisplayName("Should return empty map when input attributes are empty")
-    void shouldReturnEmptyMap() {
-        Map<String, MessageAttributeValue> result = factory.buildAttributes(Map.of());
+    @DisplayName("Should reuse the pre-encoded constant attributes")
+    void shouldReuseConstantAttributes() {
+        Map<String, MessageAttributeValue> result = template.attributes(Map.of());
 
-        assertThat(result).isEmpty();
+        assertThat(result).isSameAs(template.attributes());
+        assertThat(result).containsOnlyKeys("eventType", "contentType");
+        assertThat(result.get("eventType").stringValue()).isEqualTo("TEST");
+        assertThat(result.get("contentType").stringValue()).isEqualTo("application/json");
+    }
+
+    @Test
+    @DisplayName("Should not leak per message attributes into the template")
+    void shouldKeepTemplateUnchanged() {
+        template.attributes(Map.of("applicationId", "a-1"));
+
+        assertThat(template.attributes()).doesNotContainKey("applicationId");
+    }
+
+    @Test
+    @DisplayName("Should build batch entry with id, JSON body and attributes")
+    void shouldBuildBatchEntry() {
+        record TestPayload(String name) {}
+
+        SendMessageBatchRequestEntry entry = template.batchEntry(
+                "entry-1", new TestPayload("Fabricio"), Map.of("applicationId", "a-1"));
+
+        assertThat(entry.id()).isEqualTo("entry-1");
+        assertThat(entry.messageBody()).isEqualTo("{\"name\":\"Fabricio\"}");
+        assertThat(entry.messageAttributes().get("eventType").stringValue()).isEqualTo("TEST");
+        assertThat(entry.messageAttributes().get("applicationId").stringValue()).isEqualTo("a-1");
+    }
+
+    @Test
+    @DisplayName("Should encode with the configured binary codec and advertise its content type")
+    void shouldEncodeWithConfiguredCodec() {
+        record TestPayload(String name) {}
+        MessageTemplate smileTemplate = new SqsMessageFactory(codecRegistry, SmileMessageCodec.CONTENT_TYPE)
+                .template(Map.of("eventType", "TEST"));
+
+        SendMessageBatchRequestEntry entry = smileTemplate.batchEntry(
+                "entry-1", new TestPayload("Fabricio"), Map.of());
+
+        assertThat(entry.messageAttributes().get("contentType").stringValue())
+                .isEqualTo(SmileMessageCodec.CONTENT_TYPE);
+        assertThat(codecRegistry.forContentType(SmileMessageCodec.CONTENT_TYPE)
+                .decode(entry.messageBody(), Map.class))
+                .containsEntry("name", "Fabricio");
     }
 }
@@ -5,9 +5,11 @@ import co.com.pragma.model.auth.ValidatedUser;
 import co.com.pragma.model.exception.EntityNotFoundException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.auth.gateway.AuthValidationGateway;
+import co.com.pragma.model.gateways.LoadSignal;
 import co.com.pragma.webclient.dto.UserValidationRequest;
 import co.com.pragma.webclient.dto.UsersFoundRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -18,12 +20,25 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @RequiredArgsConstructor
-public class AuthServiceAdapter implements AuthValidationGateway {
+@RegisterReflectionForBinding({ValidatedUser.class, UserFound.class, UserValidationRequest.class, UsersFoundRequest.class})
+public class AuthServiceAdapter implements AuthValidationGateway, LoadSignal {
 
     private final WebClient authWebClient;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Override
+    public String name() {
+        return AUTH;
+    }
+
+    @Override
+    public int pending() {
+        return inFlight.get();
+    }
 
     @Override
     public Mono<ValidatedUser> validateClientUser(String idDocument, String token){
@@ -42,7 +57,9 @@ public class AuthServiceAdapter implements AuthValidationGateway {
                     }
                     return response.createException().flatMap(Mono::error);
                 })
-                .bodyToMono(ValidatedUser.class);
+                .bodyToMono(ValidatedUser.class)
+                .doOnSubscribe(subscription -> inFlight.incrementAndGet())
+                .doFinally(signal -> inFlight.decrementAndGet());
     }
 
     @Override
@@ -62,6 +79,8 @@ public class AuthServiceAdapter implements AuthValidationGateway {
                     }
                     return response.createException().flatMap(Mono::error);
                 })
-                .bodyToFlux(UserFound.class);
+                .bodyToFlux(UserFound.class)
+                .doOnSubscribe(subscription -> inFlight.incrementAndGet())
+                .doFinally(signal -> inFlight.decrementAndGet());
     }
 }
@@ -1,5 +1,7 @@
 package co.com.pragma.webclient.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,9 +19,10 @@ public class WebClientConfig {
     }
 
     @Bean
-    public WebClient authWebClient() {
+    public WebClient authWebClient(ObjectProvider<ObservationRegistry> observationRegistry) {
         return WebClient.builder()
                 .baseUrl(authServiceUrl)
+                .observationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .build();
@@ -1,35 +1,91 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.AdvisorListingFrame;
+import co.com.pragma.api.exception.ValidationException;
 import co.com.pragma.api.mapper.ApplicationMapper;
+import co.com.pragma.api.mapper.ApprovedApplicationCsvMapper;
 import co.com.pragma.api.service.ValidationService;
+import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.ApprovedApplicationExport;
 import co.com.pragma.model.auth.ValidatedUser;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.TokenValidator;
+import co.com.pragma.model.pagination.CustomPage;
 import co.com.pragma.model.pagination.CustomPageable;
+import co.com.pragma.model.pagination.SortField;
+import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportDimension;
+import co.com.pragma.model.report.ReportGranularity;
+import co.com.pragma.model.report.TimeSeriesReport;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.usecase.bulkupdateapplicationstatus.BulkUpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.exportapprovedapplications.ExportApprovedApplicationsUseCase;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findarchivedapplication.FindArchivedApplicationUseCase;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.idempotentregisterrequest.IdempotentRegisterRequestUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
+@RegisterReflectionForBinding({
+        RegisterApplicationRequestDto.class,
+        UpdateApplicationStatusRequest.class,
+        UpdateApplicationStatusBulkRequest.class,
+        ApplicationDto.class,
+        AdvisorListingFrame.class,
+        CustomPage.class,
+        ApplicationAdvisorView.class,
+        ApplicationStatusUpdateResult.class,
+        DailyReport.class,
+        TimeSeriesReport.class
+})
 public class Handler {
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final RegisterRequestUseCase registerRequestUseCase;
+    private final IdempotentRegisterRequestUseCase idempotentRegisterRequestUseCase;
     private final GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase;
     private final UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
+    private final BulkUpdateApplicationStatusUseCase bulkUpdateApplicationStatusUseCase;
     private final FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
+    private final FindArchivedApplicationUseCase findArchivedApplicationUseCase;
+    private final ExportApprovedApplicationsUseCase exportApprovedApplicationsUseCase;
+    private final GenerateReportUseCase generateReportUseCase;
     private final ApplicationMapper applicationMapper;
     private final ValidationService validationService;
     private final TokenValidator tokenValidator;
@@ -48,10 +104,19 @@ public class Handler {
                                                 "Clients can only create loan requests for themselves"));
                                     }
 
+                                    String idempotencyKey = request.headers().firstHeader(IDEMPOTENCY_KEY_HEADER);
+                                    if (idempotencyKey != null && (idempotencyKey.isBlank()
+                                            || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+                                        return Mono.error(new ValidationException(Map.of(IDEMPOTENCY_KEY_HEADER,
+                                                List.of("must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"))));
+                                    }
+
                                     return validationService.validate(requestDto)
                                             .map(applicationMapper::toEntity)
-                                            .flatMap(application ->
-                                                    registerRequestUseCase.registerApplication(application, token)
+                                            .flatMap(application -> idempotencyKey == null
+                                                    ? registerRequestUseCase.registerApplication(application, token)
+                                                    : idempotentRegisterRequestUseCase.registerApplication(
+                                                            application, token, idempotencyKey)
                                             )
                                             .map(applicationMapper::toResponse);
                                 })
@@ -65,28 +130,46 @@ public class Handler {
 
     public Mono<ServerResponse> getApplicationsForAdvisor(ServerRequest request) {
         return extractAuthToken(request)
-                .flatMap(token -> {
-                    int page = Integer.parseInt(request.queryParam("page").orElse("0"));
-                    int size = Integer.parseInt(request.queryParam("size").orElse("10"));
-                    String sortBy = request.queryParam("sortBy").orElse("amount");
-                    String sortDirection = request.queryParam("sortDirection").orElse("asc");
-
-                    CustomPageable customPageable = CustomPageable.builder()
-                            .page(page)
-                            .size(size)
-                            .sortBy(sortBy)
-                            .sortDirection(sortDirection)
-                            .build();
-
-                    List<String> targetStatuses = List.of("Pending Review", "Rejected", "Manual Review");
-
-                    return getApplicationsForAdvisorUseCase.getApplicationsByStatus(token, targetStatuses, customPageable);
-                })
+                .flatMap(token -> getApplicationsForAdvisorUseCase.getApplicationsByStatus(
+                        token, Status.REVIEWABLE_STATUS_NAMES, toCustomPageable(request)))
                 .flatMap(response -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(response));
     }
 
+    public Mono<ServerResponse> streamApplicationsForAdvisor(ServerRequest request) {
+        boolean serverSentEvents = request.headers().accept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+
+        return extractAuthToken(request)
+                .flatMap(token -> getApplicationsForAdvisorUseCase.streamApplicationsByStatus(
+                        token, Status.REVIEWABLE_STATUS_NAMES, toCustomPageable(request)))
+                .flatMap(stream -> {
+                    Flux<AdvisorListingFrame> frames = stream.getContent()
+                            .map(AdvisorListingFrame::item)
+                            .concatWith(Mono.fromSupplier(() -> AdvisorListingFrame.page(stream.getPage())));
+
+                    if (serverSentEvents) {
+                        return ServerResponse.ok()
+                                .contentType(MediaType.TEXT_EVENT_STREAM)
+                                .body(BodyInserters.fromServerSentEvents(frames.map(frame ->
+                                        ServerSentEvent.builder(frame.data()).event(frame.type()).build())));
+                    }
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .body(frames, AdvisorListingFrame.class);
+                });
+    }
+
+    private CustomPageable toCustomPageable(ServerRequest request) {
+        return CustomPageable.builder()
+                .page(Integer.parseInt(request.queryParam("page").orElse("0")))
+                .size(Integer.parseInt(request.queryParam("size").orElse("10")))
+                .sortBy(SortField.fromKey(request.queryParam("sortBy").orElse(SortField.AMOUNT.getKey())))
+                .sortDirection(request.queryParam("sortDirection").orElse("asc"))
+                .build();
+    }
+
     public Mono<ServerResponse> updateApplicationStatus(ServerRequest request) {
         return request.bodyToMono(UpdateApplicationStatusRequest.class)
                 .flatMap(validationRequest ->
@@ -101,6 +184,17 @@ public class Handler {
                 );
     }
 
+    public Mono<ServerResponse> updateApplicationStatusBulk(ServerRequest request) {
+        return request.bodyToMono(UpdateApplicationStatusBulkRequest.class)
+                .flatMap(validationService::validate)
+                .map(bulkRequest -> applicationMapper.toStatusUpdates(bulkRequest.items()))
+                .flatMap(updates -> bulkUpdateApplicationStatusUseCase.updateStatuses(updates).collectList())
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response)
+                );
+    }
+
     public Mono<ServerResponse> getApprovedApplicationDaily(ServerRequest serverRequest) {
         return findApprovedApplicationDailyUseCase.findApprovedApplicationDaily()
                 .flatMap(response -> ServerResponse.ok()
@@ -109,6 +203,102 @@ public class Handler {
                 );
     }
 
+    public Mono<ServerResponse> getArchivedApplication(ServerRequest request) {
+        UUID id;
+        try {
+            id = UUID.fromString(request.pathVariable("id"));
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(new ValidationException(Map.of("id", List.of("has an invalid format"))));
+        }
+        return findArchivedApplicationUseCase.findById(id)
+                .map(applicationMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response)
+                );
+    }
+
+    public Mono<ServerResponse> exportApprovedApplications(ServerRequest request) {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        LocalDate from = queryParam(request, "from", LocalDate::parse, true, errors);
+        LocalDate to = queryParam(request, "to", LocalDate::parse, true, errors);
+        UUID afterId = queryParam(request, "after", UUID::fromString, false, errors);
+        String format = request.queryParam("format").orElse("csv");
+        if (!format.equals("csv") && !format.equals("ndjson")) {
+            errors.put("format", List.of("must be csv or ndjson"));
+        }
+        if (!errors.isEmpty()) {
+            return Mono.error(new ValidationException(errors));
+        }
+
+        Flux<ApprovedApplicationExport> rows = exportApprovedApplicationsUseCase.export(from, to, afterId);
+        String filename = "approved-applications-" + from + "-" + to + "." + format;
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString());
+
+        if (format.equals("ndjson")) {
+            return response.contentType(MediaType.APPLICATION_NDJSON)
+                    .body(rows, ApprovedApplicationExport.class);
+        }
+        Flux<String> lines = rows.map(ApprovedApplicationCsvMapper::toLine);
+        return response.contentType(TEXT_CSV)
+                .body(afterId == null ? lines.startWith(ApprovedApplicationCsvMapper.HEADER) : lines, String.class);
+    }
+
+    public Mono<ServerResponse> getReport(ServerRequest request) {
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        LocalDateTime from = queryParam(request, "from", Handler::parseDateTime, true, errors);
+        LocalDateTime to = queryParam(request, "to", Handler::parseDateTime, true, errors);
+        ReportGranularity granularity = queryParam(request, "granularity", ReportGranularity::fromKey, false, errors);
+        ReportDateField dateField = queryParam(request, "dateField", ReportDateField::fromKey, false, errors);
+        List<ReportDimension> groupBy = queryParam(request, "groupBy", value -> Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(ReportDimension::fromKey)
+                .distinct()
+                .toList(), false, errors);
+        List<String> statuses = request.queryParams().getOrDefault("status", List.of());
+        if (!errors.isEmpty()) {
+            return Mono.error(new ValidationException(errors));
+        }
+
+        ReportCriteria criteria = ReportCriteria.builder()
+                .start(from)
+                .end(to)
+                .granularity(granularity != null ? granularity : ReportGranularity.DAY)
+                .dateField(dateField != null ? dateField : ReportDateField.CREATED_AT)
+                .statusNames(statuses.isEmpty() ? List.of("Approved") : List.copyOf(statuses))
+                .groupBy(groupBy != null ? groupBy : List.of())
+                .build();
+
+        return generateReportUseCase.generate(criteria)
+                .flatMap(report -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(report)
+                );
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    private <T> T queryParam(ServerRequest request, String name, Function<String, T> parser, boolean required,
+                             Map<String, List<String>> errors) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null || value.isBlank()) {
+            if (required) {
+                errors.put(name, List.of("is required"));
+            }
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException ex) {
+            errors.put(name, List.of("has an invalid format"));
+            return null;
+        }
+    }
+
     private Mono<String> extractAuthToken(ServerRequest request) {
         return Mono.justOrEmpty(request.headers().firstHeader(HttpHeaders.AUTHORIZATION))
                 .filter(token -> token.startsWith("Bearer "))
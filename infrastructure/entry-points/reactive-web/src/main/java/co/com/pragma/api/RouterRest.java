@@ -2,10 +2,17 @@ package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
 import co.com.pragma.api.exception.GlobalExceptionHandler;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.ApprovedApplicationExport;
 import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.model.report.TimeSeriesReport;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -15,7 +22,10 @@ import org.springdoc.core.annotations.RouterOperation;
 import org.springdoc.core.annotations.RouterOperations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -24,6 +34,11 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 @RequiredArgsConstructor
 public class RouterRest {
 
+    private static final RequestPredicate STREAMING_ACCEPT = RequestPredicates.headers(headers ->
+            headers.accept().stream().anyMatch(type ->
+                    MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(type)
+                            || MediaType.TEXT_EVENT_STREAM.equalsTypeAndSubtype(type)));
+
     @Bean
     @RouterOperations({
             @RouterOperation(
@@ -49,19 +64,27 @@ public class RouterRest {
                                                     mediaType = "application/json",
                                                     schema = @Schema(implementation = ApplicationDto.class)
                                             )
-                                    )
+                                    ),
+                                    @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request")
                             }
                     )
             ),
             @RouterOperation(
                     path = "/request/api/v1/requests",
                     method = RequestMethod.GET,
+                    produces = {"application/json", "application/x-ndjson", "text/event-stream"},
                     beanClass = Handler.class,
                     beanMethod = "getApplicationsForAdvisor",
                     operation = @Operation(
                             operationId = "getApplicationsForAdvisor",
                             summary = "Get applications for advisor",
                             tags = {"Request"},
+                            parameters = @Parameter(
+                                    in = ParameterIn.QUERY,
+                                    name = "sortBy",
+                                    schema = @Schema(allowableValues = {"amount", "term", "createdAt"},
+                                            defaultValue = "amount")
+                            ),
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
@@ -70,7 +93,8 @@ public class RouterRest {
                                                     mediaType = "application/json",
                                                     schema = @Schema(implementation = ApplicationDto.class)
                                             )
-                                    )
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Unsupported sort field")
                             }
                     )
             ),
@@ -101,6 +125,35 @@ public class RouterRest {
                             }
                     )
             ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/bulk",
+                    method = RequestMethod.PUT,
+                    beanClass = Handler.class,
+                    beanMethod = "updateApplicationStatusBulk",
+                    operation = @Operation(
+                            operationId = "updateApplicationStatusBulk",
+                            summary = "Update the status of several applications",
+                            tags = {"Request"},
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    content = @Content(
+                                            schema = @Schema(implementation = UpdateApplicationStatusBulkRequest.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Per-item result of the bulk update",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    array = @ArraySchema(
+                                                            schema = @Schema(implementation = ApplicationStatusUpdateResult.class)
+                                                    )
+                                            )
+                                    )
+                            }
+                    )
+            ),
             @RouterOperation(
                     path = "/request/api/v1/requests/approved/yesterday",
                     method = RequestMethod.GET,
@@ -121,15 +174,116 @@ public class RouterRest {
                                     )
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/archived/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getArchivedApplication",
+                    operation = @Operation(
+                            operationId = "getArchivedApplication",
+                            summary = "Get an archived application",
+                            tags = {"Request"},
+                            parameters = @Parameter(in = ParameterIn.PATH, name = "id", required = true),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Archived application retrieved successfully",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = ApplicationDto.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "404", description = "Application is not archived")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/export",
+                    method = RequestMethod.GET,
+                    produces = {"text/csv", "application/x-ndjson"},
+                    beanClass = Handler.class,
+                    beanMethod = "exportApprovedApplications",
+                    operation = @Operation(
+                            operationId = "exportApprovedApplications",
+                            summary = "Export the applications approved in a date range",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "from", required = true,
+                                            schema = @Schema(type = "string", format = "date")),
+                                    @Parameter(in = ParameterIn.QUERY, name = "to", required = true,
+                                            schema = @Schema(type = "string", format = "date")),
+                                    @Parameter(in = ParameterIn.QUERY, name = "after",
+                                            description = "Id of the last row already received, to resume the export",
+                                            schema = @Schema(type = "string", format = "uuid")),
+                                    @Parameter(in = ParameterIn.QUERY, name = "format",
+                                            schema = @Schema(allowableValues = {"csv", "ndjson"}, defaultValue = "csv"))
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Approved applications streamed in approval order",
+                                            content = @Content(
+                                                    mediaType = "text/csv",
+                                                    schema = @Schema(implementation = ApprovedApplicationExport.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Invalid range, parameters or resume cursor")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/request/api/v1/requests/reports",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "getReport",
+                    operation = @Operation(
+                            operationId = "getReport",
+                            summary = "Get a time series of applications for a window",
+                            tags = {"Request"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "from", required = true,
+                                            description = "ISO date or date-time, inclusive"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "to", required = true,
+                                            description = "ISO date or date-time, exclusive"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "granularity",
+                                            schema = @Schema(allowableValues = {"hour", "day", "week", "month"},
+                                                    defaultValue = "day")),
+                                    @Parameter(in = ParameterIn.QUERY, name = "dateField",
+                                            schema = @Schema(allowableValues = {"createdAt", "approvedAt"},
+                                                    defaultValue = "createdAt")),
+                                    @Parameter(in = ParameterIn.QUERY, name = "status",
+                                            description = "Repeatable, defaults to Approved"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "groupBy",
+                                            description = "Comma separated: loanType, status")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Report generated successfully",
+                                            content = @Content(
+                                                    mediaType = "application/json",
+                                                    schema = @Schema(implementation = TimeSeriesReport.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Invalid window or parameters"),
+                                    @ApiResponse(responseCode = "404", description = "Unknown status")
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler,
                                                          GlobalExceptionHandler globalExceptionHandler) {
         return RouterFunctions.route()
                 .POST("/request/api/v1/requests", handler::registerRequest)
+                .GET("/request/api/v1/requests", STREAMING_ACCEPT, handler::streamApplicationsForAdvisor)
                 .GET("/request/api/v1/requests", handler::getApplicationsForAdvisor)
                 .PUT("/request/api/v1/requests", handler::updateApplicationStatus)
+                .PUT("/request/api/v1/requests/bulk", handler::updateApplicationStatusBulk)
                 .GET("/request/api/v1/requests/approved/yesterday", handler::getApprovedApplicationDaily)
+                .GET("/request/api/v1/requests/archived/{id}", handler::getArchivedApplication)
+                .GET("/request/api/v1/requests/export", handler::exportApprovedApplications)
+                .GET("/request/api/v1/requests/reports", handler::getReport)
                 .filter(globalExceptionHandler)
                 .build();
     }
@@ -0,0 +1,150 @@
+package co.com.pragma.api.admission;
+
+import co.com.pragma.api.dto.response.ApiErrorResponse;
+import co.com.pragma.api.exception.ErrorTimestamp;
+import co.com.pragma.model.gateways.LoadSignal;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs after the security chain: sheds every request with 503 while a downstream queue is over its threshold,
+ * then applies a per user and role token bucket, answering 429 when it is empty.
+ */
+@Component
+public class AdmissionControlFilter implements WebFilter {
+
+    private static final String ACTUATOR_PATH = "/request/actuator";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String REJECTED_METRIC = "http.admission.rejected";
+    private static final Client ANONYMOUS = new Client("anonymous", "");
+
+    private final AdmissionProperties properties;
+    private final List<ThresholdedSignal> signals;
+    private final TokenBucketStore buckets;
+    private final ErrorTimestamp errorTimestamp;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rateLimitedCounters = new ConcurrentHashMap<>();
+
+    public AdmissionControlFilter(AdmissionProperties properties,
+                                  List<LoadSignal> loadSignals,
+                                  ErrorTimestamp errorTimestamp,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.errorTimestamp = errorTimestamp;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.buckets = new TokenBucketStore(properties.maxClients(), properties.sweepInterval().toNanos(), System::nanoTime);
+        this.signals = loadSignals.stream()
+                .filter(signal -> properties.shedThresholds().containsKey(signal.name()))
+                .map(signal -> new ThresholdedSignal(signal, properties.shedThresholds().get(signal.name()),
+                        Counter.builder(REJECTED_METRIC)
+                                .description("Requests rejected before reaching a handler")
+                                .tag("reason", "overloaded")
+                                .tag("resource", signal.name())
+                                .register(meterRegistry)))
+                .toList();
+
+        loadSignals.forEach(signal -> Gauge.builder("http.admission.pending", signal, LoadSignal::pending)
+                .description("Requests queued on a shared downstream resource")
+                .tag("resource", signal.name())
+                .register(meterRegistry));
+        Gauge.builder("http.admission.clients", buckets, TokenBucketStore::size)
+                .description("Clients with a partially drained rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.enabled() || exchange.getRequest().getPath().value().startsWith(ACTUATOR_PATH)) {
+            return chain.filter(exchange);
+        }
+
+        for (ThresholdedSignal signal : signals) {
+            if (signal.signal().pending() > signal.threshold()) {
+                signal.rejected().increment();
+                return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE, 1, "Service is busy, retry shortly");
+            }
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(AdmissionControlFilter::toClient)
+                .defaultIfEmpty(ANONYMOUS)
+                .flatMap(client -> client == ANONYMOUS ? chain.filter(exchange) : admit(client, exchange, chain));
+    }
+
+    private Mono<Void> admit(Client client, ServerWebExchange exchange, WebFilterChain chain) {
+        long waitNanos = buckets.tryAcquire(client.key(), properties.limitFor(client.role()));
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+        rateLimitedCounters.computeIfAbsent(client.role(), role -> Counter.builder(REJECTED_METRIC)
+                        .description("Requests rejected before reaching a handler")
+                        .tag("reason", "rate_limited")
+                        .tag("resource", role)
+                        .register(meterRegistry))
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return reject(exchange, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds, "Too many requests");
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, long retryAfterSeconds, String message) {
+        ApiErrorResponse error = ApiErrorResponse.builder()
+                .timestamp(errorTimestamp.now())
+                .status(status.value())
+                .error(status.name())
+                .message(message)
+                .build();
+
+        exchange.getResponse().setStatusCode(status);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(error);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse()
+                    .bufferFactory().wrap(bytes)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private static Client toClient(Authentication authentication) {
+        String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()).toLowerCase(Locale.ROOT))
+                .findFirst()
+                .orElse(ANONYMOUS.role());
+        return new Client(role, role + ':' + authentication.getName());
+    }
+
+    private record Client(String role, String key) {
+    }
+
+    private record ThresholdedSignal(LoadSignal signal, int threshold, Counter rejected) {
+    }
+}
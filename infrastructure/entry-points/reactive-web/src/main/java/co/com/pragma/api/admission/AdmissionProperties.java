@@ -0,0 +1,37 @@
+package co.com.pragma.api.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@ConfigurationProperties(prefix = "adapter.web.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit defaultLimit,
+        Map<String, Limit> roles,
+        @DefaultValue("100000") int maxClients,
+        @DefaultValue("1m") Duration sweepInterval,
+        Map<String, Integer> shedThresholds) {
+
+    public AdmissionProperties {
+        roles = roles == null ? Map.of() : roles.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(entry -> entry.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+        shedThresholds = shedThresholds == null ? Map.of() : Map.copyOf(shedThresholds);
+    }
+
+    /**
+     * @param role lower-case role name, without the {@code ROLE_} prefix
+     */
+    public Limit limitFor(String role) {
+        return roles.getOrDefault(role, defaultLimit);
+    }
+
+    public record Limit(
+            @DefaultValue("20") int capacity,
+            @DefaultValue("10") double refillPerSecond) {
+    }
+}
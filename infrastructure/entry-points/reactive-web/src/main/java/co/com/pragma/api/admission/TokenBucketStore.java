@@ -0,0 +1,92 @@
+package co.com.pragma.api.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets kept as a single CAS-updated long each (GCRA: the theoretical arrival time of the
+ * next request). A bucket whose arrival time has passed is full again, so it carries no state and can be evicted.
+ * The store never tracks more than {@code maxClients} buckets: once full, new clients are turned away until a
+ * sweep frees room, and those sweeps run at most once per {@link #OVERFLOW_SWEEP_GAP_NANOS}.
+ */
+public class TokenBucketStore {
+
+    static final long OVERFLOW_SWEEP_GAP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+    private final long sweepIntervalNanos;
+    private final long overflowSweepGapNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketStore(int maxClients, long sweepIntervalNanos, LongSupplier nanoClock) {
+        this.maxClients = maxClients;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.overflowSweepGapNanos = Math.min(sweepIntervalNanos, OVERFLOW_SWEEP_GAP_NANOS);
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public long tryAcquire(String key, AdmissionProperties.Limit limit) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                return Math.max(1, lastSweep.get() + overflowSweepGapNanos - now);
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(limit, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        long elapsed = now - last;
+        boolean due = elapsed >= sweepIntervalNanos
+                || (elapsed >= overflowSweepGapNanos && buckets.size() >= maxClients);
+        if (due && lastSweep.compareAndSet(last, now)) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    static final class Bucket {
+        private final long emissionNanos;
+        private final long toleranceNanos;
+        private final AtomicLong arrival;
+
+        Bucket(AdmissionProperties.Limit limit, long now) {
+            this.emissionNanos = (long) (1_000_000_000L / limit.refillPerSecond());
+            this.toleranceNanos = emissionNanos * limit.capacity();
+            this.arrival = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long current = arrival.get();
+                long next = Math.max(current, now) + emissionNanos;
+                long excess = next - now - toleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return arrival.get() - now <= 0;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package co.com.pragma.api.config;
 
 import co.com.pragma.api.dto.response.ApiErrorResponse;
+import co.com.pragma.api.exception.ErrorTimestamp;
 import co.com.pragma.api.security.JwtAuthenticationFilter;
 import co.com.pragma.model.gateways.CustomLogger;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -21,8 +22,6 @@ import org.springframework.security.web.server.authorization.ServerAccessDeniedH
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Configuration
 @EnableWebFluxSecurity
@@ -33,6 +32,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final ObjectMapper objectMapper;
     private final CustomLogger logger;
+    private final ErrorTimestamp errorTimestamp;
 
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
@@ -50,7 +50,11 @@ public class SecurityConfig {
                         .pathMatchers(HttpMethod.POST, "/request/api/v1/requests").hasRole("CLIENT")
                         .pathMatchers(HttpMethod.GET, "/request/api/v1/requests").hasRole("ADVISER")
                         .pathMatchers(HttpMethod.PUT, "/request/api/v1/requests").hasRole("ADVISER")
+                        .pathMatchers(HttpMethod.PUT, "/request/api/v1/requests/bulk").hasRole("ADVISER")
                         .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/approved/yesterday").hasAnyRole("ADMIN", "REPORT_JOB")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/archived/**").hasRole("ADVISER")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/export").hasRole("ADMIN")
+                        .pathMatchers(HttpMethod.GET, "/request/api/v1/requests/reports").hasAnyRole("ADMIN", "REPORT_JOB")
                         .pathMatchers("/request/actuator/**").permitAll()
                         .anyExchange().authenticated()
                 )
@@ -67,7 +71,7 @@ public class SecurityConfig {
         return (exchange, ex) -> {
             logger.warn("Access denied: {}", ex.getMessage());
             ApiErrorResponse error = ApiErrorResponse.builder()
-                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                    .timestamp(errorTimestamp.now())
                     .status(HttpStatus.FORBIDDEN.value())
                     .error(HttpStatus.FORBIDDEN.name())
                     .message("You don't have permission to access this resource")
@@ -84,10 +88,10 @@ public class SecurityConfig {
             if (errorMessage == null) {
                 errorMessage = "Authentication failed";
             }
-            logger.warn("Authentication failed: " + errorMessage);
+            logger.warn("Authentication failed: {}", errorMessage);
 
             ApiErrorResponse error = ApiErrorResponse.builder()
-                    .timestamp(OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                    .timestamp(errorTimestamp.now())
                     .status(HttpStatus.UNAUTHORIZED.value())
                     .error(HttpStatus.UNAUTHORIZED.name())
                     .message(errorMessage)
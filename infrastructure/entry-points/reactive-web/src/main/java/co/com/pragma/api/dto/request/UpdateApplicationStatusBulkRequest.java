@@ -0,0 +1,14 @@
+package co.com.pragma.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UpdateApplicationStatusBulkRequest(
+        @NotEmpty(message = "Items are required")
+        @Size(max = 200, message = "A maximum of 200 items is allowed per request")
+        List<@Valid UpdateApplicationStatusRequest> items
+) {
+}
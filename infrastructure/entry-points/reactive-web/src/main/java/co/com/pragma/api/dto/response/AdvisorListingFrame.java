@@ -0,0 +1,18 @@
+package co.com.pragma.api.dto.response;
+
+import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.pagination.CustomPage;
+
+public record AdvisorListingFrame(String type, Object data) {
+
+    public static final String ITEM = "item";
+    public static final String PAGE = "page";
+
+    public static AdvisorListingFrame item(ApplicationAdvisorView view) {
+        return new AdvisorListingFrame(ITEM, view);
+    }
+
+    public static AdvisorListingFrame page(CustomPage<?> page) {
+        return new AdvisorListingFrame(PAGE, page);
+    }
+}
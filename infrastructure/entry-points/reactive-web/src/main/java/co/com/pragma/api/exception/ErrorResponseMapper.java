@@ -0,0 +1,89 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.dto.response.ApiErrorResponse;
+import co.com.pragma.model.exception.ConcurrentUpdateException;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
+import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidExportCursorException;
+import co.com.pragma.model.exception.InvalidSortFieldException;
+import co.com.pragma.model.exception.TokenValidationException;
+import co.com.pragma.model.exception.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resolves an error to its status and log line once per exception class and builds the response body.
+ */
+@Component
+@RequiredArgsConstructor
+@RegisterReflectionForBinding(ApiErrorResponse.class)
+public class ErrorResponseMapper {
+
+    static final Mapping INTERNAL_ERROR =
+            new Mapping(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error at: {}", Throwable::getMessage);
+
+    private static final Map<Class<? extends Throwable>, Mapping> MAPPINGS = Map.of(
+            ValidationException.class, new Mapping(HttpStatus.BAD_REQUEST, "Validation error at: {}",
+                    error -> "Validation failed"),
+            InvalidAmountException.class, new Mapping(HttpStatus.BAD_REQUEST, "Amount invalid at: {}", Throwable::getMessage),
+            InvalidSortFieldException.class, new Mapping(HttpStatus.BAD_REQUEST, "Invalid sort field at: {}", Throwable::getMessage),
+            InvalidDateRangeException.class, new Mapping(HttpStatus.BAD_REQUEST, "Invalid date range at: {}", Throwable::getMessage),
+            InvalidExportCursorException.class, new Mapping(HttpStatus.BAD_REQUEST, "Invalid export cursor at: {}", Throwable::getMessage),
+            EntityNotFoundException.class, new Mapping(HttpStatus.NOT_FOUND, "Entity not found at: {}", Throwable::getMessage),
+            ConcurrentUpdateException.class, new Mapping(HttpStatus.CONFLICT, "Concurrent update at: {}", Throwable::getMessage),
+            IdempotencyKeyMismatchException.class, new Mapping(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reused at: {}", Throwable::getMessage),
+            UnauthorizedException.class, new Mapping(HttpStatus.UNAUTHORIZED, "Authentication failed: {}", Throwable::getMessage),
+            TokenValidationException.class, new Mapping(HttpStatus.UNAUTHORIZED, "JWT validation failed: {}", Throwable::getMessage));
+
+    private static final ClassValue<Mapping> RESOLVED = new ClassValue<>() {
+        @Override
+        protected Mapping computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Mapping mapping = MAPPINGS.get(current);
+                if (mapping != null) {
+                    return mapping;
+                }
+            }
+            return INTERNAL_ERROR;
+        }
+    };
+
+    private final ErrorTimestamp timestamp;
+
+    public Mapping mappingFor(Throwable error) {
+        return RESOLVED.get(error.getClass());
+    }
+
+    public ApiErrorResponse toBody(Mapping mapping, Throwable error) {
+        return ApiErrorResponse.builder()
+                .timestamp(timestamp.now())
+                .status(mapping.statusCode())
+                .error(mapping.statusName())
+                .message(mapping.message().apply(error))
+                .errors(error instanceof ValidationException validation ? validation.getErrors() : null)
+                .build();
+    }
+
+    public Object logDetail(Throwable error) {
+        return error instanceof ValidationException validation ? validation.getErrors() : error.getMessage();
+    }
+
+    public record Mapping(HttpStatus status, int statusCode, String statusName, String logMessage,
+                          Function<Throwable, String> message) {
+
+        Mapping(HttpStatus status, String logMessage, Function<Throwable, String> message) {
+            this(status, status.value(), status.name(), logMessage, message);
+        }
+
+        public boolean serverError() {
+            return status.is5xxServerError();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.pragma.api.exception;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ISO-8601 timestamp for error bodies, formatted at most once per millisecond.
+ */
+@Component
+public class ErrorTimestamp {
+
+    private final Clock clock;
+    private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, null);
+
+    public ErrorTimestamp() {
+        this(Clock.systemDefaultZone());
+    }
+
+    ErrorTimestamp(Clock clock) {
+        this.clock = clock;
+    }
+
+    public String now() {
+        long millis = clock.millis();
+        Snapshot current = snapshot;
+        if (current.millis() != millis) {
+            current = new Snapshot(millis, OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone())
+                    .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+            snapshot = current;
+        }
+        return current.formatted();
+    }
+
+    private record Snapshot(long millis, String formatted) {
+    }
+}
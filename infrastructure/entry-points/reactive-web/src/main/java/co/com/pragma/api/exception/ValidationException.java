@@ -11,6 +11,7 @@ public class ValidationException extends RuntimeException {
     private final Map<String, List<String>> errors;
 
     public ValidationException(Map<String, List<String>> errors) {
+        super(null, null, false, false);
         this.errors = errors;
     }
 }
@@ -2,10 +2,14 @@ package co.com.pragma.api.mapper;
 
 import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationStatusUpdate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface ApplicationMapper {
     @Mapping(target = "id", ignore = true)
@@ -15,4 +19,8 @@ public interface ApplicationMapper {
     Application toEntity(RegisterApplicationRequestDto registerApplicationRequestDto);
 
     ApplicationDto toResponse(Application application);
+
+    ApplicationStatusUpdate toStatusUpdate(UpdateApplicationStatusRequest request);
+
+    List<ApplicationStatusUpdate> toStatusUpdates(List<UpdateApplicationStatusRequest> requests);
 }
@@ -0,0 +1,37 @@
+package co.com.pragma.api.mapper;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public final class ApprovedApplicationCsvMapper {
+
+    public static final String HEADER =
+            "id,amount,term,email,id_document,loan_type,status,created_at,approved_at\n";
+
+    private ApprovedApplicationCsvMapper() {
+    }
+
+    public static String toLine(ApprovedApplicationExport export) {
+        StringJoiner line = new StringJoiner(",", "", "\n");
+        line.add(field(export.getId()))
+                .add(field(export.getAmount()))
+                .add(field(export.getTerm()))
+                .add(field(export.getEmail()))
+                .add(field(export.getIdDocument()))
+                .add(field(export.getLoanTypeName()))
+                .add(field(export.getStatusName()))
+                .add(field(export.getCreatedAt()))
+                .add(field(export.getApprovedAt()));
+        return line.toString();
+    }
+
+    private static String field(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,207 @@
+package co.com.pragma.api.service;
+
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Field constraints of a DTO read once from the Bean Validation metadata and checked through field handles,
+ * so a request skips the reflective pass of {@link Validator#validate}. Only literal messages and the
+ * constraints below are compiled; any other type is left to the Jakarta validator.
+ */
+final class CompiledValidator {
+
+    static final Map<String, List<String>> NO_VIOLATIONS = Map.of();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final List<Property> properties;
+
+    private CompiledValidator(List<Property> properties) {
+        this.properties = properties;
+    }
+
+    static Optional<CompiledValidator> compile(Class<?> type, Validator validator) {
+        return Optional.ofNullable(compile(type, validator, new HashSet<>()));
+    }
+
+    Map<String, List<String>> validate(Object bean) {
+        Map<String, List<String>> errors = collect(bean, "", null);
+        return errors == null ? NO_VIOLATIONS : errors;
+    }
+
+    private Map<String, List<String>> collect(Object bean, String prefix, Map<String, List<String>> errors) {
+        for (Property property : properties) {
+            Object value = property.read(bean);
+            for (Constraint constraint : property.constraints()) {
+                if (!constraint.test().test(value)) {
+                    if (errors == null) {
+                        errors = new LinkedHashMap<>();
+                    }
+                    errors.computeIfAbsent(prefix + property.name(), name -> new ArrayList<>(1))
+                            .add(constraint.message());
+                }
+            }
+            if (property.elements() != null && value instanceof List<?> elements) {
+                for (int i = 0; i < elements.size(); i++) {
+                    Object element = elements.get(i);
+                    if (element != null) {
+                        errors = property.elements().collect(element,
+                                prefix + property.name() + "[" + i + "].", errors);
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static CompiledValidator compile(Class<?> type, Validator validator, Set<Class<?>> visiting) {
+        BeanDescriptor bean = validator.getConstraintsForClass(type);
+        if (bean.hasConstraints() || !visiting.add(type)) {
+            return null;
+        }
+        List<Property> properties = new ArrayList<>();
+        for (PropertyDescriptor descriptor : bean.getConstrainedProperties()) {
+            Property property = property(type, descriptor, validator, visiting);
+            if (property == null) {
+                return null;
+            }
+            properties.add(property);
+        }
+        visiting.remove(type);
+        return new CompiledValidator(List.copyOf(properties));
+    }
+
+    private static Property property(Class<?> type, PropertyDescriptor descriptor, Validator validator,
+                                     Set<Class<?>> visiting) {
+        Field field = findField(type, descriptor.getPropertyName());
+        if (field == null || descriptor.isCascaded()) {
+            return null;
+        }
+
+        List<Constraint> constraints = new ArrayList<>();
+        for (ConstraintDescriptor<?> constraintDescriptor : descriptor.getConstraintDescriptors()) {
+            Constraint constraint = constraint(constraintDescriptor, field.getType());
+            if (constraint == null) {
+                return null;
+            }
+            constraints.add(constraint);
+        }
+
+        CompiledValidator elements = null;
+        Set<ContainerElementTypeDescriptor> containers = descriptor.getConstrainedContainerElementTypes();
+        if (!containers.isEmpty()) {
+            ContainerElementTypeDescriptor element = containers.iterator().next();
+            if (containers.size() > 1 || field.getType() != List.class || !element.isCascaded()
+                    || element.hasConstraints() || !element.getConstrainedContainerElementTypes().isEmpty()) {
+                return null;
+            }
+            elements = compile(element.getElementClass(), validator, visiting);
+            if (elements == null) {
+                return null;
+            }
+        }
+
+        try {
+            MethodHandle getter = MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(GETTER_TYPE);
+            return new Property(descriptor.getPropertyName(), getter, List.copyOf(constraints), elements);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Constraint constraint(ConstraintDescriptor<?> descriptor, Class<?> valueType) {
+        String message = descriptor.getMessageTemplate();
+        if (message.contains("{") || message.contains("$")
+                || !descriptor.getComposingConstraints().isEmpty()
+                || !descriptor.getGroups().equals(Set.of(Default.class))) {
+            return null;
+        }
+        Predicate<Object> test = switch (descriptor.getAnnotation()) {
+            case NotNull notNull -> Objects::nonNull;
+            case NotBlank notBlank when CharSequence.class.isAssignableFrom(valueType) ->
+                    value -> value != null && !value.toString().trim().isEmpty();
+            case NotEmpty notEmpty when sized(valueType) -> value -> value != null && size(value) > 0;
+            case Size size when sized(valueType) -> value -> value == null
+                    || (size(value) >= size.min() && size(value) <= size.max());
+            case Min min when integral(valueType) -> value -> value == null
+                    || ((Number) value).longValue() >= min.value();
+            case Max max when integral(valueType) -> value -> value == null
+                    || ((Number) value).longValue() <= max.value();
+            default -> null;
+        };
+        return test == null ? null : new Constraint(test, message);
+    }
+
+    private static boolean sized(Class<?> type) {
+        return CharSequence.class.isAssignableFrom(type)
+                || Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+    }
+
+    private static int size(Object value) {
+        return switch (value) {
+            case CharSequence chars -> chars.length();
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            default -> throw new IllegalStateException("Unsized value " + value.getClass());
+        };
+    }
+
+    private static boolean integral(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == int.class || type == long.class || type == short.class || type == byte.class;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Constraint(Predicate<Object> test, String message) {
+    }
+
+    private record Property(String name, MethodHandle getter, List<Constraint> constraints,
+                            CompiledValidator elements) {
+
+        Object read(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read property " + name, e);
+            }
+        }
+    }
+}
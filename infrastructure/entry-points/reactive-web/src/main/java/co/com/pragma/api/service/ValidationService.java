@@ -1,22 +1,49 @@
 package co.com.pragma.api.service;
 
+import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
 import co.com.pragma.api.exception.ValidationException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class ValidationService {
 
+    private static final List<Class<?>> PRECOMPILED = List.of(
+            RegisterApplicationRequestDto.class,
+            UpdateApplicationStatusBulkRequest.class);
+
     private final Validator validator;
+    private final Scheduler offloadScheduler;
+    private final ClassValue<Optional<CompiledValidator>> compiledValidators = new ClassValue<>() {
+        @Override
+        protected Optional<CompiledValidator> computeValue(Class<?> type) {
+            return CompiledValidator.compile(type, validator);
+        }
+    };
+
+    public ValidationService(Validator validator, Scheduler offloadScheduler) {
+        this.validator = validator;
+        this.offloadScheduler = offloadScheduler;
+        PRECOMPILED.forEach(compiledValidators::get);
+    }
 
     public <T> Mono<T> validate(T obj) {
+        Optional<CompiledValidator> compiled = obj == null ? Optional.empty() : compiledValidators.get(obj.getClass());
+        if (compiled.isPresent()) {
+            Map<String, List<String>> errors = compiled.get().validate(obj);
+            return errors.isEmpty() ? Mono.just(obj) : Mono.error(new ValidationException(errors));
+        }
         return Mono.fromCallable(() -> validator.validate(obj))
+                .subscribeOn(offloadScheduler)
                 .flatMap(violations -> violations.isEmpty()
                                 ? Mono.just(obj)
                                 : Mono.error(new ValidationException(
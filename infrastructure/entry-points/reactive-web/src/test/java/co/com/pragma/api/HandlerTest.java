@@ -2,15 +2,33 @@ package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.exception.ValidationException;
 import co.com.pragma.api.mapper.ApplicationMapper;
 import co.com.pragma.api.service.ValidationService;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationStatusUpdate;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.ApprovedApplicationExport;
 import co.com.pragma.model.auth.ValidatedUser;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidSortFieldException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.TokenValidator;
+import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageStream;
 import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.model.report.ReportDateField;
+import co.com.pragma.model.report.ReportDimension;
+import co.com.pragma.model.report.ReportGranularity;
+import co.com.pragma.model.report.TimeSeriesReport;
+import co.com.pragma.usecase.bulkupdateapplicationstatus.BulkUpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.exportapprovedapplications.ExportApprovedApplicationsUseCase;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findarchivedapplication.FindArchivedApplicationUseCase;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
@@ -23,14 +41,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,9 +73,21 @@ public class HandlerTest {
     @Mock
     private UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
 
+    @Mock
+    private BulkUpdateApplicationStatusUseCase bulkUpdateApplicationStatusUseCase;
+
     @Mock
     private FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
 
+    @Mock
+    private FindArchivedApplicationUseCase findArchivedApplicationUseCase;
+
+    @Mock
+    private ExportApprovedApplicationsUseCase exportApprovedApplicationsUseCase;
+
+    @Mock
+    private GenerateReportUseCase generateReportUseCase;
+
     @Mock
     private ApplicationMapper applicationMapper;
 
@@ -239,6 +279,58 @@ public class HandlerTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Should stream advisor applications as NDJSON")
+    void streamApplicationsForAdvisor_Ndjson() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.accept()).thenReturn(List.of(MediaType.APPLICATION_NDJSON));
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(getApplicationsForAdvisorUseCase.streamApplicationsByStatus(any(), any(), any()))
+                .thenReturn(Mono.just(CustomPageStream.<ApplicationAdvisorView>builder()
+                        .content(Flux.just(ApplicationAdvisorView.builder().email("test@test.com").build()))
+                        .page(CustomPage.<ApplicationAdvisorView>builder().content(List.of()).build())
+                        .build()));
+
+        StepVerifier.create(handler.streamApplicationsForAdvisor(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK)
+                        && MediaType.APPLICATION_NDJSON.equals(response.headers().getContentType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream advisor applications as server-sent events")
+    void streamApplicationsForAdvisor_ServerSentEvents() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.accept()).thenReturn(List.of(MediaType.TEXT_EVENT_STREAM));
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(getApplicationsForAdvisorUseCase.streamApplicationsByStatus(any(), any(), any()))
+                .thenReturn(Mono.just(CustomPageStream.<ApplicationAdvisorView>builder()
+                        .content(Flux.empty())
+                        .page(CustomPage.<ApplicationAdvisorView>builder().content(List.of()).build())
+                        .build()));
+
+        StepVerifier.create(handler.streamApplicationsForAdvisor(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK)
+                        && MediaType.TEXT_EVENT_STREAM.equals(response.headers().getContentType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported sort field in getApplicationsForAdvisor")
+    void getApplicationsForAdvisor_InvalidSortField() {
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(serverRequest.queryParam("page")).thenReturn(java.util.Optional.of("0"));
+        when(serverRequest.queryParam("size")).thenReturn(java.util.Optional.of("10"));
+        when(serverRequest.queryParam("sortBy")).thenReturn(java.util.Optional.of("email"));
+
+        StepVerifier.create(handler.getApplicationsForAdvisor(serverRequest))
+                .expectError(InvalidSortFieldException.class)
+                .verify();
+
+        verifyNoInteractions(getApplicationsForAdvisorUseCase);
+    }
+
     @Test
     @DisplayName("Should handle missing authorization header in getApplicationsForAdvisor")
     void getApplicationsForAdvisor_MissingHeader() {
@@ -323,6 +415,125 @@ public class HandlerTest {
         verify(findApprovedApplicationDailyUseCase).findApprovedApplicationDaily();
     }
 
+    @Test
+    @DisplayName("Should get archived application successfully")
+    void getArchivedApplication_Success() {
+        UUID id = UUID.randomUUID();
+        Application archived = Application.builder().id(id).build();
+        when(serverRequest.pathVariable("id")).thenReturn(id.toString());
+        when(findArchivedApplicationUseCase.findById(id)).thenReturn(Mono.just(archived));
+        when(applicationMapper.toResponse(archived)).thenReturn(responseDto);
+
+        StepVerifier.create(handler.getArchivedApplication(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should propagate not found for applications that are not archived")
+    void getArchivedApplication_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(serverRequest.pathVariable("id")).thenReturn(id.toString());
+        when(findArchivedApplicationUseCase.findById(id))
+                .thenReturn(Mono.error(new EntityNotFoundException("Archived application not found")));
+
+        StepVerifier.create(handler.getArchivedApplication(serverRequest))
+                .expectError(EntityNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should stream the approved applications export as a CSV attachment")
+    void exportApprovedApplications_Csv() {
+        when(serverRequest.queryParam("from")).thenReturn(Optional.of("2026-01-01"));
+        when(serverRequest.queryParam("to")).thenReturn(Optional.of("2026-01-31"));
+        when(serverRequest.queryParam("after")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("format")).thenReturn(Optional.empty());
+        when(exportApprovedApplicationsUseCase.export(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null))
+                .thenReturn(Flux.just(ApprovedApplicationExport.builder().id(UUID.randomUUID()).build()));
+
+        StepVerifier.create(handler.exportApprovedApplications(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK)
+                        && "csv".equals(response.headers().getContentType().getSubtype())
+                        && response.headers().getContentDisposition().isAttachment())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream the export as NDJSON when requested")
+    void exportApprovedApplications_Ndjson() {
+        UUID afterId = UUID.randomUUID();
+        when(serverRequest.queryParam("from")).thenReturn(Optional.of("2026-01-01"));
+        when(serverRequest.queryParam("to")).thenReturn(Optional.of("2026-01-31"));
+        when(serverRequest.queryParam("after")).thenReturn(Optional.of(afterId.toString()));
+        when(serverRequest.queryParam("format")).thenReturn(Optional.of("ndjson"));
+        when(exportApprovedApplicationsUseCase.export(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), afterId))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(handler.exportApprovedApplications(serverRequest))
+                .expectNextMatches(response ->
+                        MediaType.APPLICATION_NDJSON.equals(response.headers().getContentType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an export with missing or malformed parameters")
+    void exportApprovedApplications_InvalidParameters() {
+        when(serverRequest.queryParam("from")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("to")).thenReturn(Optional.of("31/01/2026"));
+        when(serverRequest.queryParam("after")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("format")).thenReturn(Optional.of("xlsx"));
+
+        StepVerifier.create(handler.exportApprovedApplications(serverRequest))
+                .expectErrorMatches(error -> error instanceof ValidationException validation
+                        && validation.getErrors().keySet().containsAll(List.of("from", "to", "format")))
+                .verify();
+
+        verifyNoInteractions(exportApprovedApplicationsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should build the report criteria from the query parameters")
+    void getReport_Success() {
+        when(serverRequest.queryParam("from")).thenReturn(Optional.of("2026-01-01"));
+        when(serverRequest.queryParam("to")).thenReturn(Optional.of("2026-04-01T00:00"));
+        when(serverRequest.queryParam("granularity")).thenReturn(Optional.of("month"));
+        when(serverRequest.queryParam("dateField")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("groupBy")).thenReturn(Optional.of("loanType, status"));
+        when(serverRequest.queryParams()).thenReturn(new LinkedMultiValueMap<>(
+                Map.of("status", List.of("Approved", "Rejected"))));
+        when(generateReportUseCase.generate(any())).thenReturn(Mono.just(TimeSeriesReport.builder().build()));
+
+        StepVerifier.create(handler.getReport(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+
+        verify(generateReportUseCase).generate(argThat(criteria ->
+                criteria.getStart().equals(LocalDateTime.of(2026, 1, 1, 0, 0))
+                        && criteria.getEnd().equals(LocalDateTime.of(2026, 4, 1, 0, 0))
+                        && criteria.getGranularity() == ReportGranularity.MONTH
+                        && criteria.getDateField() == ReportDateField.CREATED_AT
+                        && criteria.getStatusNames().equals(List.of("Approved", "Rejected"))
+                        && criteria.getGroupBy().equals(List.of(ReportDimension.LOAN_TYPE, ReportDimension.STATUS))));
+    }
+
+    @Test
+    @DisplayName("Should reject a report with an unsupported granularity")
+    void getReport_InvalidGranularity() {
+        when(serverRequest.queryParam("from")).thenReturn(Optional.of("2026-01-01"));
+        when(serverRequest.queryParam("to")).thenReturn(Optional.of("2026-02-01"));
+        when(serverRequest.queryParam("granularity")).thenReturn(Optional.of("year"));
+        when(serverRequest.queryParam("dateField")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("groupBy")).thenReturn(Optional.empty());
+        when(serverRequest.queryParams()).thenReturn(new LinkedMultiValueMap<>());
+
+        StepVerifier.create(handler.getReport(serverRequest))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(generateReportUseCase);
+    }
+
     @Test
     @DisplayName("Should handle error in getApprovedApplicationDaily")
     void getApprovedApplicationDaily_Error() {
@@ -334,4 +545,45 @@ public class HandlerTest {
                         t.getMessage().equals("Daily query failed"))
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should update application statuses in bulk successfully")
+    void updateApplicationStatusBulk_Success() {
+        UUID applicationId = UUID.randomUUID();
+        UpdateApplicationStatusBulkRequest bulkRequest = new UpdateApplicationStatusBulkRequest(
+                List.of(new UpdateApplicationStatusRequest(applicationId, "Approved")));
+        List<ApplicationStatusUpdate> updates = List.of(new ApplicationStatusUpdate(applicationId, "Approved"));
+        ApplicationStatusUpdateResult result = ApplicationStatusUpdateResult.builder()
+                .idApplication(applicationId)
+                .status("Approved")
+                .updated(true)
+                .build();
+
+        when(serverRequest.bodyToMono(UpdateApplicationStatusBulkRequest.class)).thenReturn(Mono.just(bulkRequest));
+        when(validationService.validate(bulkRequest)).thenReturn(Mono.just(bulkRequest));
+        when(applicationMapper.toStatusUpdates(bulkRequest.items())).thenReturn(updates);
+        when(bulkUpdateApplicationStatusUseCase.updateStatuses(updates)).thenReturn(Flux.just(result));
+
+        StepVerifier.create(handler.updateApplicationStatusBulk(serverRequest))
+                .expectNextMatches(response -> response.statusCode().equals(HttpStatus.OK))
+                .verifyComplete();
+
+        verify(bulkUpdateApplicationStatusUseCase).updateStatuses(updates);
+    }
+
+    @Test
+    @DisplayName("Should not call the bulk use case when the request is invalid")
+    void updateApplicationStatusBulk_ValidationError() {
+        UpdateApplicationStatusBulkRequest bulkRequest = new UpdateApplicationStatusBulkRequest(List.of());
+
+        when(serverRequest.bodyToMono(UpdateApplicationStatusBulkRequest.class)).thenReturn(Mono.just(bulkRequest));
+        when(validationService.validate(bulkRequest))
+                .thenReturn(Mono.error(new ValidationException(Map.of("items", List.of("Items are required")))));
+
+        StepVerifier.create(handler.updateApplicationStatusBulk(serverRequest))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(bulkUpdateApplicationStatusUseCase);
+    }
+}
@@ -2,21 +2,40 @@ package co.com.pragma.api;
 
 import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
 import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import co.com.pragma.api.dto.response.AdvisorListingFrame;
+import co.com.pragma.api.exception.ErrorResponseMapper;
+import co.com.pragma.api.exception.ErrorTimestamp;
 import co.com.pragma.api.exception.GlobalExceptionHandler;
 import co.com.pragma.api.mapper.ApplicationMapper;
+import co.com.pragma.api.mapper.ApprovedApplicationCsvMapper;
 import co.com.pragma.api.service.ValidationService;
 import co.com.pragma.model.application.Application;
 import co.com.pragma.model.application.ApplicationAdvisorView;
+import co.com.pragma.model.application.ApplicationStatusUpdateResult;
+import co.com.pragma.model.application.ApprovedApplicationExport;
 import co.com.pragma.model.auth.ValidatedUser;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.InvalidExportCursorException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.CustomLogger;
 import co.com.pragma.model.gateways.TokenValidator;
 import co.com.pragma.model.pagination.CustomPage;
+import co.com.pragma.model.pagination.CustomPageStream;
 import co.com.pragma.model.pagination.CustomPageable;
 import co.com.pragma.model.report.DailyReport;
+import co.com.pragma.model.report.ReportBucket;
+import co.com.pragma.model.report.ReportCriteria;
+import co.com.pragma.model.report.TimeSeriesReport;
+import co.com.pragma.model.status.Status;
+import co.com.pragma.usecase.bulkupdateapplicationstatus.BulkUpdateApplicationStatusUseCase;
+import co.com.pragma.usecase.exportapprovedapplications.ExportApprovedApplicationsUseCase;
 import co.com.pragma.usecase.findapprovedapplicationdaily.FindApprovedApplicationDailyUseCase;
+import co.com.pragma.usecase.findarchivedapplication.FindArchivedApplicationUseCase;
+import co.com.pragma.usecase.generatereport.GenerateReportUseCase;
 import co.com.pragma.usecase.getapplicationsforadvisor.GetApplicationsForAdvisorUseCase;
+import co.com.pragma.usecase.idempotentregisterrequest.IdempotentRegisterRequestUseCase;
 import co.com.pragma.usecase.registerrequest.RegisterRequestUseCase;
 import co.com.pragma.usecase.updateapplicationstatus.UpdateApplicationStatusUseCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +49,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -42,7 +63,9 @@ import static org.mockito.ArgumentMatchers.*;
 @ContextConfiguration(classes = {
         RouterRest.class,
         Handler.class,
-        GlobalExceptionHandler.class
+        GlobalExceptionHandler.class,
+        ErrorResponseMapper.class,
+        ErrorTimestamp.class
 })
 class RouterRestTest {
 
@@ -55,15 +78,30 @@ class RouterRestTest {
     @MockitoBean
     private RegisterRequestUseCase registerRequestUseCase;
 
+    @MockitoBean
+    private IdempotentRegisterRequestUseCase idempotentRegisterRequestUseCase;
+
     @MockitoBean
     private GetApplicationsForAdvisorUseCase getApplicationsForAdvisorUseCase;
 
     @MockitoBean
     private UpdateApplicationStatusUseCase updateApplicationStatusUseCase;
 
+    @MockitoBean
+    private BulkUpdateApplicationStatusUseCase bulkUpdateApplicationStatusUseCase;
+
     @MockitoBean
     private FindApprovedApplicationDailyUseCase findApprovedApplicationDailyUseCase;
 
+    @MockitoBean
+    private FindArchivedApplicationUseCase findArchivedApplicationUseCase;
+
+    @MockitoBean
+    private ExportApprovedApplicationsUseCase exportApprovedApplicationsUseCase;
+
+    @MockitoBean
+    private GenerateReportUseCase generateReportUseCase;
+
     @MockitoBean
     private ApplicationMapper applicationMapper;
 
@@ -151,7 +189,7 @@ class RouterRestTest {
 
         Mockito.when(getApplicationsForAdvisorUseCase.getApplicationsByStatus(
                         anyString(),
-                        eq(List.of("Pending Review", "Rejected", "Manual Review")),
+                        eq(Status.REVIEWABLE_STATUS_NAMES),
                         any(CustomPageable.class)))
                 .thenReturn(Mono.just(applicationsPage));
 
@@ -189,6 +227,39 @@ class RouterRestTest {
                 });
     }
 
+    @Test
+    @DisplayName("POST /request/api/v1/requests should go through the idempotent use case when Idempotency-Key is sent")
+    void testRegisterRequestWithIdempotencyKey() {
+        Mockito.when(idempotentRegisterRequestUseCase.registerApplication(any(Application.class), anyString(), eq("retry-1")))
+                .thenReturn(Mono.just(applicationEntity));
+
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isCreated();
+
+        Mockito.verify(registerRequestUseCase, Mockito.never()).registerApplication(any(Application.class), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /request/api/v1/requests should return 400 when Idempotency-Key is too long")
+    void testRegisterRequestWithInvalidIdempotencyKey() {
+        webTestClient.post()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .header("Idempotency-Key", "k".repeat(256))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerApplicationRequestDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(idempotentRegisterRequestUseCase);
+    }
+
     @Test
     @DisplayName("POST /request/api/v1/requests should return 500 when unexpected error occurs")
     void testRegisterRequestUnexpectedException() {
@@ -239,6 +310,49 @@ class RouterRestTest {
                 .jsonPath("$.pageSize").isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("GET /request/api/v1/requests with Accept NDJSON should stream rows then a trailing page frame")
+    void testStreamApplicationsForAdvisorAsNdjson() {
+        ApplicationAdvisorView view = ApplicationAdvisorView.builder().email("test@test.com").build();
+        Mockito.when(getApplicationsForAdvisorUseCase.streamApplicationsByStatus(
+                        anyString(), anyList(), any(CustomPageable.class)))
+                .thenReturn(Mono.just(CustomPageStream.<ApplicationAdvisorView>builder()
+                        .content(Flux.just(view))
+                        .page(CustomPage.<ApplicationAdvisorView>builder()
+                                .content(List.of())
+                                .totalElements(1)
+                                .build())
+                        .build()));
+
+        Flux<AdvisorListingFrame> frames = webTestClient.get()
+                .uri("/request/api/v1/requests")
+                .header("Authorization", "Bearer valid-token")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AdvisorListingFrame.class)
+                .getResponseBody();
+
+        StepVerifier.create(frames)
+                .expectNextMatches(frame -> AdvisorListingFrame.ITEM.equals(frame.type()))
+                .expectNextMatches(frame -> AdvisorListingFrame.PAGE.equals(frame.type()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests should return 400 for an unsupported sort field")
+    void testGetApplicationsForAdvisorWithInvalidSortField() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/request/api/v1/requests")
+                        .queryParam("sortBy", "email")
+                        .build())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     @DisplayName("GET /request/api/v1/requests should use default values when query parameters are missing")
     void testGetApplicationsForAdvisorWithDefaultParameters() {
@@ -378,4 +492,136 @@ class RouterRestTest {
                 .exchange()
                 .expectStatus().is5xxServerError();
     }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/archived/{id} should return 200 with the archived application")
+    void testGetArchivedApplicationSuccess() {
+        Mockito.when(findArchivedApplicationUseCase.findById(applicationEntity.getId()))
+                .thenReturn(Mono.just(applicationEntity));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/archived/{id}", applicationEntity.getId())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ApplicationDto.class)
+                .value(response -> {
+                    assert response.email().equals(applicationDto.email());
+                });
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/archived/{id} should return 404 when not archived")
+    void testGetArchivedApplicationNotFound() {
+        Mockito.when(findArchivedApplicationUseCase.findById(any(UUID.class)))
+                .thenReturn(Mono.error(new EntityNotFoundException("Archived application not found")));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/archived/{id}", UUID.randomUUID())
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/archived/{id} should return 400 when the id is not a UUID")
+    void testGetArchivedApplicationInvalidId() {
+        webTestClient.get()
+                .uri("/request/api/v1/requests/archived/{id}", "not-a-uuid")
+                .header("Authorization", "Bearer valid-token")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(findArchivedApplicationUseCase);
+    }
+
+    @Test
+    @DisplayName("PUT /request/api/v1/requests/bulk should return 200 with per-item results")
+    void testUpdateApplicationStatusBulkSuccess() {
+        UpdateApplicationStatusBulkRequest bulkRequest =
+                new UpdateApplicationStatusBulkRequest(List.of(updateApplicationStatusRequest));
+        ApplicationStatusUpdateResult result = ApplicationStatusUpdateResult.builder()
+                .idApplication(applicationEntity.getId())
+                .status("APPROVED")
+                .updated(true)
+                .build();
+
+        Mockito.when(validationService.validate(any(UpdateApplicationStatusBulkRequest.class)))
+                .thenReturn(Mono.just(bulkRequest));
+        Mockito.when(applicationMapper.toStatusUpdates(anyList())).thenReturn(List.of());
+        Mockito.when(bulkUpdateApplicationStatusUseCase.updateStatuses(anyList()))
+                .thenReturn(Flux.just(result));
+
+        webTestClient.put()
+                .uri("/request/api/v1/requests/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bulkRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].idApplication").isEqualTo(applicationEntity.getId().toString())
+                .jsonPath("$[0].updated").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/export should stream a CSV with a header row")
+    void testExportApprovedApplicationsAsCsv() {
+        ApprovedApplicationExport export = ApprovedApplicationExport.builder()
+                .id(applicationEntity.getId())
+                .amount(applicationEntity.getAmount())
+                .loanTypeName("Personal")
+                .statusName("Approved")
+                .build();
+        Mockito.when(exportApprovedApplicationsUseCase.export(
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null))
+                .thenReturn(Flux.just(export));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/export?from=2026-01-01&to=2026-01-31")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectBody(String.class)
+                .isEqualTo(ApprovedApplicationCsvMapper.HEADER + ApprovedApplicationCsvMapper.toLine(export));
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/export should return 400 without a date range")
+    void testExportApprovedApplicationsWithoutRange() {
+        webTestClient.get()
+                .uri("/request/api/v1/requests/export")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/export should return 400 for an unknown resume cursor")
+    void testExportApprovedApplicationsWithUnknownCursor() {
+        UUID afterId = UUID.randomUUID();
+        Mockito.when(exportApprovedApplicationsUseCase.export(
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), afterId))
+                .thenReturn(Flux.error(new InvalidExportCursorException("Export cursor " + afterId + " is unknown")));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/export?from=2026-01-01&to=2026-01-31&after=" + afterId)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("GET /request/api/v1/requests/reports should return the time series buckets")
+    void testGetReport() {
+        Mockito.when(generateReportUseCase.generate(any(ReportCriteria.class)))
+                .thenReturn(Mono.just(TimeSeriesReport.builder()
+                        .buckets(List.of(ReportBucket.builder().applicationsCount(3).totalAmount(4500.0).build()))
+                        .build()));
+
+        webTestClient.get()
+                .uri("/request/api/v1/requests/reports?from=2026-01-01&to=2026-02-01&granularity=week&status=Approved")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.buckets[0].applicationsCount").isEqualTo(3)
+                .jsonPath("$.buckets[0].totalAmount").isEqualTo(4500.0);
+    }
 }
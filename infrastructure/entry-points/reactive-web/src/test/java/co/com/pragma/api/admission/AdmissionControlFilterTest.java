@@ -0,0 +1,102 @@
+package co.com.pragma.api.admission;
+
+import co.com.pragma.api.exception.ErrorTimestamp;
+import co.com.pragma.model.gateways.LoadSignal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger dbPending = new AtomicInteger();
+    private final AtomicInteger handled = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(handled::incrementAndGet);
+
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(
+            new AdmissionProperties(true, new AdmissionProperties.Limit(20, 10),
+                    Map.of("CLIENT", new AdmissionProperties.Limit(1, 1)), 100, Duration.ofMinutes(1),
+                    Map.of(LoadSignal.DB, 5)),
+            List.of(new LoadSignal() {
+                @Override
+                public String name() {
+                    return LoadSignal.DB;
+                }
+
+                @Override
+                public int pending() {
+                    return dbPending.get();
+                }
+            }),
+            new ErrorTimestamp(),
+            new ObjectMapper(),
+            meterRegistry);
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client drains its bucket")
+    void shouldRateLimitPerClient() {
+        MockServerWebExchange first = exchange();
+        MockServerWebExchange second = exchange();
+
+        StepVerifier.create(authenticated(filter.filter(first, chain), "client@mail.com")).verifyComplete();
+        StepVerifier.create(authenticated(filter.filter(second, chain), "client@mail.com")).verifyComplete();
+
+        assertThat(handled).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("http.admission.rejected").tag("reason", "rate_limited")
+                .tag("resource", "client").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should shed with 503 while the connection pool queue is over its threshold")
+    void shouldShedWhenOverloaded() {
+        dbPending.set(6);
+        MockServerWebExchange exchange = exchange();
+
+        StepVerifier.create(authenticated(filter.filter(exchange, chain), "client@mail.com")).verifyComplete();
+
+        assertThat(handled).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("http.admission.rejected").tag("resource", LoadSignal.DB)
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.admission.pending").gauge().value()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should pass unauthenticated requests through without a bucket")
+    void shouldPassAnonymousRequests() {
+        StepVerifier.create(filter.filter(exchange(), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange(), chain)).verifyComplete();
+
+        assertThat(handled).hasValue(2);
+        assertThat(meterRegistry.get("http.admission.clients").gauge().value()).isZero();
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/request/api/v1/requests"));
+    }
+
+    private static Mono<Void> authenticated(Mono<Void> filtered, String user) {
+        return filtered.contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority("ROLE_CLIENT")))));
+    }
+}
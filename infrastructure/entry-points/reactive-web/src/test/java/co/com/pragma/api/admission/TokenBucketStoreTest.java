@@ -0,0 +1,71 @@
+package co.com.pragma.api.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketStoreTest {
+
+    private static final AdmissionProperties.Limit LIMIT = new AdmissionProperties.Limit(3, 1);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final TokenBucketStore store = new TokenBucketStore(10, TimeUnit.MINUTES.toNanos(1), clock::get);
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity and report the wait for the next token")
+    void shouldAllowBurstThenReject() {
+        assertThat(store.tryAcquire("client:a", LIMIT)).isZero();
+        assertThat(store.tryAcquire("client:a", LIMIT)).isZero();
+        assertThat(store.tryAcquire("client:a", LIMIT)).isZero();
+
+        assertThat(store.tryAcquire("client:a", LIMIT)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(store.tryAcquire("client:b", LIMIT)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refill tokens as time passes")
+    void shouldRefill() {
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("client:a", LIMIT);
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(store.tryAcquire("client:a", LIMIT)).isZero();
+        assertThat(store.tryAcquire("client:a", LIMIT)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict buckets that refilled completely once the sweep interval elapses")
+    void shouldEvictIdleBuckets() {
+        store.tryAcquire("client:a", LIMIT);
+        store.tryAcquire("client:b", LIMIT);
+        assertThat(store.size()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        store.tryAcquire("client:c", LIMIT);
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should turn new clients away at capacity until a rate-limited overflow sweep frees room")
+    void shouldCapClientsAndRateLimitOverflowSweeps() {
+        TokenBucketStore capped = new TokenBucketStore(2, TimeUnit.MINUTES.toNanos(1), clock::get);
+        capped.tryAcquire("client:a", LIMIT);
+        capped.tryAcquire("client:b", LIMIT);
+
+        assertThat(capped.tryAcquire("client:c", LIMIT)).isEqualTo(TokenBucketStore.OVERFLOW_SWEEP_GAP_NANOS);
+        assertThat(capped.tryAcquire("client:a", LIMIT)).isZero();
+        assertThat(capped.size()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(capped.tryAcquire("client:c", LIMIT)).isZero();
+        assertThat(capped.size()).isEqualTo(1);
+    }
+}
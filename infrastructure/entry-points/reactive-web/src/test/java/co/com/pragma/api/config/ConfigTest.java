@@ -1,5 +1,6 @@
 package co.com.pragma.api.config;
 
+import co.com.pragma.api.exception.ErrorTimestamp;
 import co.com.pragma.api.security.JwtAuthenticationFilter;
 import co.com.pragma.model.gateways.CustomLogger;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -32,6 +33,7 @@ import static org.springframework.web.reactive.function.server.RouterFunctions.r
         SecurityHeadersConfig.class,
         ConfigTest.TestRouter.class,
         SecurityConfig.class,
+        ErrorTimestamp.class,
 })
 @WebFluxTest
 class ConfigTest {
@@ -0,0 +1,69 @@
+package co.com.pragma.api.exception;
+
+import co.com.pragma.api.dto.response.ApiErrorResponse;
+import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.TokenValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseMapperTest {
+
+    private final ErrorResponseMapper mapper = new ErrorResponseMapper(
+            new ErrorTimestamp(Clock.fixed(Instant.parse("2025-01-15T10:15:30.123Z"), ZoneOffset.UTC)));
+
+    @Test
+    @DisplayName("Should map domain exceptions to their status and keep them stackless")
+    void shouldMapDomainException() {
+        EntityNotFoundException error = new EntityNotFoundException("Application not found");
+
+        ErrorResponseMapper.Mapping mapping = mapper.mappingFor(error);
+        ApiErrorResponse body = mapper.toBody(mapping, error);
+
+        assertThat(mapping.status()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(body.status()).isEqualTo(404);
+        assertThat(body.error()).isEqualTo("NOT_FOUND");
+        assertThat(body.message()).isEqualTo("Application not found");
+        assertThat(body.timestamp()).isEqualTo("2025-01-15T10:15:30.123Z");
+        assertThat(error.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve subclasses through their nearest mapped superclass")
+    void shouldResolveSubclass() {
+        TokenValidationException error = new TokenValidationException("expired") {
+        };
+
+        assertThat(mapper.mappingFor(error).status()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Should carry field errors for validation failures")
+    void shouldCarryValidationErrors() {
+        Map<String, List<String>> errors = Map.of("email", List.of("must be valid"));
+        ValidationException error = new ValidationException(errors);
+
+        ApiErrorResponse body = mapper.toBody(mapper.mappingFor(error), error);
+
+        assertThat(body.message()).isEqualTo("Validation failed");
+        assertThat(body.errors()).isEqualTo(errors);
+        assertThat(mapper.logDetail(error)).isEqualTo(errors);
+    }
+
+    @Test
+    @DisplayName("Should fall back to internal server error for unmapped exceptions")
+    void shouldFallBackToInternalError() {
+        ErrorResponseMapper.Mapping mapping = mapper.mappingFor(new IllegalStateException("boom"));
+
+        assertThat(mapping).isSameAs(ErrorResponseMapper.INTERNAL_ERROR);
+        assertThat(mapping.serverError()).isTrue();
+    }
+}
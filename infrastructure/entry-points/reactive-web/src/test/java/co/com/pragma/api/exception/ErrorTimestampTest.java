@@ -0,0 +1,50 @@
+package co.com.pragma.api.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorTimestampTest {
+
+    @Test
+    @DisplayName("Should reuse the formatted value within the same millisecond and refresh on the next one")
+    void shouldCachePerMillisecond() {
+        AtomicLong millis = new AtomicLong(Instant.parse("2025-01-15T10:15:30.123Z").toEpochMilli());
+        ErrorTimestamp timestamp = new ErrorTimestamp(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.ofHours(-5);
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public long millis() {
+                return millis.get();
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        });
+
+        String first = timestamp.now();
+        String second = timestamp.now();
+        millis.incrementAndGet();
+        String third = timestamp.now();
+
+        assertThat(first).isEqualTo("2025-01-15T05:15:30.123-05:00").isSameAs(second);
+        assertThat(third).isEqualTo("2025-01-15T05:15:30.124-05:00");
+    }
+}
@@ -1,7 +1,11 @@
 package co.com.pragma.api.exception;
 
+import co.com.pragma.model.exception.ConcurrentUpdateException;
 import co.com.pragma.model.exception.EntityNotFoundException;
+import co.com.pragma.model.exception.IdempotencyKeyMismatchException;
 import co.com.pragma.model.exception.InvalidAmountException;
+import co.com.pragma.model.exception.InvalidDateRangeException;
+import co.com.pragma.model.exception.InvalidSortFieldException;
 import co.com.pragma.model.exception.TokenValidationException;
 import co.com.pragma.model.exception.UnauthorizedException;
 import co.com.pragma.model.gateways.CustomLogger;
@@ -37,7 +41,7 @@ public class GlobalExceptionHandlerTest {
 
     @BeforeEach
     void setup() {
-        handler = new GlobalExceptionHandler(logger);
+        handler = new GlobalExceptionHandler(logger, new ErrorResponseMapper(new ErrorTimestamp()));
     }
 
     @Test
@@ -52,7 +56,7 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 400)
                 .verifyComplete();
 
-        verify(logger).warn(contains("Validation error"));
+        verify(logger).warn(contains("Validation error"), any());
     }
 
     @Test
@@ -66,7 +70,35 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 400)
                 .verifyComplete();
 
-        verify(logger).warn(contains("Amount invalid"));
+        verify(logger).warn(contains("Amount invalid"), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when InvalidSortFieldException is thrown")
+    void shouldHandleInvalidSortFieldException() {
+        InvalidSortFieldException ex = new InvalidSortFieldException("Unsupported sort field: email");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 400)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Invalid sort field"), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when InvalidDateRangeException is thrown")
+    void shouldHandleInvalidDateRangeException() {
+        InvalidDateRangeException ex = new InvalidDateRangeException("Export range end is before its start");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 400)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Invalid date range"), any());
     }
 
     @Test
@@ -80,7 +112,36 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 404)
                 .verifyComplete();
 
-        verify(logger).warn(contains("Entity not found"));
+        verify(logger).warn(contains("Entity not found"), any());
+    }
+
+    @Test
+    @DisplayName("Should return 409 Conflict when ConcurrentUpdateException is thrown")
+    void shouldHandleConcurrentUpdateException() {
+        ConcurrentUpdateException ex = new ConcurrentUpdateException("Application is no longer in a reviewable status");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 409)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Concurrent update"), contains("no longer in a reviewable status"));
+    }
+
+    @Test
+    @DisplayName("Should return 422 Unprocessable Entity when IdempotencyKeyMismatchException is thrown")
+    void shouldHandleIdempotencyKeyMismatchException() {
+        IdempotencyKeyMismatchException ex =
+                new IdempotencyKeyMismatchException("The Idempotency-Key was already used with a different request");
+
+        when(next.handle(any())).thenReturn(Mono.error(ex));
+
+        StepVerifier.create(handler.filter(mock(ServerRequest.class), next))
+                .expectNextMatches(response -> response.statusCode().value() == 422)
+                .verifyComplete();
+
+        verify(logger).warn(contains("Idempotency-Key reused"), contains("different request"));
     }
 
     @Test
@@ -94,7 +155,7 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 401)
                 .verifyComplete();
 
-        verify(logger).warn(contains("Authentication failed"));
+        verify(logger).warn(contains("Authentication failed"), any());
     }
 
     @Test
@@ -108,7 +169,7 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 401)
                 .verifyComplete();
 
-        verify(logger).warn(contains("JWT validation failed"));
+        verify(logger).warn(contains("JWT validation failed"), any());
     }
 
     @Test
@@ -122,6 +183,6 @@ public class GlobalExceptionHandlerTest {
                 .expectNextMatches(response -> response.statusCode().value() == 500)
                 .verifyComplete();
 
-        verify(logger).error(contains("Internal server error"));
+        verify(logger).error(contains("Internal server error"), any());
     }
 }
@@ -2,12 +2,15 @@ package co.com.pragma.api.mapper;
 
 import co.com.pragma.api.dto.ApplicationDto;
 import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
 import co.com.pragma.model.application.Application;
+import co.com.pragma.model.application.ApplicationStatusUpdate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -71,6 +74,21 @@ public class ApplicationMapperTest {
         assertEquals(application.getIdLoanType(), dto.idLoanType());
     }
 
+    @Test
+    @DisplayName("Should map bulk status update items keeping their order")
+    void testToStatusUpdates() {
+        UpdateApplicationStatusRequest first = new UpdateApplicationStatusRequest(UUID.randomUUID(), "Approved");
+        UpdateApplicationStatusRequest second = new UpdateApplicationStatusRequest(UUID.randomUUID(), "Rejected");
+
+        List<ApplicationStatusUpdate> updates = mapper.toStatusUpdates(List.of(first, second));
+
+        assertEquals(2, updates.size());
+        assertEquals(first.idApplication(), updates.get(0).getIdApplication());
+        assertEquals(first.status(), updates.get(0).getStatus());
+        assertEquals(second.idApplication(), updates.get(1).getIdApplication());
+        assertEquals(second.status(), updates.get(1).getStatus());
+    }
+
     @Test
     @DisplayName("Should return null when mapping null values")
     void testNullHandling() {
@@ -0,0 +1,43 @@
+package co.com.pragma.api.mapper;
+
+import co.com.pragma.model.application.ApprovedApplicationExport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApprovedApplicationCsvMapperTest {
+
+    @Test
+    @DisplayName("Should write one CSV line per export in header order")
+    void shouldWriteLine() {
+        UUID id = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+        ApprovedApplicationExport export = ApprovedApplicationExport.builder()
+                .id(id)
+                .amount(15000.0)
+                .term(12)
+                .email("user@test.com")
+                .idDocument("12345678")
+                .loanTypeName("Personal")
+                .statusName("Approved")
+                .createdAt(LocalDateTime.of(2026, 1, 2, 10, 0))
+                .approvedAt(LocalDateTime.of(2026, 1, 3, 9, 30))
+                .build();
+
+        assertEquals(id + ",15000.0,12,user@test.com,12345678,Personal,Approved,2026-01-02T10:00,2026-01-03T09:30\n",
+                ApprovedApplicationCsvMapper.toLine(export));
+    }
+
+    @Test
+    @DisplayName("Should quote fields containing separators and leave missing values empty")
+    void shouldQuoteFields() {
+        ApprovedApplicationExport export = ApprovedApplicationExport.builder()
+                .loanTypeName("Vehicle, \"new\"")
+                .build();
+
+        assertEquals(",,,,,\"Vehicle, \"\"new\"\"\",,,\n", ApprovedApplicationCsvMapper.toLine(export));
+    }
+}
@@ -0,0 +1,101 @@
+package co.com.pragma.api.service;
+
+import co.com.pragma.api.dto.request.RegisterApplicationRequestDto;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusBulkRequest;
+import co.com.pragma.api.dto.request.UpdateApplicationStatusRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledValidatorTest {
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            validator = factory.getValidator();
+        }
+    }
+
+    record PatternDto(@Pattern(regexp = "\\d+", message = "digits only") String value) {
+    }
+
+    static Stream<Object> requests() {
+        UUID id = UUID.randomUUID();
+        UpdateApplicationStatusRequest validItem = new UpdateApplicationStatusRequest(id, "Approved");
+        return Stream.of(
+                new RegisterApplicationRequestDto(1000.0, 12, "12345678", id),
+                new RegisterApplicationRequestDto(null, null, null, null),
+                new RegisterApplicationRequestDto(1000.0, 0, "   ", id),
+                new RegisterApplicationRequestDto(1000.0, -5, "", null),
+                new UpdateApplicationStatusBulkRequest(List.of(validItem)),
+                new UpdateApplicationStatusBulkRequest(null),
+                new UpdateApplicationStatusBulkRequest(List.of()),
+                new UpdateApplicationStatusBulkRequest(Arrays.asList(validItem, null,
+                        new UpdateApplicationStatusRequest(null, null))),
+                new UpdateApplicationStatusBulkRequest(Collections.nCopies(201, validItem)),
+                new UpdateApplicationStatusBulkRequest(IntStream.range(0, 201)
+                        .mapToObj(i -> new UpdateApplicationStatusRequest(id, null))
+                        .toList()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("requests")
+    @DisplayName("Compiled validators report the same violations as the Jakarta validator")
+    void matchesJakartaValidator(Object request) {
+        CompiledValidator compiled = CompiledValidator.compile(request.getClass(), validator).orElseThrow();
+
+        assertEquals(normalize(jakartaErrors(request)), normalize(compiled.validate(request)));
+    }
+
+    @Test
+    @DisplayName("Valid requests share the empty result")
+    void validRequestReturnsSharedEmptyResult() {
+        CompiledValidator compiled = CompiledValidator.compile(RegisterApplicationRequestDto.class, validator)
+                .orElseThrow();
+
+        assertSame(CompiledValidator.NO_VIOLATIONS,
+                compiled.validate(new RegisterApplicationRequestDto(1000.0, 12, "12345678", UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("Types with constraints that are not compiled are left to the Jakarta validator")
+    void unsupportedConstraintIsNotCompiled() {
+        assertTrue(CompiledValidator.compile(PatternDto.class, validator).isEmpty());
+    }
+
+    private static Map<String, List<String>> jakartaErrors(Object request) {
+        return validator.validate(request).stream()
+                .collect(Collectors.groupingBy(
+                        violation -> violation.getPropertyPath().toString(),
+                        Collectors.mapping(ConstraintViolation::getMessage, Collectors.toList())));
+    }
+
+    private static Map<String, Set<String>> normalize(Map<String, List<String>> errors) {
+        return errors.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new HashSet<>(entry.getValue())));
+    }
+}
@@ -4,15 +4,22 @@ import co.com.pragma.api.exception.ValidationException;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.NonBlocking;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class ValidationServiceTest {
 
     private ValidationService validationService;
@@ -21,7 +28,7 @@ public class ValidationServiceTest {
     void setup() {
         try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
             Validator validator = factory.getValidator();
-            validationService = new ValidationService(validator);
+            validationService = new ValidationService(validator, Schedulers.boundedElastic());
         }
     }
 
@@ -34,6 +41,9 @@ public class ValidationServiceTest {
         }
     }
 
+    record EmailDto(@Email(message = "email must be valid") String email) {
+    }
+
     @Test
     @DisplayName("Should return object when valid")
     void testValidateSuccess() {
@@ -57,4 +67,37 @@ public class ValidationServiceTest {
                 )
                 .verify();
     }
+
+    @Test
+    @DisplayName("Should validate compiled DTOs in place without blocking the event loop")
+    void testValidateCompiledInPlace() {
+        TestDto dto = new TestDto("Fabricio");
+
+        StepVerifier.create(Mono.defer(() -> validationService.validate(dto))
+                        .map(validated -> Thread.currentThread())
+                        .subscribeOn(Schedulers.parallel()))
+                .assertNext(thread -> assertTrue(thread instanceof NonBlocking))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the Jakarta validator off the subscribing event loop")
+    void testValidateFallbackOffloadsFromNonBlockingThread() {
+        EmailDto dto = new EmailDto("user@example.com");
+
+        StepVerifier.create(Mono.defer(() -> validationService.validate(dto))
+                        .map(validated -> Thread.currentThread())
+                        .subscribeOn(Schedulers.parallel()))
+                .assertNext(thread -> assertFalse(thread instanceof NonBlocking))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report fallback violations with the same shape")
+    void testValidateFallbackFailure() {
+        StepVerifier.create(validationService.validate(new EmailDto("not-an-email")))
+                .expectErrorMatches(throwable -> throwable instanceof ValidationException exception
+                        && exception.getErrors().equals(Map.of("email", List.of("email must be valid"))))
+                .verify();
+    }
 }
@@ -1,30 +1,45 @@
 package co.com.pragma.sqs.listener;
 
+import co.com.pragma.messagecodec.MessageCodec;
+import co.com.pragma.messagecodec.MessageCodecRegistry;
 import co.com.pragma.model.creditanalysis.ApplicationDecisionMessage;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
 import java.util.function.Function;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
+@RegisterReflectionForBinding(ApplicationDecisionMessage.class)
 public class SQSProcessor implements Function<Message, Mono<Void>> {
     private final ProcessApplicationDecisionUseCase processApplicationDecisionUseCase;
-    private final ObjectMapper mapper;
+    private final MessageCodecRegistry codecRegistry;
 
     @Override
     public Mono<Void> apply(Message message) {
         try {
-            ApplicationDecisionMessage decisionMessage =
-                    mapper.readValue(message.body(), ApplicationDecisionMessage.class);
+            String contentType = contentType(message);
+            if (!codecRegistry.supports(contentType)) {
+                log.warn("Unsupported content type {} on message {}, decoding as JSON", contentType, message.messageId());
+            }
+            ApplicationDecisionMessage decisionMessage = codecRegistry.forContentType(contentType)
+                    .decode(message.body(), ApplicationDecisionMessage.class);
 
             return processApplicationDecisionUseCase.execute(decisionMessage);
         } catch (Exception e) {
             return Mono.error(e);
         }
     }
+
+    private static String contentType(Message message) {
+        MessageAttributeValue attribute = message.messageAttributes().get(MessageCodec.CONTENT_TYPE_ATTRIBUTE);
+        return attribute != null ? attribute.stringValue() : null;
+    }
 }
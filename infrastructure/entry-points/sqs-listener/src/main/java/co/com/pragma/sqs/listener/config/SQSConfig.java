@@ -1,6 +1,7 @@
 package co.com.pragma.sqs.listener.config;
 
 import co.com.pragma.sqs.listener.helper.SQSListener;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import reactor.core.publisher.Mono;
@@ -21,11 +22,13 @@ import java.util.function.Function;
 public class SQSConfig {
 
     @Bean
-    public SQSListener sqsListener(SqsAsyncClient client, SQSProperties properties, Function<Message, Mono<Void>> fn) {
+    public SQSListener sqsListener(SqsAsyncClient client, SQSProperties properties, Function<Message, Mono<Void>> fn,
+                                   ObservationRegistry observationRegistry) {
         return SQSListener.builder()
                 .client(client)
                 .properties(properties)
                 .processor(fn)
+                .observationRegistry(observationRegistry)
                 .build()
                 .start();
     }
@@ -1,6 +1,11 @@
 package co.com.pragma.sqs.listener.helper;
 
+import co.com.pragma.messagecodec.MessageCodec;
 import co.com.pragma.sqs.listener.config.SQSProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.observation.transport.ReceiverContext;
 import lombok.Builder;
 import lombok.extern.log4j.Log4j2;
 import reactor.core.publisher.Flux;
@@ -9,6 +14,7 @@ import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 
 import java.util.concurrent.ExecutorService;
@@ -18,9 +24,15 @@ import java.util.function.Function;
 @Log4j2
 @Builder
 public class SQSListener {
+    // W3C trace context fields written by the sender's propagating handler
+    private static final String TRACEPARENT_ATTRIBUTE = "traceparent";
+    private static final String TRACESTATE_ATTRIBUTE = "tracestate";
+
     private final SqsAsyncClient client;
     private final SQSProperties properties;
     private final Function<Message, Mono<Void>> processor;
+    @Builder.Default
+    private final ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
     private String operation;
 
     public SQSListener start() {
@@ -41,7 +53,7 @@ public class SQSListener {
 
     private Flux<Void> listen() {
         return getMessages()
-                .flatMap(message -> processor.apply(message)
+                .flatMap(message -> process(message)
                         .name("async_operation")
                         .tag("operation", operation)
                         .metrics()
@@ -49,6 +61,25 @@ public class SQSListener {
                 .onErrorContinue((e, o) -> log.error("Error listening sqs message", e));
     }
 
+    private Mono<Void> process(Message message) {
+        ReceiverContext<Message> context = new ReceiverContext<>((carrier, key) -> {
+            MessageAttributeValue value = carrier.messageAttributes().get(key);
+            return value != null ? value.stringValue() : null;
+        });
+        context.setCarrier(message);
+        context.setRemoteServiceName("sqs");
+
+        Observation observation = Observation.createNotStarted("sqs.process", () -> context, observationRegistry)
+                .contextualName(operation)
+                .lowCardinalityKeyValue("messaging.system", "aws_sqs")
+                .start();
+
+        return Mono.defer(() -> processor.apply(message))
+                .contextWrite(reactorContext -> reactorContext.put(ObservationThreadLocalAccessor.KEY, observation))
+                .doOnError(observation::error)
+                .doFinally(signal -> observation.stop());
+    }
+
     private Mono<Void> confirm(Message message) {
         return Mono.fromCallable(() -> getDeleteMessageRequest(message.receiptHandle()))
                 .flatMap(request -> Mono.fromFuture(client.deleteMessage(request)))
@@ -68,6 +99,7 @@ public class SQSListener {
                 .maxNumberOfMessages(properties.maxNumberOfMessages())
                 .waitTimeSeconds(properties.waitTimeSeconds())
                 .visibilityTimeout(properties.visibilityTimeoutSeconds())
+                .messageAttributeNames(MessageCodec.CONTENT_TYPE_ATTRIBUTE, TRACEPARENT_ATTRIBUTE, TRACESTATE_ATTRIBUTE)
                 .build();
     }
 
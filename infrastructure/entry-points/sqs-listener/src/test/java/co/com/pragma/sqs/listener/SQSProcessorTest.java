@@ -1,5 +1,9 @@
 package co.com.pragma.sqs.listener;
 
+import co.com.pragma.messagecodec.JsonMessageCodec;
+import co.com.pragma.messagecodec.MessageCodec;
+import co.com.pragma.messagecodec.MessageCodecRegistry;
+import co.com.pragma.messagecodec.SmileMessageCodec;
 import co.com.pragma.model.creditanalysis.ApplicationDecisionMessage;
 import co.com.pragma.usecase.processapplicationdecision.ProcessApplicationDecisionUseCase;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,8 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +38,8 @@ class SQSProcessorTest {
 
     @BeforeEach
     void setUp() {
-        sqsProcessor = new SQSProcessor(processApplicationDecisionUseCase, mapper);
+        sqsProcessor = new SQSProcessor(processApplicationDecisionUseCase, new MessageCodecRegistry(List.of(
+                new JsonMessageCodec(mapper), new SmileMessageCodec(mapper))));
     }
 
     @Test
@@ -92,4 +100,54 @@ class SQSProcessorTest {
 
         verify(processApplicationDecisionUseCase).execute(any(ApplicationDecisionMessage.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void apply_whenMessageIsSmileEncoded_shouldDecodeWithNegotiatedCodec() {
+        ApplicationDecisionMessage decisionMessage = new ApplicationDecisionMessage();
+        decisionMessage.setApplicationId(UUID.randomUUID());
+        decisionMessage.setDecision("APPROVED");
+        decisionMessage.setTimestamp(Instant.now());
+
+        Message sqsMessage = Message.builder()
+                .body(new SmileMessageCodec(mapper).encode(decisionMessage))
+                .messageAttributes(Map.of(MessageCodec.CONTENT_TYPE_ATTRIBUTE, MessageAttributeValue.builder()
+                        .dataType("String")
+                        .stringValue(SmileMessageCodec.CONTENT_TYPE)
+                        .build()))
+                .build();
+
+        when(processApplicationDecisionUseCase.execute(any(ApplicationDecisionMessage.class)))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(sqsProcessor.apply(sqsMessage))
+                .verifyComplete();
+
+        verify(processApplicationDecisionUseCase).execute(argThat(message ->
+                message.getApplicationId().equals(decisionMessage.getApplicationId())));
+    }
+
+    @Test
+    void apply_whenContentTypeIsUnknown_shouldDecodeAsJson() throws JsonProcessingException {
+        ApplicationDecisionMessage decisionMessage = new ApplicationDecisionMessage();
+        decisionMessage.setApplicationId(UUID.randomUUID());
+        decisionMessage.setDecision("APPROVED");
+        decisionMessage.setTimestamp(Instant.now());
+
+        Message sqsMessage = Message.builder()
+                .body(mapper.writeValueAsString(decisionMessage))
+                .messageAttributes(Map.of(MessageCodec.CONTENT_TYPE_ATTRIBUTE, MessageAttributeValue.builder()
+                        .dataType("String")
+                        .stringValue("application/avro")
+                        .build()))
+                .build();
+
+        when(processApplicationDecisionUseCase.execute(any(ApplicationDecisionMessage.class)))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(sqsProcessor.apply(sqsMessage))
+                .verifyComplete();
+
+        verify(processApplicationDecisionUseCase).execute(argThat(message ->
+                message.getApplicationId().equals(decisionMessage.getApplicationId())));
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.pragma.sqs.listener.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -36,7 +37,8 @@ class SQSConfigTest {
 
     @Test
     void listenerSQSClientConfigIsNotNull() {
-        var listener = sqsConfig.sqsListener(sqsAsyncClient, sqsProperties, message -> Mono.empty());
+        var listener = sqsConfig.sqsListener(sqsAsyncClient, sqsProperties, message -> Mono.empty(),
+                ObservationRegistry.NOOP);
         assertThat(listener).isNotNull();
     }
 
@@ -94,7 +96,8 @@ class SQSConfigTest {
         var listener = sqsConfig.sqsListener(
                 sqsAsyncClient,
                 sqsProperties,
-                msg -> Mono.fromRunnable(() -> assertThat(msg).isNotNull())
+                msg -> Mono.fromRunnable(() -> assertThat(msg).isNotNull()),
+                ObservationRegistry.NOOP
         );
         assertThat(listener).isNotNull();
     }
@@ -1,6 +1,12 @@
 package co.com.pragma.sqs.listener.helper;
 
 import co.com.pragma.sqs.listener.config.SQSProperties;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import io.micrometer.observation.transport.ReceiverContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -13,12 +19,17 @@ import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -70,4 +81,53 @@ class SQSListenerTest {
         Flux<Void> flow = ReflectionTestUtils.invokeMethod(sqsListener, "listen");
         StepVerifier.create(flow).verifyComplete();
     }
+
+    @Test
+    void listenerContinuesTraceFromMessageAttributes() {
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        var tracedMessage = Message.builder()
+                .body("message")
+                .receiptHandle("test-receipt-handle")
+                .messageAttributes(Map.of("traceparent", MessageAttributeValue.builder()
+                        .dataType("String")
+                        .stringValue(traceparent)
+                        .build()))
+                .build();
+        when(asyncClient.receiveMessage(any(ReceiveMessageRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(tracedMessage).build()));
+
+        List<String> extracted = new ArrayList<>();
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<ReceiverContext<Message>>() {
+            @Override
+            public void onStart(ReceiverContext<Message> context) {
+                extracted.add(context.getGetter().get(context.getCarrier(), "traceparent"));
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return context instanceof ReceiverContext;
+            }
+        });
+
+        var sqsListener = SQSListener.builder()
+                .client(asyncClient)
+                .properties(sqsProperties)
+                .processor(message -> Mono.deferContextual(context -> {
+                    assertThat(context.hasKey(ObservationThreadLocalAccessor.KEY)).isTrue();
+                    return Mono.empty();
+                }))
+                .observationRegistry(observationRegistry)
+                .operation("operation")
+                .build();
+
+        Flux<Void> flow = ReflectionTestUtils.invokeMethod(sqsListener, "listen");
+        StepVerifier.create(flow).verifyComplete();
+
+        assertThat(extracted).containsExactly(traceparent);
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo("sqs.process")
+                .that()
+                .hasBeenStopped();
+    }
 }
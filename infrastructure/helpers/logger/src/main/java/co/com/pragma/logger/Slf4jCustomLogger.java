@@ -3,15 +3,56 @@ package co.com.pragma.logger;
 import co.com.pragma.model.gateways.CustomLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 @Component
 public class Slf4jCustomLogger implements CustomLogger {
     private static final Logger log =  LoggerFactory.getLogger(Slf4jCustomLogger.class);
 
     @Override
     public void trace(String message, Object... args) {
-        log.trace(message, args);
+        if (log.isTraceEnabled()) {
+            log.trace(message, args);
+        }
+    }
+
+    @Override
+    public void trace(String message, Object arg) {
+        if (log.isTraceEnabled()) {
+            log.trace(message, arg);
+        }
+    }
+
+    @Override
+    public void trace(String message, Object arg1, Object arg2) {
+        if (log.isTraceEnabled()) {
+            log.trace(message, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(Supplier<String> message) {
+        if (log.isTraceEnabled()) {
+            log.trace(message.get());
+        }
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return log.isTraceEnabled();
+    }
+
+    @Override
+    public Event atTrace() {
+        return log.isTraceEnabled() ? new Slf4jEvent(log.atTrace()) : Event.NOOP;
+    }
+
+    @Override
+    public Event atInfo() {
+        return log.isInfoEnabled() ? new Slf4jEvent(log.atInfo()) : Event.NOOP;
     }
 
     @Override
@@ -28,4 +69,18 @@ public class Slf4jCustomLogger implements CustomLogger {
     public void error(String message, Object... args) {
         log.error(message, args);
     }
+
+    private record Slf4jEvent(LoggingEventBuilder builder) implements Event {
+
+        @Override
+        public Event field(String key, Object value) {
+            builder.addKeyValue(key, value);
+            return this;
+        }
+
+        @Override
+        public void log(String message) {
+            builder.log(message);
+        }
+    }
 }
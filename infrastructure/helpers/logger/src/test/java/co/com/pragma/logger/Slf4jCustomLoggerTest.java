@@ -5,6 +5,10 @@ import com.github.valfirst.slf4jtest.TestLogger;
 import com.github.valfirst.slf4jtest.TestLoggerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -18,6 +22,7 @@ public class Slf4jCustomLoggerTest {
         logger = new Slf4jCustomLogger();
         testLogger = TestLoggerFactory.getTestLogger(Slf4jCustomLogger.class);
         testLogger.clear();
+        testLogger.setEnabledLevels(Level.values());
     }
 
     @Test
@@ -74,4 +79,67 @@ public class Slf4jCustomLoggerTest {
                     assertThat(event.getThrowable().get()).isSameAs(ex);
                 });
     }
+
+    @Test
+    void testTraceIsSkippedWhenDisabled() {
+        testLogger.setEnabledLevels(Level.INFO, Level.WARN, Level.ERROR);
+        AtomicBoolean evaluated = new AtomicBoolean();
+
+        logger.trace("Trace message {}", 1);
+        logger.trace("Trace message {} {}", 1, 2);
+        logger.trace("Trace message {} {} {}", 1, 2, 3);
+        logger.trace(() -> {
+            evaluated.set(true);
+            return "expensive";
+        });
+
+        assertThat(logger.isTraceEnabled()).isFalse();
+        assertThat(evaluated).isFalse();
+        assertThat(logger.atTrace()).isSameAs(CustomLogger.Event.NOOP);
+        assertThat(testLogger.getLoggingEvents()).isEmpty();
+    }
+
+    @Test
+    void testStructuredFields() {
+        logger.atInfo()
+                .field("applicationId", 42L)
+                .field("status", "APPROVED")
+                .log("Application decided");
+
+        assertThat(testLogger.getLoggingEvents())
+                .hasSize(1)
+                .allSatisfy(event -> {
+                    assertThat(event.getLevel().toString()).isEqualTo("INFO");
+                    assertThat(event.getMessage()).isEqualTo("Application decided");
+                    assertThat(event.getKeyValuePairs())
+                            .extracting(pair -> pair.key)
+                            .containsExactly("applicationId", "status");
+                });
+    }
+
+    @Test
+    void testDisabledTraceDoesNotAllocate() {
+        testLogger.setEnabledLevels(Level.INFO, Level.WARN, Level.ERROR);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Long id = 7L;
+        int iterations = 100_000;
+
+        for (int i = 0; i < iterations; i++) {
+            disabledPath(id);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            disabledPath(id);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // A single varargs array or event builder per call would cost at least 16 bytes each
+        assertThat(allocated).isLessThan(iterations);
+    }
+
+    private void disabledPath(Long id) {
+        logger.trace("Finding LoanType by id: {}", id);
+        logger.trace("Application status update failed for ID {}: {}", id, "reason");
+        logger.atTrace().field("applicationId", id).log("Application registered");
+    }
 }
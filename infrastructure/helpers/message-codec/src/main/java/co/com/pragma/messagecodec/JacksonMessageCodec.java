@@ -0,0 +1,36 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.core.NativeDetector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+abstract class JacksonMessageCodec implements MessageCodec {
+
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    JacksonMessageCodec(ObjectMapper mapper) {
+        // Blackbird generates accessors through LambdaMetafactory at runtime, which a native image cannot do
+        this.mapper = NativeDetector.inNativeImage() ? mapper : mapper.registerModule(new BlackbirdModule());
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, key -> mapper.readerFor(key)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+}
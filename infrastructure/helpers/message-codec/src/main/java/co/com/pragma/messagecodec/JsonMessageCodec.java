@@ -0,0 +1,32 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JsonMessageCodec extends JacksonMessageCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    public JsonMessageCodec(ObjectMapper objectMapper) {
+        super(objectMapper.copy());
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    @SneakyThrows
+    public String encode(Object payload) {
+        return writerFor(payload.getClass()).writeValueAsString(payload);
+    }
+
+    @Override
+    @SneakyThrows
+    public <T> T decode(String body, Class<T> type) {
+        return readerFor(type).readValue(body);
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.pragma.messagecodec;
+
+public interface MessageCodec {
+
+    String CONTENT_TYPE_ATTRIBUTE = "contentType";
+
+    String contentType();
+
+    String encode(Object payload);
+
+    <T> T decode(String body, Class<T> type);
+}
@@ -0,0 +1,36 @@
+package co.com.pragma.messagecodec;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class MessageCodecRegistry {
+
+    private final Map<String, MessageCodec> codecs;
+
+    public MessageCodecRegistry(List<MessageCodec> codecs) {
+        this.codecs = codecs.stream()
+                .collect(Collectors.toUnmodifiableMap(MessageCodec::contentType, Function.identity()));
+    }
+
+    /**
+     * Messages without a content type predate codec negotiation and are read as JSON. Unknown content types fall
+     * back to JSON as well: throwing here would leave the message on the queue and redeliver it forever.
+     */
+    public MessageCodec forContentType(String contentType) {
+        MessageCodec json = codecs.get(JsonMessageCodec.CONTENT_TYPE);
+        return isBlank(contentType) ? json : codecs.getOrDefault(contentType, json);
+    }
+
+    public boolean supports(String contentType) {
+        return isBlank(contentType) || codecs.containsKey(contentType);
+    }
+
+    private static boolean isBlank(String contentType) {
+        return contentType == null || contentType.isBlank();
+    }
+}
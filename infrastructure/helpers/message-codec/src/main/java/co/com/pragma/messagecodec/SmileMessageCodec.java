@@ -0,0 +1,38 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+
+/**
+ * Binary Smile encoding with shared property names, Base64 encoded because SQS bodies are text.
+ */
+@Component
+public class SmileMessageCodec extends JacksonMessageCodec {
+
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+    public SmileMessageCodec(ObjectMapper objectMapper) {
+        super(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    @SneakyThrows
+    public String encode(Object payload) {
+        return Base64.getEncoder().encodeToString(writerFor(payload.getClass()).writeValueAsBytes(payload));
+    }
+
+    @Override
+    @SneakyThrows
+    public <T> T decode(String body, Class<T> type) {
+        return readerFor(type).readValue(Base64.getDecoder().decode(body));
+    }
+}
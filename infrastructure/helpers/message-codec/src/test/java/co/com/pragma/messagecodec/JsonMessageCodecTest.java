@@ -0,0 +1,54 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonMessageCodecTest {
+
+    record Decision(String applicationId, String decision) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonMessageCodec codec = new JsonMessageCodec(objectMapper);
+
+    @Test
+    @DisplayName("Should ignore properties the message type does not declare")
+    void shouldIgnoreUnknownProperties() {
+        Decision decision = codec.decode(
+                "{\"applicationId\":\"a-1\",\"decision\":\"APPROVED\",\"score\":710}", Decision.class);
+
+        assertThat(decision).isEqualTo(new Decision("a-1", "APPROVED"));
+    }
+
+    @Test
+    @DisplayName("Should fail on malformed bodies")
+    void shouldFailOnMalformedBody() {
+        assertThatThrownBy(() -> codec.decode("{\"applicationId\":", Decision.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("Should reuse the reader built for a message type")
+    void shouldReuseReader() {
+        assertThat(codec.readerFor(Decision.class)).isSameAs(codec.readerFor(Decision.class));
+    }
+
+    @Test
+    @DisplayName("Should reuse the writer built for a payload type")
+    void shouldReuseWriter() {
+        assertThat(codec.encode(new Decision("a-1", "APPROVED")))
+                .isEqualTo("{\"applicationId\":\"a-1\",\"decision\":\"APPROVED\"}");
+        assertThat(codec.writerFor(Decision.class)).isSameAs(codec.writerFor(Decision.class));
+    }
+
+    @Test
+    @DisplayName("Should leave the application object mapper untouched")
+    void shouldNotModifySharedMapper() {
+        assertThat(objectMapper.getRegisteredModuleIds()).isEmpty();
+        assertThat(codec.mapper().getRegisteredModuleIds()).isNotEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageCodecRegistryTest {
+
+    private MessageCodecRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        registry = new MessageCodecRegistry(List.of(
+                new JsonMessageCodec(objectMapper), new SmileMessageCodec(objectMapper)));
+    }
+
+    @Test
+    @DisplayName("Should resolve the codec registered for the content type")
+    void shouldResolveCodecByContentType() {
+        assertThat(registry.forContentType(SmileMessageCodec.CONTENT_TYPE)).isInstanceOf(SmileMessageCodec.class);
+        assertThat(registry.forContentType(JsonMessageCodec.CONTENT_TYPE)).isInstanceOf(JsonMessageCodec.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON when the message carries no content type")
+    void shouldFallBackToJson() {
+        assertThat(registry.forContentType(null)).isInstanceOf(JsonMessageCodec.class);
+        assertThat(registry.forContentType(" ")).isInstanceOf(JsonMessageCodec.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON for unknown content types instead of failing")
+    void shouldFallBackToJsonForUnknownContentType() {
+        assertThat(registry.forContentType("application/avro")).isInstanceOf(JsonMessageCodec.class);
+        assertThat(registry.supports("application/avro")).isFalse();
+        assertThat(registry.supports(SmileMessageCodec.CONTENT_TYPE)).isTrue();
+        assertThat(registry.supports(null)).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.pragma.messagecodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmileMessageCodecTest {
+
+    record Installment(int month, double payment, double principal, double interest, double remainingBalance) {}
+
+    record PaymentPlan(UUID applicationId, String email, String decision, List<Installment> paymentPlan) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SmileMessageCodec smile = new SmileMessageCodec(objectMapper);
+    private final JsonMessageCodec json = new JsonMessageCodec(objectMapper);
+
+    @Test
+    @DisplayName("Should round trip a payload through a text safe body")
+    void shouldRoundTrip() {
+        PaymentPlan plan = paymentPlan(12);
+
+        String body = smile.encode(plan);
+
+        assertThat(body).matches("[A-Za-z0-9+/=]+");
+        assertThat(smile.decode(body, PaymentPlan.class)).isEqualTo(plan);
+    }
+
+    @Test
+    @DisplayName("Should produce a smaller body than JSON for payment plans")
+    void shouldBeSmallerThanJson() {
+        PaymentPlan plan = paymentPlan(60);
+
+        int jsonSize = json.encode(plan).length();
+        int smileSize = smile.encode(plan).length();
+
+        assertThat(smileSize).isLessThan(jsonSize * 3 / 4);
+    }
+
+    private static PaymentPlan paymentPlan(int months) {
+        double rate = 0.015;
+        double payment = 25_000 * rate / (1 - Math.pow(1 + rate, -months));
+        double[] balance = {25_000};
+        List<Installment> installments = IntStream.rangeClosed(1, months)
+                .mapToObj(month -> {
+                    double interest = balance[0] * rate;
+                    double principal = payment - interest;
+                    balance[0] -= principal;
+                    return new Installment(month, payment, principal, interest, balance[0]);
+                })
+                .toList();
+        return new PaymentPlan(UUID.randomUUID(), "user@example.com", "APPROVED", installments);
+    }
+}
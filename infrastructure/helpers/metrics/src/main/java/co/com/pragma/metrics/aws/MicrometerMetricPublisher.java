@@ -1,49 +1,156 @@
 package co.com.pragma.metrics.aws;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Hands SDK metric collections to a single consumer through a bounded buffer. Collections that do not
+ * fit are dropped and counted instead of queueing without limit behind slow registries.
+ */
 @Component
-@AllArgsConstructor
 public class MicrometerMetricPublisher implements MetricPublisher {
-    private final ExecutorService service = Executors.newFixedThreadPool(10);
+
+    private static final int BATCH_SIZE = 256;
+    // Unique per call, they would create a new meter for every request
+    private static final Set<String> UNTAGGED_METRICS = Set.of("AwsRequestId", "AwsExtendedRequestId");
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
     private final MeterRegistry registry;
+    private final BlockingQueue<MetricCollection> buffer;
+    private final ExecutorService consumer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aws-metrics-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Only touched by the consumer thread
+    private final Map<MeterKey, Meter> meters = new HashMap<>();
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer lag;
+    private volatile boolean running = true;
+
+    public MicrometerMetricPublisher(
+            MeterRegistry registry,
+            @Value("${adapter.metrics.aws.buffer-capacity:8192}") int bufferCapacity
+    ) {
+        this.registry = registry;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.dropped = Counter.builder("aws.sdk.metrics.dropped")
+                .description("SDK metric collections dropped because the buffer was full")
+                .register(registry);
+        this.failed = Counter.builder("aws.sdk.metrics.failed")
+                .description("SDK metric collections that could not be recorded")
+                .register(registry);
+        this.lag = Timer.builder("aws.sdk.metrics.lag")
+                .description("Time between an SDK metric collection being created and recorded")
+                .register(registry);
+        Gauge.builder("aws.sdk.metrics.buffered", buffer, BlockingQueue::size)
+                .description("SDK metric collections waiting to be recorded")
+                .register(registry);
+        consumer.execute(this::consume);
+    }
 
     @Override
     public void publish(MetricCollection metricCollection) {
-        service.submit(() -> {
-            List<Tag> tags = buildTags(metricCollection);
-            metricCollection.stream()
-                    .filter(record -> record.value() instanceof Duration || record.value() instanceof Integer)
-                    .forEach(record -> {
-                        if (record.value() instanceof Duration) {
-                            registry.timer(record.metric().name(), tags).record((Duration) record.value());
-                        } else if (record.value() instanceof Integer) {
-                            registry.counter(record.metric().name(), tags).increment((Integer) record.value());
-                        }
-                    });
-        });
+        if (!running || !buffer.offer(metricCollection)) {
+            dropped.increment();
+        }
     }
 
     @Override
     public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        consumer.shutdown();
+        try {
+            if (!consumer.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                consumer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            consumer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    private void consume() {
+        List<MetricCollection> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (running || !buffer.isEmpty()) {
+                MetricCollection first = buffer.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                batch.forEach(this::recordSafely);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A collection the registry rejects is counted and skipped, so it cannot stop the consumer thread
+    private void recordSafely(MetricCollection metricCollection) {
+        try {
+            record(metricCollection);
+        } catch (RuntimeException e) {
+            failed.increment();
+        }
+    }
+
+    void record(MetricCollection metricCollection) {
+        List<Tag> tags = buildTags(metricCollection);
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            Object value = metricRecord.value();
+            if (value instanceof Duration duration) {
+                ((Timer) meters.computeIfAbsent(new MeterKey(metricRecord.metric().name(), tags),
+                        key -> registry.timer(key.name(), key.tags()))).record(duration);
+            } else if (value instanceof Integer count) {
+                ((Counter) meters.computeIfAbsent(new MeterKey(metricRecord.metric().name(), tags),
+                        key -> registry.counter(key.name(), key.tags()))).increment(count);
+            }
+        }
+        lag.record(Duration.between(metricCollection.creationTime(), Instant.now()));
     }
 
     private List<Tag> buildTags(MetricCollection metricCollection) {
-        return metricCollection.stream()
-                .filter(record -> record.value() instanceof String || record.value() instanceof Boolean)
-                .map(record -> Tag.of(record.metric().name(), record.value().toString()))
-                .collect(Collectors.toList());
+        List<Tag> tags = new ArrayList<>();
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            Object value = metricRecord.value();
+            if ((value instanceof String || value instanceof Boolean)
+                    && !UNTAGGED_METRICS.contains(metricRecord.metric().name())) {
+                tags.add(Tag.of(metricRecord.metric().name(), value.toString()));
+            }
+        }
+        return tags;
+    }
+
+    private record MeterKey(String name, List<Tag> tags) {
     }
 }
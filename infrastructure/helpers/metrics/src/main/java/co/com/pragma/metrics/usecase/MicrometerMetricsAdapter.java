@@ -0,0 +1,83 @@
+package co.com.pragma.metrics.usecase;
+
+import co.com.pragma.model.gateways.MetricsGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MicrometerMetricsAdapter implements MetricsGateway {
+
+    static final String USE_CASE_METRIC = "usecase.latency";
+    static final String DEPENDENCY_METRIC = "usecase.dependency.latency";
+    private static final String NO_DEPENDENCY = "none";
+
+    private final MeterRegistry registry;
+    private final Duration[] serviceLevelObjectives;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsAdapter(
+            MeterRegistry registry,
+            @Value("${adapter.metrics.usecase.slo:50ms,100ms,250ms,500ms,1s,2s}") Duration[] serviceLevelObjectives
+    ) {
+        this.registry = registry;
+        this.serviceLevelObjectives = serviceLevelObjectives.clone();
+    }
+
+    @Override
+    public <T> Mono<T> timeUseCase(String useCase, Mono<T> execution) {
+        return timeCall(useCase, NO_DEPENDENCY, execution);
+    }
+
+    @Override
+    public <T> Mono<T> timeCall(String useCase, String dependency, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.doFinally(signal -> stop(sample, useCase, dependency, signal));
+        });
+    }
+
+    @Override
+    public <T> Flux<T> timeCalls(String useCase, String dependency, Flux<T> calls) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return calls.doFinally(signal -> stop(sample, useCase, dependency, signal));
+        });
+    }
+
+    private void stop(Timer.Sample sample, String useCase, String dependency, SignalType signal) {
+        sample.stop(timers.computeIfAbsent(new TimerKey(useCase, dependency, outcome(signal)), this::register));
+    }
+
+    private Timer register(TimerKey key) {
+        boolean total = NO_DEPENDENCY.equals(key.dependency());
+        Timer.Builder builder = Timer.builder(total ? USE_CASE_METRIC : DEPENDENCY_METRIC)
+                .tag("usecase", key.useCase())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(serviceLevelObjectives);
+        if (!total) {
+            builder.tag("dependency", key.dependency());
+        }
+        return builder.register(registry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+
+    private record TimerKey(String useCase, String dependency, String outcome) {
+    }
+}
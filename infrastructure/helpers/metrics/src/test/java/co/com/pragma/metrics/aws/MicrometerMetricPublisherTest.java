@@ -2,20 +2,38 @@ package co.com.pragma.metrics.aws;
 
 import io.micrometer.core.instrument.logging.LoggingMeterRegistry;
 import io.micrometer.core.instrument.logging.LoggingRegistryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.internal.EmptyMetricCollection;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class MicrometerMetricPublisherTest {
 
+    private static final SdkMetric<Duration> CALL_DURATION =
+            SdkMetric.create("TestCallDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Integer> RETRY_COUNT =
+            SdkMetric.create("TestRetryCount", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> SERVICE =
+            SdkMetric.create("TestServiceId", String.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> REQUEST_ID =
+            SdkMetric.create("AwsRequestId", String.class, MetricLevel.INFO, MetricCategory.CORE);
+
     @Test
     void metricTest() {
         LoggingMeterRegistry loggingMeterRegistry = LoggingMeterRegistry
             .builder(LoggingRegistryConfig.DEFAULT)
             .build();
 
-        MicrometerMetricPublisher micrometerMetricPublisher = new MicrometerMetricPublisher(loggingMeterRegistry);
+        MicrometerMetricPublisher micrometerMetricPublisher = new MicrometerMetricPublisher(loggingMeterRegistry, 16);
 
         micrometerMetricPublisher.publish(EmptyMetricCollection.create());
         micrometerMetricPublisher.close();
@@ -23,4 +41,71 @@ class MicrometerMetricPublisherTest {
         assertNotNull(micrometerMetricPublisher);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void recordsTimersAndCountersTaggedWithoutRequestIds() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry, 16);
+
+        publisher.record(collection("request-1"));
+        publisher.record(collection("request-2"));
+        publisher.close();
+
+        assertThat(registry.get("TestCallDuration").tag("TestServiceId", "SQS").timer().count()).isEqualTo(2);
+        assertThat(registry.get("TestRetryCount").counter().count()).isEqualTo(4.0);
+        assertThat(registry.get("TestCallDuration").timer().getId().getTag("AwsRequestId")).isNull();
+        assertThat(registry.get("aws.sdk.metrics.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void publishesThroughTheConsumerAndDrainsOnClose() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry, 16);
+
+        publisher.publish(collection("request-1"));
+        publisher.close();
+
+        assertThat(registry.get("TestCallDuration").timer().count()).isEqualTo(1);
+        assertThat(registry.get("aws.sdk.metrics.buffered").gauge().value()).isZero();
+    }
+
+    @Test
+    void keepsConsumingAfterACollectionFailsToRecord() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // Same name and tags as the SQS timer, so recording that collection is rejected by the registry
+        registry.counter("TestCallDuration", "TestServiceId", "SQS");
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry, 16);
+
+        publisher.publish(collection("request-1"));
+        publisher.publish(collection("request-2", "SNS"));
+        publisher.close();
+
+        assertThat(registry.get("aws.sdk.metrics.failed").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("TestCallDuration").tag("TestServiceId", "SNS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countsCollectionsPublishedAfterClose() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricPublisher publisher = new MicrometerMetricPublisher(registry, 16);
+        publisher.close();
+        publisher.close();
+
+        publisher.publish(collection("request-1"));
+
+        assertThat(registry.get("aws.sdk.metrics.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private static MetricCollection collection(String requestId) {
+        return collection(requestId, "SQS");
+    }
+
+    private static MetricCollection collection(String requestId, String service) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CALL_DURATION, Duration.ofMillis(25));
+        collector.reportMetric(RETRY_COUNT, 2);
+        collector.reportMetric(SERVICE, service);
+        collector.reportMetric(REQUEST_ID, requestId);
+        return collector.collect();
+    }
+}
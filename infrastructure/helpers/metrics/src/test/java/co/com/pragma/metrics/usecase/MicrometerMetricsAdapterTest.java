@@ -0,0 +1,62 @@
+package co.com.pragma.metrics.usecase;
+
+import co.com.pragma.model.gateways.MetricsGateway;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsAdapterTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMetricsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        adapter = new MicrometerMetricsAdapter(registry, new Duration[]{Duration.ofMillis(100), Duration.ofSeconds(1)});
+    }
+
+    @Test
+    void timesUseCaseOnSubscriptionWithOutcome() {
+        Mono<String> execution = adapter.timeUseCase("register_request", Mono.just("ok"));
+
+        assertThat(registry.find(MicrometerMetricsAdapter.USE_CASE_METRIC).timer()).isNull();
+
+        StepVerifier.create(execution).expectNext("ok").verifyComplete();
+        StepVerifier.create(adapter.timeUseCase("register_request", Mono.error(new IllegalStateException())))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(registry.get(MicrometerMetricsAdapter.USE_CASE_METRIC)
+                .tags("usecase", "register_request", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerMetricsAdapter.USE_CASE_METRIC)
+                .tags("usecase", "register_request", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void timesDependencyCallsWithSloBuckets() {
+        StepVerifier.create(adapter.timeCall("register_request", MetricsGateway.AUTH, Mono.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(adapter.timeCalls("register_request", MetricsGateway.DB, Flux.just(1, 2)))
+                .expectNext(1, 2)
+                .verifyComplete();
+
+        Timer auth = registry.get(MicrometerMetricsAdapter.DEPENDENCY_METRIC)
+                .tags("usecase", "register_request", "dependency", "auth").timer();
+        assertThat(auth.count()).isEqualTo(1);
+        assertThat(auth.takeSnapshot().histogramCounts())
+                .extracting(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+                .contains(100.0, 1000.0);
+        assertThat(registry.get(MicrometerMetricsAdapter.DEPENDENCY_METRIC)
+                .tags("dependency", "db").timer().count()).isEqualTo(1);
+    }
+}